@@ -0,0 +1,146 @@
+package com.suho149.liveauction.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suho149.liveauction.domain.auction.dto.BidResponse;
+import com.suho149.liveauction.global.websocket.PreEncodedMessageSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 상품을 subscribers 개 세션이 구독할 때, 가격 갱신 한 건을 보내는 전체 경로의 비용을 비교합니다.
+ *
+ * 애플리케이션과 같은 구성의 SimpleBrokerMessageHandler 에 세션별 구독을 등록하고, 브로커가 clientOutboundChannel 로
+ * 내보내는 세션별 메시지를 StompSubProtocolHandler 처럼 STOMP 프레임으로 인코딩합니다. (채널은 호출 스레드에서 동기 실행)
+ *
+ * - convertAndSend: SimpMessagingTemplate.convertAndSend 로 보내는 경우 (메시지 컨버터가 페이로드를 변환)
+ * - preEncodedSend: PreEncodedMessageSender.send 로 한 번 직렬화한 바이트를 보내는 경우
+ *
+ * 실행: ./gradlew jmh  (결과는 build/results/jmh/results.txt, 구독자 1명당 비용 = 측정값 / subscribers)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FanoutEncodingBenchmark {
+
+    private static final String DESTINATION = "/sub/products/42";
+
+    @Param({"1", "100", "1000"})
+    private int subscribers;
+
+    private SimpleBrokerMessageHandler broker;
+    private SimpMessagingTemplate messagingTemplate;
+    private PreEncodedMessageSender preEncodedSender;
+    private BidResponse tick;
+    private Blackhole frames; // 브로커가 내보낸 프레임을 소비하는 Blackhole (벤치마크마다 교체)
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 애플리케이션과 같은 설정(JavaTimeModule, 날짜를 ISO 문자열로)의 ObjectMapper
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        MappingJackson2MessageConverter jsonConverter = new MappingJackson2MessageConverter();
+        jsonConverter.setObjectMapper(objectMapper);
+
+        ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        StompEncoder encoder = new StompEncoder();
+        clientOutboundChannel.subscribe(message -> frames.consume(encoder.encode(toStompFrame(message))));
+
+        broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/sub"));
+        broker.start();
+        for (int session = 0; session < subscribers; session++) {
+            broker.handleMessage(subscribe(session));
+        }
+
+        // 애플리케이션의 brokerMessagingTemplate 과 같은 컨버터 구성
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new CompositeMessageConverter(
+                List.of(new StringMessageConverter(), new ByteArrayMessageConverter(), jsonConverter)));
+        preEncodedSender = new PreEncodedMessageSender(messagingTemplate, objectMapper);
+
+        tick = BidResponse.builder()
+                .productId(42L)
+                .newPrice(1_250_000L)
+                .bidderName("홍길동")
+                .auctionEndTime(LocalDateTime.of(2025, 7, 1, 21, 0))
+                .sequence(1_250_000L)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        broker.stop();
+    }
+
+    @Benchmark
+    public void convertAndSend(Blackhole blackhole) {
+        frames = blackhole;
+        messagingTemplate.convertAndSend(DESTINATION, tick);
+    }
+
+    @Benchmark
+    public void preEncodedSend(Blackhole blackhole) {
+        frames = blackhole;
+        preEncodedSender.send(DESTINATION, tick);
+    }
+
+    private static Message<byte[]> subscribe(int session) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId("session-" + session);
+        accessor.setSubscriptionId("sub-" + session);
+        accessor.setDestination(DESTINATION);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    // StompSubProtocolHandler 가 세션으로 보내기 전에 만드는 MESSAGE 프레임
+    private static Message<byte[]> toStompFrame(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(SimpMessageHeaderAccessor.getDestination(headers));
+        accessor.setSubscriptionId(SimpMessageHeaderAccessor.getSubscriptionId(headers));
+        accessor.setSessionId(SimpMessageHeaderAccessor.getSessionId(headers));
+        accessor.setMessageId(String.valueOf(headers.getId()));
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        if (contentType instanceof MimeType mimeType) {
+            accessor.setContentType(mimeType);
+        }
+        return MessageBuilder.createMessage((byte[]) message.getPayload(), accessor.getMessageHeaders());
+    }
+}
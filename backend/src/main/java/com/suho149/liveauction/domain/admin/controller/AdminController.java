@@ -2,6 +2,7 @@ package com.suho149.liveauction.domain.admin.controller;
 
 import com.suho149.liveauction.domain.admin.dto.*;
 import com.suho149.liveauction.domain.admin.service.AdminService;
+import com.suho149.liveauction.domain.auction.engine.BidAdmissionQueue;
 import com.suho149.liveauction.domain.product.dto.ProductResponse;
 import com.suho149.liveauction.domain.product.dto.ProductSearchCondition;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminController {
     private final AdminService adminService;
+    private final BidAdmissionQueue bidAdmissionQueue;
 
     @GetMapping("/settlements/pending")
     public ResponseEntity<List<SettlementResponse>> getPendingSettlements() {
@@ -83,6 +85,14 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getDailySales());
     }
 
+    /**
+     * 상품별 입찰 대기열 상태(대기 건수, 대기 시간, 거절 건수)를 조회합니다.
+     */
+    @GetMapping("/bid-queues")
+    public ResponseEntity<List<BidQueueStatsResponse>> getBidQueueStats() {
+        return ResponseEntity.ok(bidAdmissionQueue.stats());
+    }
+
     /**
      * 처리 대기 중인 모든 신고 목록을 조회합니다.
      */
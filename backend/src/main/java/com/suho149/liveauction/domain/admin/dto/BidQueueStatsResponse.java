@@ -0,0 +1,15 @@
+package com.suho149.liveauction.domain.admin.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BidQueueStatsResponse {
+    private Long productId;
+    private int depth;            // 현재 대기 중인 입찰 수
+    private long processedCount;  // 처리한 입찰 수
+    private long shedCount;       // 대기열이 가득 차 거절한 입찰 수
+    private double averageWaitMs; // 평균 대기 시간
+    private double maxWaitMs;     // 최대 대기 시간
+}
@@ -0,0 +1,36 @@
+package com.suho149.liveauction.domain.alert.controller;
+
+import com.suho149.liveauction.domain.alert.dto.PriceAlertRequest;
+import com.suho149.liveauction.domain.alert.dto.PriceAlertResponse;
+import com.suho149.liveauction.domain.alert.service.PriceAlertService;
+import com.suho149.liveauction.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/price-alerts")
+@RequiredArgsConstructor
+public class PriceAlertController {
+
+    private final PriceAlertService priceAlertService;
+
+    @PostMapping
+    public ResponseEntity<PriceAlertResponse> addPriceAlert(@RequestBody PriceAlertRequest request, @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(priceAlertService.addPriceAlert(request, userPrincipal));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<PriceAlertResponse>> getMyPriceAlerts(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(priceAlertService.getMyPriceAlerts(userPrincipal));
+    }
+
+    @DeleteMapping("/{priceAlertId}")
+    public ResponseEntity<Void> deletePriceAlert(@PathVariable Long priceAlertId, @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        priceAlertService.deletePriceAlert(priceAlertId, userPrincipal);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.suho149.liveauction.domain.alert.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PriceAlertRequest {
+    private Long productId;
+    private Long thresholdPrice;
+}
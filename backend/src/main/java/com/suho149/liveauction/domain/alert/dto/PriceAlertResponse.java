@@ -0,0 +1,23 @@
+package com.suho149.liveauction.domain.alert.dto;
+
+import com.suho149.liveauction.domain.alert.entity.PriceAlert;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PriceAlertResponse {
+    private final Long id;
+    private final Long productId;
+    private final String productName;
+    private final Long thresholdPrice;
+    private final LocalDateTime triggeredAt;
+
+    public PriceAlertResponse(PriceAlert priceAlert) {
+        this.id = priceAlert.getId();
+        this.productId = priceAlert.getProduct().getId();
+        this.productName = priceAlert.getProduct().getName();
+        this.thresholdPrice = priceAlert.getThresholdPrice();
+        this.triggeredAt = priceAlert.getTriggeredAt();
+    }
+}
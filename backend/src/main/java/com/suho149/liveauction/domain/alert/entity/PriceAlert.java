@@ -0,0 +1,43 @@
+package com.suho149.liveauction.domain.alert.entity;
+
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * "상품 현재가가 기준 가격 이상이 되면 알려 주세요" 알림. 한 번 울리면 끝납니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceAlert {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private Long thresholdPrice;
+
+    private LocalDateTime triggeredAt; // null 이면 아직 울리지 않음
+
+    @Builder
+    public PriceAlert(User user, Product product, Long thresholdPrice) {
+        this.user = user;
+        this.product = product;
+        this.thresholdPrice = thresholdPrice;
+    }
+}
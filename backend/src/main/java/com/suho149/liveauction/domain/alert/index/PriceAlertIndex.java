@@ -0,0 +1,61 @@
+package com.suho149.liveauction.domain.alert.index;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품별 가격 알림 색인. auction:price-alerts:{productId} (sorted set, score = 기준 가격, member = 알림 ID)
+ *
+ * 경매 가격은 올라가기만 하므로, 가격이 p1 에서 p2 로 오르면 울릴 알림은 기준 가격이 p2 이하인 알림 전부입니다.
+ * (p1 이하인 알림은 이전 갱신 때 이미 꺼내짐) 정렬된 색인에서 앞부분만 잘라내므로 O(log n + 울린 알림 수) 이고,
+ * 알림 테이블을 조회하지 않습니다. 가격은 어느 노드에서든 수락될 수 있으므로 노드 메모리가 아닌 Redis 에 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceAlertIndex {
+
+    private static final String KEY_PREFIX = "auction:price-alerts:";
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final DefaultRedisScript<List> POP_SCRIPT = popScript();
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void add(Long productId, Long alertId, long thresholdPrice) {
+        redisTemplate.opsForZSet().add(KEY_PREFIX + productId, String.valueOf(alertId), thresholdPrice);
+    }
+
+    public void remove(Long productId, Long alertId) {
+        redisTemplate.opsForZSet().remove(KEY_PREFIX + productId, String.valueOf(alertId));
+    }
+
+    // 경매가 끝난 상품의 색인 전체 삭제
+    public void evict(Long productId) {
+        redisTemplate.delete(KEY_PREFIX + productId);
+    }
+
+    /**
+     * 기준 가격이 price 이하인 알림을 꺼냅니다. 꺼낸 알림은 색인에서 지워지므로 다른 노드가 다시 꺼내지 않습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> popReached(Long productId, long price) {
+        List<String> ids = redisTemplate.execute(POP_SCRIPT, List.of(KEY_PREFIX + productId), String.valueOf(price));
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static DefaultRedisScript<List> popScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/pop-price-alerts.lua")));
+        script.setResultType(List.class);
+        return script;
+    }
+}
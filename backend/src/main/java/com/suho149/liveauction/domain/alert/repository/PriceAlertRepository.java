@@ -0,0 +1,37 @@
+package com.suho149.liveauction.domain.alert.repository;
+
+import com.suho149.liveauction.domain.alert.entity.PriceAlert;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PriceAlertRepository extends JpaRepository<PriceAlert, Long> {
+
+    @Query("SELECT a FROM PriceAlert a JOIN FETCH a.product WHERE a.user.id = :userId ORDER BY a.id DESC")
+    List<PriceAlert> findByUserIdWithProduct(@Param("userId") Long userId);
+
+    long countByUserIdAndTriggeredAtIsNull(Long userId);
+
+    @Query("SELECT a FROM PriceAlert a JOIN FETCH a.product WHERE a.id IN :ids AND a.triggeredAt IS NULL")
+    List<PriceAlert> findPendingWithProductByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 가격 알림 색인 재적재용 (status 상태인 상품의 알림만). 결과 행: [알림 ID, 상품 ID, 기준 가격]
+    @Query("SELECT a.id, a.product.id, a.thresholdPrice FROM PriceAlert a WHERE a.triggeredAt IS NULL AND a.product.status = :status")
+    List<Object[]> findPendingForIndex(@Param("status") ProductStatus status);
+
+    // 경매가 끝난 상품의 울리지 않은 알림 삭제 (더 이상 울릴 수 없고, 사용자별 개수 제한에서도 빠지도록)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PriceAlert a WHERE a.product.id IN :productIds AND a.triggeredAt IS NULL")
+    int deletePendingByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 아직 울리지 않은 알림만 울린 것으로 표시
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PriceAlert a SET a.triggeredAt = :now WHERE a.id IN :ids AND a.triggeredAt IS NULL")
+    int markTriggered(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
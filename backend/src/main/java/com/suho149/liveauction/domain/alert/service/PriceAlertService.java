@@ -0,0 +1,122 @@
+package com.suho149.liveauction.domain.alert.service;
+
+import com.suho149.liveauction.domain.alert.dto.PriceAlertRequest;
+import com.suho149.liveauction.domain.alert.dto.PriceAlertResponse;
+import com.suho149.liveauction.domain.alert.entity.PriceAlert;
+import com.suho149.liveauction.domain.alert.index.PriceAlertIndex;
+import com.suho149.liveauction.domain.alert.repository.PriceAlertRepository;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.domain.user.entity.User;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import com.suho149.liveauction.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceAlertService {
+
+    private static final int MAX_PRICE_ALERTS_PER_USER = 100;
+
+    private final PriceAlertRepository priceAlertRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final PriceAlertIndex priceAlertIndex;
+
+    /**
+     * 상품 현재가가 기준 가격 이상이 되면 알림을 받도록 등록합니다. 색인에는 커밋된 뒤에 추가합니다.
+     */
+    @Transactional
+    public PriceAlertResponse addPriceAlert(PriceAlertRequest request, UserPrincipal userPrincipal) {
+        if (request.getProductId() == null || request.getThresholdPrice() == null) {
+            throw new IllegalArgumentException("상품과 기준 가격을 입력해야 합니다.");
+        }
+        Product product = productRepository.findById(request.getProductId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+        if (product.getStatus() != ProductStatus.ON_SALE) {
+            throw new IllegalStateException("판매 중인 상품에만 가격 알림을 등록할 수 있습니다.");
+        }
+        if (request.getThresholdPrice() <= product.getCurrentPrice()) {
+            throw new IllegalArgumentException("기준 가격은 현재가보다 높아야 합니다.");
+        }
+        if (priceAlertRepository.countByUserIdAndTriggeredAtIsNull(userPrincipal.getId()) >= MAX_PRICE_ALERTS_PER_USER) {
+            throw new IllegalStateException("가격 알림은 최대 " + MAX_PRICE_ALERTS_PER_USER + "개까지 등록할 수 있습니다.");
+        }
+
+        User user = userRepository.getReferenceById(userPrincipal.getId());
+        PriceAlert priceAlert = priceAlertRepository.save(PriceAlert.builder()
+                .user(user)
+                .product(product)
+                .thresholdPrice(request.getThresholdPrice())
+                .build());
+
+        Long productId = product.getId();
+        Long alertId = priceAlert.getId();
+        long thresholdPrice = priceAlert.getThresholdPrice();
+        afterCommit(() -> priceAlertIndex.add(productId, alertId, thresholdPrice));
+        return new PriceAlertResponse(priceAlert);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PriceAlertResponse> getMyPriceAlerts(UserPrincipal userPrincipal) {
+        return priceAlertRepository.findByUserIdWithProduct(userPrincipal.getId())
+                .stream().map(PriceAlertResponse::new).collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void deletePriceAlert(Long priceAlertId, UserPrincipal userPrincipal) {
+        PriceAlert priceAlert = priceAlertRepository.findById(priceAlertId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 가격 알림입니다."));
+
+        // 본인의 가격 알림인지 확인
+        if (!priceAlert.getUser().getId().equals(userPrincipal.getId())) {
+            throw new IllegalStateException("삭제 권한이 없는 가격 알림입니다.");
+        }
+
+        Long productId = priceAlert.getProduct().getId();
+        priceAlertRepository.delete(priceAlert);
+        afterCommit(() -> priceAlertIndex.remove(productId, priceAlertId));
+    }
+
+    /**
+     * 경매가 끝난 상품들의 울리지 않은 가격 알림을 지웁니다. 호출하는 쪽의 트랜잭션에 참여하며, 색인은 커밋된 뒤에 지웁니다.
+     * (남겨 두면 울리지 않는 알림이 색인과 사용자별 개수 제한을 계속 차지함)
+     */
+    @Transactional
+    public void clearForClosedAuctions(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        int deleted = priceAlertRepository.deletePendingByProductIdIn(productIds);
+        if (deleted > 0) {
+            log.info("마감된 상품 {}개의 가격 알림 {}건 삭제", productIds.size(), deleted);
+        }
+        List<Long> ids = List.copyOf(productIds);
+        afterCommit(() -> ids.forEach(priceAlertIndex::evict));
+    }
+
+    // 색인 반영 실패는 등록/삭제를 되돌리지 않음 (등록 누락은 재시작 시 재적재, 삭제 누락은 울릴 때 DB 에서 걸러짐)
+    private static void afterCommit(Runnable task) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("가격 알림 색인 반영 실패", e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.suho149.liveauction.domain.alert.service;
+
+import com.suho149.liveauction.domain.alert.entity.PriceAlert;
+import com.suho149.liveauction.domain.alert.index.PriceAlertIndex;
+import com.suho149.liveauction.domain.alert.repository.PriceAlertRepository;
+import com.suho149.liveauction.domain.auction.event.PriceChangedEvent;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.service.NotificationService;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 커밋된 가격 갱신(PriceChangedEvent)마다 기준 가격에 도달한 가격 알림을 울립니다.
+ *
+ * 입찰 스레드에서는 작업을 넘기기만 하고, 색인 조회는 별도 스레드에서 Redis 로 한 번 합니다.
+ * DB 는 실제로 울린 알림이 있을 때만 조회/갱신하므로, 알림이 없는 입찰에는 DB 작업이 추가되지 않습니다.
+ */
+@Slf4j
+@Component
+public class PriceAlertTrigger {
+
+    private final PriceAlertIndex priceAlertIndex;
+    private final PriceAlertRepository priceAlertRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter triggered;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("price-alert-"));
+
+    public PriceAlertTrigger(PriceAlertIndex priceAlertIndex, PriceAlertRepository priceAlertRepository,
+                             NotificationService notificationService, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.priceAlertIndex = priceAlertIndex;
+        this.priceAlertRepository = priceAlertRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.triggered = Counter.builder("auction.price-alert.triggered")
+                .description("기준 가격에 도달해 울린 가격 알림 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    @EventListener
+    public void onPriceChanged(PriceChangedEvent event) {
+        executor.execute(() -> evaluate(event.getProductId(), event.getNewPrice()));
+    }
+
+    // Redis 색인이 비어 있어도(재시작, 장애) DB 의 울리지 않은 알림으로 다시 채움 (이미 있는 알림은 그대로, 판매 중인 상품만)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        try {
+            List<Object[]> pending = priceAlertRepository.findPendingForIndex(ProductStatus.ON_SALE);
+            pending.forEach(row -> priceAlertIndex.add((Long) row[1], (Long) row[0], (Long) row[2]));
+            log.info("가격 알림 색인 적재 완료: {}건", pending.size());
+        } catch (RuntimeException e) {
+            log.warn("가격 알림 색인 적재 실패", e);
+        }
+    }
+
+    private void evaluate(Long productId, long price) {
+        List<Long> alertIds;
+        try {
+            alertIds = priceAlertIndex.popReached(productId, price);
+        } catch (RuntimeException e) {
+            // 꺼내지 못한 알림은 색인에 남아 있으므로 다음 가격 갱신 때 다시 확인됨
+            log.warn("상품 ID {} 가격 알림 조회 실패", productId, e);
+            return;
+        }
+        if (alertIds.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> fire(alertIds, price));
+        } catch (RuntimeException e) {
+            // 색인에서는 이미 꺼냈으므로 다시 넣어 다음 갱신 때 재시도
+            log.error("상품 ID {} 가격 알림 발송 실패. 알림 ID: {}", productId, alertIds, e);
+            transactionTemplate.executeWithoutResult(status -> priceAlertRepository.findPendingWithProductByIdIn(alertIds)
+                    .forEach(alert -> priceAlertIndex.add(productId, alert.getId(), alert.getThresholdPrice())));
+        }
+    }
+
+    private void fire(List<Long> alertIds, long price) {
+        List<PriceAlert> alerts = priceAlertRepository.findPendingWithProductByIdIn(alertIds);
+        if (alerts.isEmpty()) {
+            return; // 그 사이 취소된 알림
+        }
+        priceAlertRepository.markTriggered(alerts.stream().map(PriceAlert::getId).toList(), LocalDateTime.now());
+        for (PriceAlert alert : alerts) {
+            String content = "관심 상품 '" + alert.getProduct().getName() + "'의 현재가가 "
+                    + String.format("%,d", price) + "원이 되었습니다. (알림 기준 " + String.format("%,d", alert.getThresholdPrice()) + "원)";
+            notificationService.send(alert.getUser(), NotificationType.BID, content, "/products/" + alert.getProduct().getId());
+        }
+        triggered.increment(alerts.size());
+    }
+}
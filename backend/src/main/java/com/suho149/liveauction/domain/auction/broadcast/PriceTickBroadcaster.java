@@ -0,0 +1,172 @@
+package com.suho149.liveauction.domain.auction.broadcast;
+
+import com.suho149.liveauction.domain.auction.dto.BidResponse;
+import com.suho149.liveauction.domain.auction.event.PriceChangedEvent;
+import com.suho149.liveauction.global.websocket.PreEncodedMessageSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * /sub/products/{productId} 로 나가는 가격 갱신을 상품별로 묶어서(conflation) 전송합니다.
+ *
+ * 시청자에게 필요한 것은 최신 가격뿐이므로, conflation-window-ms 동안 들어온 갱신 중 마지막 상태만 한 번 전송합니다.
+ * 모든 갱신에는 상품별로 증가하는 순번(sequence)을 붙이며, 전송되는 프레임은 그 시점의 가장 큰 순번을 가집니다.
+ * 순번은 수락된 가격 자체입니다. 상품별 가격은 어느 노드에서 수락되었든 항상 증가하므로 (즉시 구매도 현재가보다 높을 때만 허용),
+ * 여러 노드의 프레임이 Redis 로 섞여 전달되어도(auction.websocket.broker=redis) 같은 기준으로 순서를 판단할 수 있습니다.
+ * 클라이언트는 순번이 이전보다 작거나 같은 프레임을 무시하면 됩니다.
+ * 프레임은 한 번만 JSON 으로 직렬화되어 모든 구독 세션이 같은 바이트를 공유합니다. (PreEncodedMessageSender)
+ * 발행된 모든 갱신은 PriceTickRing 에도 기록되어, 재연결한 클라이언트가 놓친 갱신을 순번 기준으로 받아갈 수 있습니다.
+ * 경매가 마감되면 evict 로 상품의 채널을 제거합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceTickBroadcaster {
+
+    private final PreEncodedMessageSender messageSender;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final PriceTickRing tickRing;
+
+    @Value("${auction.broadcast.conflation-window-ms:50}")
+    private long conflationWindowMs;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    // PriceTickRing 기록(Redis 왕복) 전용. 기록이 느려져도 conflation 전송 스레드가 밀리지 않도록 분리하며, 한 스레드라 발행 순서대로 기록됩니다.
+    private ExecutorService recorder;
+    private Counter publishedTicks;
+    private Counter sentFrames;
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("price-tick-"));
+        recorder = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("price-tick-ring-"));
+        publishedTicks = Counter.builder("auction.broadcast.ticks")
+                .description("발행된 가격 갱신 수")
+                .register(meterRegistry);
+        sentFrames = Counter.builder("auction.broadcast.frames")
+                .description("실제로 전송된 가격 갱신 프레임 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        recorder.shutdown();
+    }
+
+    /**
+     * 가격 갱신을 발행합니다. 전송은 conflation 창이 끝날 때 최신 상태 한 번으로 이루어집니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 발행하므로, 롤백된 입찰(예: 낙관적 락 충돌)은 전송되지 않습니다.
+     */
+    public void publish(BidResponse tick) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(tick);
+                }
+            });
+            return;
+        }
+        publishNow(tick);
+    }
+
+    private void publishNow(BidResponse tick) {
+        // 확정된 가격 (입찰 사전 필터의 하한선, 마감 타이머 등이 구독)
+        eventPublisher.publishEvent(new PriceChangedEvent(tick.getProductId(), tick.getNewPrice(), tick.getAuctionEndTime()));
+
+        Channel channel = channels.computeIfAbsent(tick.getProductId(), Channel::new);
+        BidResponse stamped = tick.toBuilder().sequence(tick.getNewPrice()).build();
+        publishedTicks.increment();
+        recorder.execute(() -> record(stamped));
+
+        if (conflationWindowMs <= 0) {
+            send(stamped);
+            return;
+        }
+
+        // 동시에 발행된 갱신 중 순번이 가장 큰 것만 남김
+        channel.latest.accumulateAndGet(stamped,
+                (current, next) -> current == null || next.getSequence() > current.getSequence() ? next : current);
+        if (channel.scheduled.compareAndSet(false, true)) {
+            scheduler.schedule(channel::emit, conflationWindowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 마감된 상품의 채널을 제거합니다. 트랜잭션 안에서 호출되면 커밋된 이후에 제거하며,
+     * 이미 예약된 마지막 프레임은 제거된 채널에서 그대로 전송됩니다.
+     */
+    public void evict(Long productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    channels.remove(productId);
+                }
+            });
+            return;
+        }
+        channels.remove(productId);
+    }
+
+    private void record(BidResponse tick) {
+        try {
+            tickRing.record(tick);
+        } catch (RuntimeException e) {
+            // 기록하지 못한 tick 은 링의 하한보다 위에 빠진 채로 남을 수 있지만, 가격 자체는 스냅샷으로 복구됩니다.
+            log.warn("상품 ID {} 가격 갱신 기록 실패", tick.getProductId(), e);
+        }
+    }
+
+    private void send(BidResponse frame) {
+        messageSender.send("/sub/products/" + frame.getProductId(), frame);
+        sentFrames.increment();
+    }
+
+    private class Channel {
+        private final Long productId;
+        private final AtomicReference<BidResponse> latest = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        Channel(Long productId) {
+            this.productId = productId;
+        }
+
+        void emit() {
+            // 플래그를 먼저 내려야, 그 사이 들어온 갱신이 다음 창을 예약할 수 있습니다.
+            scheduled.set(false);
+            BidResponse frame = latest.getAndSet(null);
+            if (frame == null) {
+                return;
+            }
+            try {
+                send(frame);
+            } catch (RuntimeException e) {
+                log.error("상품 ID {} 가격 갱신 전송 실패", productId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.suho149.liveauction.domain.auction.broadcast;
+
+import com.suho149.liveauction.domain.auction.dto.BidResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 상품별 최근 가격 갱신(tick)을 Redis 의 정렬된 링에 보관합니다. (재연결한 클라이언트가 놓친 갱신만 받아가는 용도)
+ *
+ * - auction:ticks:{productId} (sorted set): score = 순번(수락 가격), member = tick. 최근 ring-size 개만 유지
+ * - auction:ticks:{productId}:floor: 이 순번보다 큰 tick 은 링에 모두 남아 있음
+ *
+ * 순번은 노드와 무관하게 증가하는 수락 가격이므로, 어느 노드에서 수락된 입찰이든 같은 링에 순서대로 쌓입니다.
+ * conflation 으로 전송되지 않은 중간 tick 도 모두 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceTickRing {
+
+    private static final String KEY_PREFIX = "auction:ticks:";
+    private static final long RETENTION_MILLIS = Duration.ofDays(7).toMillis();
+    private static final DefaultRedisScript<Long> RECORD_SCRIPT = recordScript();
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${auction.broadcast.ring-size:256}")
+    private int ringSize;
+
+    public void record(BidResponse tick) {
+        redisTemplate.execute(RECORD_SCRIPT, keys(tick.getProductId()),
+                String.valueOf(tick.getSequence()), encode(tick), String.valueOf(ringSize), String.valueOf(RETENTION_MILLIS));
+    }
+
+    /**
+     * 링에 있는 가장 최근 tick.
+     */
+    public Optional<BidResponse> latest(Long productId) {
+        Set<String> members = redisTemplate.opsForZSet().range(KEY_PREFIX + productId, -1, -1);
+        if (members == null || members.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(decode(productId, members.iterator().next()));
+    }
+
+    /**
+     * 순번이 sequence 보다 큰 tick 을 순서대로 돌려줍니다.
+     * 그 사이의 tick 이 이미 링에서 밀려났거나 링이 없으면(기록 전, 보관 기간 만료) 빈 Optional 을 돌려줍니다.
+     */
+    public Optional<List<BidResponse>> since(Long productId, long sequence) {
+        String key = KEY_PREFIX + productId;
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(key, sequence + 1, Double.POSITIVE_INFINITY);
+        // 링을 읽은 뒤에 하한을 읽어야, 그 사이에 밀려난 tick 이 있어도 하한에 반영되어 누락으로 판단됩니다.
+        String floor = redisTemplate.opsForValue().get(key + ":floor");
+        if (members == null || floor == null || sequence < (long) Double.parseDouble(floor)) {
+            return Optional.empty();
+        }
+        return Optional.of(members.stream().map(member -> decode(productId, member)).toList());
+    }
+
+    // 형식: 순번|마감 시간(epoch ms)|입찰자 이름 (이름에 구분자가 있을 수 있으므로 마지막에 둠)
+    private static String encode(BidResponse tick) {
+        String endTime = tick.getAuctionEndTime() == null ? ""
+                : String.valueOf(tick.getAuctionEndTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        String bidderName = tick.getBidderName() == null ? "" : tick.getBidderName();
+        return tick.getSequence() + "|" + endTime + "|" + bidderName;
+    }
+
+    private static BidResponse decode(Long productId, String member) {
+        String[] fields = member.split("\\|", 3);
+        long sequence = Long.parseLong(fields[0]);
+        LocalDateTime endTime = fields[1].isEmpty() ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(fields[1])), ZoneId.systemDefault());
+        return BidResponse.builder()
+                .productId(productId)
+                .newPrice(sequence)
+                .bidderName(fields[2])
+                .auctionEndTime(endTime)
+                .sequence(sequence)
+                .build();
+    }
+
+    private static List<String> keys(Long productId) {
+        String base = KEY_PREFIX + productId;
+        return List.of(base, base + ":floor");
+    }
+
+    private static DefaultRedisScript<Long> recordScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/record-price-tick.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -1,9 +1,14 @@
 package com.suho149.liveauction.domain.auction.controller;
 
+import com.suho149.liveauction.domain.auction.dto.AuctionSnapshotResponse;
 import com.suho149.liveauction.domain.auction.dto.BidRequest;
 import com.suho149.liveauction.domain.auction.dto.BuyNowRequest;
+import com.suho149.liveauction.domain.auction.engine.BidAdmissionQueue;
+import com.suho149.liveauction.domain.auction.engine.BidPriceFloor;
 import com.suho149.liveauction.domain.auction.service.AuctionService;
+import com.suho149.liveauction.domain.auction.service.AuctionSnapshotService;
 import com.suho149.liveauction.global.security.UserPrincipal;
+import com.suho149.liveauction.global.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -11,6 +16,7 @@ import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -24,16 +30,35 @@ import java.security.Principal;
 public class AuctionController {
 
     private final AuctionService auctionService;
+    private final BidAdmissionQueue bidAdmissionQueue;
+    private final BidPriceFloor bidPriceFloor;
+    private final AuctionSnapshotService auctionSnapshotService;
 
     @MessageMapping("/products/{productId}/bids")
     public void bid(@DestinationVariable Long productId, BidRequest bidRequest, Principal principal) {
-        if (principal == null) {
+        if (!(principal instanceof StompPrincipal bidder)) {
             // 비로그인 사용자의 입찰 시도 처리 (예: 에러 메시지를 특정 사용자에게만 보내기)
             // 혹은 그냥 무시
             return;
         }
-        // Principal.getName()은 우리 설정상 사용자의 이메일을 반환합니다.
-        auctionService.placeBid(productId, bidRequest, principal.getName());
+        // 이미 현재가 이하인 입찰은 DB 작업 없이 바로 거절 (예외는 /user/queue/errors 로 전달됨)
+        bidPriceFloor.check(productId, bidRequest.getBidAmount());
+
+        // 입찰자는 CONNECT 때 인증된 STOMP 세션의 사용자입니다. (메시지마다 토큰을 검증하지 않음)
+        // 상품별 대기열에 넣고 바로 반환합니다. 실제 처리는 auction.bid.engine 설정에 따른 입찰 엔진이 담당합니다. (기본: 비관적 락)
+        bidAdmissionQueue.submit(productId, bidRequest, bidder.getEmail());
+    }
+
+    // /pub/products/{productId} 구독 시 현재 경매 상태를 구독한 세션에게만 한 번 응답 (이후 갱신은 /sub/products/{productId})
+    @SubscribeMapping("/products/{productId}")
+    public AuctionSnapshotResponse snapshot(@DestinationVariable Long productId) {
+        return auctionSnapshotService.getSnapshot(productId, null);
+    }
+
+    // 재연결 시 마지막으로 받은 순번 이후의 갱신만 요청 (놓친 갱신을 모두 줄 수 없으면 현재 상태만 응답)
+    @SubscribeMapping("/products/{productId}/since/{sequence}")
+    public AuctionSnapshotResponse snapshotSince(@DestinationVariable Long productId, @DestinationVariable Long sequence) {
+        return auctionSnapshotService.getSnapshot(productId, sequence);
     }
 
     // 입찰 처리 중 발생한 예외를 처리하는 핸들러
@@ -0,0 +1,25 @@
+package com.suho149.liveauction.domain.auction.dto;
+
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * /pub/products/{productId} 구독 시 바로 받는 경매 현재 상태.
+ * 이후 /sub/products/{productId} 로 오는 갱신 중 순번이 sequence 이하인 것은 이미 반영된 것입니다.
+ */
+@Getter
+@Builder
+public class AuctionSnapshotResponse {
+    private Long productId;
+    private ProductStatus status;
+    private Long currentPrice;
+    private String highestBidderName;
+    private LocalDateTime auctionEndTime;
+    private Long sequence; // 현재 상태의 순번 (BidResponse.sequence 와 같은 기준)
+    private List<BidResponse> ticks; // 요청한 순번 이후 놓친 갱신 (순번 오름차순)
+    private boolean complete; // false 이면 놓친 갱신을 모두 돌려줄 수 없어 ticks 가 비어 있음 (현재 상태만 반영)
+}
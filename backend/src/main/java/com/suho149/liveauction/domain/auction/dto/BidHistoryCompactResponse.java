@@ -0,0 +1,37 @@
+package com.suho149.liveauction.domain.auction.dto;
+
+import lombok.Getter;
+
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 입찰 기록의 압축 형식 (format=compact).
+ * 항목마다 필드 이름을 반복하지 않고, fields 순서의 배열(tuple)로 보냅니다. 입찰 시간은 epoch 밀리초입니다.
+ * 예: {"fields":["bidId","bidderName","amount","bidTime"],"rows":[[1024,"홍길동",15000,1718000000000]],"nextCursor":15000}
+ */
+@Getter
+public class BidHistoryCompactResponse {
+
+    private static final List<String> FIELDS = List.of("bidId", "bidderName", "amount", "bidTime");
+
+    private final List<String> fields = FIELDS;
+    private final List<Object[]> rows;
+    private final Long nextCursor;
+
+    private BidHistoryCompactResponse(List<Object[]> rows, Long nextCursor) {
+        this.rows = rows;
+        this.nextCursor = nextCursor;
+    }
+
+    public static BidHistoryCompactResponse from(BidHistoryResponse response) {
+        List<Object[]> rows = response.getBids().stream()
+                .map(bid -> new Object[]{
+                        bid.getBidId(),
+                        bid.getBidderName(),
+                        bid.getAmount(),
+                        bid.getBidTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()})
+                .toList();
+        return new BidHistoryCompactResponse(rows, response.getNextCursor());
+    }
+}
@@ -0,0 +1,27 @@
+package com.suho149.liveauction.domain.auction.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품의 입찰 기록 한 페이지 (최신순).
+ * nextCursor(이 페이지 마지막 입찰의 금액)를 다음 요청의 after 로 넘기면 이어지는 (더 오래된) 기록을 조회합니다. 마지막 페이지이면 null.
+ */
+@Getter
+@Builder
+public class BidHistoryResponse {
+    private List<Item> bids;
+    private Long nextCursor;
+
+    @Getter
+    @Builder
+    public static class Item {
+        private Long bidId;
+        private String bidderName;
+        private Long amount;
+        private LocalDateTime bidTime;
+    }
+}
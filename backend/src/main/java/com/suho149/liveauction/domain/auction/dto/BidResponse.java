@@ -6,10 +6,11 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class BidResponse {
     private Long productId;
     private Long newPrice;
     private String bidderName;
     private final LocalDateTime auctionEndTime; // 연장된 마감 시간 필드 추가
+    private Long sequence; // 상품별 가격 갱신 순번 (PriceTickBroadcaster 가 부여, 노드와 무관하게 증가하는 수락 가격)
 }
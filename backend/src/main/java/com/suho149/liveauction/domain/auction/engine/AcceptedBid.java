@@ -0,0 +1,24 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메모리 상에서 수락이 끝났지만 아직 DB에 반영되지 않은 입찰 한 건.
+ * 알림 발송에 필요한 정보(이전 최고 입찰자, 판매자, 상품명)를 함께 들고 다닙니다.
+ */
+@Getter
+@Builder
+public class AcceptedBid {
+    private final Long productId;
+    private final String productName;
+    private final Long sellerId;
+    private final Long bidderId;
+    private final Long previousBidderId; // 이전 최고 입찰자 (없으면 null)
+    private final long amount;
+    private final LocalDateTime bidTime;
+    private final LocalDateTime auctionEndTime; // 수락 시점의 마감 시간 (연장 반영)
+    private final long journalSequence; // 입찰 저널 시퀀스 (기록하지 않았으면 0)
+}
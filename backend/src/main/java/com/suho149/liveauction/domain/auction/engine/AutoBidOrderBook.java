@@ -0,0 +1,230 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.entity.AutoBid;
+import com.suho149.liveauction.domain.auction.event.AutoBidChangedEvent;
+import com.suho149.liveauction.domain.auction.repository.AutoBidRepository;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매 중인 상품별 자동 입찰 한도 목록(order book)을 메모리에 보관합니다.
+ *
+ * 입찰 경로는 상위 두 자동 입찰만 있으면 결과를 계산할 수 있으므로, 매 입찰마다 AutoBidRepository를 조회하지 않고
+ * 이 목록에서 O(1)로 꺼내 씁니다. 상품별로 최대 금액 상위 maxEntriesPerProduct 건만 보관하여 메모리 사용량을 제한하며,
+ * 자동 입찰 설정/취소가 커밋되면 해당 상품의 목록을 DB에서 다시 읽어 교체합니다.
+ * 목록은 인스턴스마다 따로 두므로, 교체/제거할 때 Redis pub/sub(autobid:invalidate)으로 다른 인스턴스에 알려
+ * 그 인스턴스들도 같은 상품의 목록을 DB에서 다시 읽거나 제거하게 합니다. (취소된 자동 입찰이 다른 노드에서 계속 쓰이지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoBidOrderBook {
+
+    // 항목 한 건의 대략적인 크기 (long 슬롯 + 참조 슬롯 + AutoBidProxy 객체, 이름 문자열 제외)
+    private static final int ESTIMATED_ENTRY_BYTES = 8 + 8 + 40;
+    private static final int ESTIMATED_BOOK_BYTES = 64;
+
+    private static final String INVALIDATE_CHANNEL = "autobid:invalidate";
+    private static final String REFRESH = "refresh";
+    private static final String EVICT = "evict";
+
+    private final AutoBidRepository autoBidRepository;
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final String nodeId = UUID.randomUUID().toString();
+    private RedisMessageListenerContainer container;
+
+    @Value("${auction.bid.order-book.max-entries-per-product:16}")
+    private int maxEntriesPerProduct;
+
+    private final Map<Long, Book> books = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("auction.autobid.book.products", books, Map::size)
+                .description("자동 입찰 목록을 보관 중인 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.autobid.book.entries", this, AutoBidOrderBook::entryCount)
+                .description("보관 중인 자동 입찰 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.autobid.book.memory", this, AutoBidOrderBook::estimatedBytes)
+                .description("자동 입찰 목록의 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribeInvalidations() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATE_CHANNEL));
+        try {
+            container.afterPropertiesSet();
+            container.start();
+        } catch (RuntimeException e) {
+            // 구독하지 못하면 이 노드의 목록은 요청을 받은 변경만 반영됨
+            log.warn("자동 입찰 목록 무효화 구독 실패", e);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        container.destroy();
+    }
+
+    /**
+     * 애플리케이션 시작 시 판매 중인 모든 상품의 자동 입찰을 한 번에 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveAuctions() {
+        Map<Long, List<AutoBid>> byProduct = new LinkedHashMap<>();
+        for (AutoBid autoBid : autoBidRepository.findAllWithUserByProductStatus(ProductStatus.ON_SALE)) {
+            byProduct.computeIfAbsent(autoBid.getProduct().getId(), id -> new ArrayList<>()).add(autoBid);
+        }
+        byProduct.forEach((productId, autoBids) -> books.put(productId, Book.of(autoBids, maxEntriesPerProduct)));
+        log.info("자동 입찰 목록 적재 완료. 상품 {}개, 항목 {}건", books.size(), entryCount());
+    }
+
+    /**
+     * 자동 입찰 설정/취소가 커밋되면 해당 상품의 목록을 교체합니다.
+     * 입찰 엔진들의 같은 이벤트 리스너보다 먼저 실행되어야 하므로 가장 높은 우선순위를 둡니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAutoBidChanged(AutoBidChangedEvent event) {
+        refresh(event.getProductId());
+    }
+
+    public void refresh(Long productId) {
+        reload(productId);
+        publish(REFRESH, productId);
+    }
+
+    private void reload(Long productId) {
+        List<AutoBid> autoBids = autoBidRepository.findWithUserByProductId(productId, PageRequest.of(0, maxEntriesPerProduct));
+        if (autoBids.isEmpty()) {
+            books.remove(productId);
+        } else {
+            books.put(productId, Book.of(autoBids, maxEntriesPerProduct));
+        }
+    }
+
+    /**
+     * 최대 금액 상위 두 건 (내림차순). ProxyBidRule.resolve 에 그대로 넘길 수 있습니다.
+     */
+    public List<AutoBidProxy> topTwo(Long productId) {
+        Book book = books.get(productId);
+        if (book == null) {
+            return List.of();
+        }
+        return book.proxies.length == 1 ? List.of(book.proxies[0]) : List.of(book.proxies[0], book.proxies[1]);
+    }
+
+    /**
+     * 판매가 끝난 상품의 목록을 제거합니다. 트랜잭션 안에서 호출되면 커밋 이후에 제거합니다.
+     */
+    public void evict(Long productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    books.remove(productId);
+                    publish(EVICT, productId);
+                }
+            });
+            return;
+        }
+        books.remove(productId);
+        publish(EVICT, productId);
+    }
+
+    // 형식: 노드ID|동작|상품 ID
+    private void publish(String action, Long productId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId + "|" + action + "|" + productId);
+        } catch (RuntimeException e) {
+            log.warn("자동 입찰 목록 무효화 발행 실패. 상품 ID: {}", productId, e);
+        }
+    }
+
+    private void onInvalidation(String body) {
+        String[] fields = body.split("\\|");
+        if (fields.length != 3 || nodeId.equals(fields[0])) {
+            return; // 자기 노드가 발행한 메시지는 이미 반영함
+        }
+        Long productId = Long.valueOf(fields[2]);
+        if (EVICT.equals(fields[1])) {
+            books.remove(productId);
+        } else {
+            reload(productId);
+        }
+    }
+
+    private long entryCount() {
+        long count = 0;
+        for (Book book : books.values()) {
+            count += book.maxAmounts.length;
+        }
+        return count;
+    }
+
+    private long estimatedBytes() {
+        return books.size() * (long) ESTIMATED_BOOK_BYTES + entryCount() * ESTIMATED_ENTRY_BYTES;
+    }
+
+    /**
+     * 상품 한 개의 불변 스냅샷. 최대 금액 내림차순으로 정렬된 원시 long 배열과 자동 입찰자 배열을 나란히 둡니다.
+     * 변경 시에는 통째로 교체하므로 읽는 쪽은 잠금 없이 접근합니다.
+     */
+    private static class Book {
+        private final long[] maxAmounts;
+        private final AutoBidProxy[] proxies;
+
+        private Book(long[] maxAmounts, AutoBidProxy[] proxies) {
+            this.maxAmounts = maxAmounts;
+            this.proxies = proxies;
+        }
+
+        // autoBids 는 최대 금액 내림차순으로 정렬되어 있어야 합니다.
+        static Book of(List<AutoBid> autoBids, int limit) {
+            int size = Math.min(autoBids.size(), limit);
+            long[] maxAmounts = new long[size];
+            AutoBidProxy[] proxies = new AutoBidProxy[size];
+            for (int i = 0; i < size; i++) {
+                proxies[i] = AutoBidProxy.from(autoBids.get(i));
+                maxAmounts[i] = proxies[i].getMaxAmount();
+            }
+            return new Book(maxAmounts, proxies);
+        }
+    }
+}
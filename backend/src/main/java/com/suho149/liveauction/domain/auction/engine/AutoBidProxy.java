@@ -0,0 +1,25 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.entity.AutoBid;
+import lombok.Getter;
+
+/**
+ * 입찰 엔진이 메모리에 들고 있는 자동 입찰 설정 한 건 (사용자, 최대 금액).
+ */
+@Getter
+public class AutoBidProxy {
+    private final Long userId;
+    private final String userName;
+    private final long maxAmount;
+
+    public AutoBidProxy(Long userId, String userName, long maxAmount) {
+        this.userId = userId;
+        this.userName = userName;
+        this.maxAmount = maxAmount;
+    }
+
+    // user 가 fetch 된 AutoBid 에서만 호출해야 합니다.
+    public static AutoBidProxy from(AutoBid autoBid) {
+        return new AutoBidProxy(autoBid.getUser().getId(), autoBid.getUser().getName(), autoBid.getMaxAmount());
+    }
+}
@@ -0,0 +1,238 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.admin.dto.BidQueueStatsResponse;
+import com.suho149.liveauction.domain.auction.dto.BidRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 입찰 요청을 상품별 유한 대기열에 넣고, 고정 크기 워커 풀에서 입찰 엔진으로 넘깁니다.
+ *
+ * clientInboundChannel 스레드는 대기열에 넣기만 하고 바로 돌아가므로, 인기 경매 하나가 채팅이나 다른 경매의
+ * 메시지 처리를 막지 않습니다. 같은 상품의 입찰은 한 번에 하나씩 도착 순서대로 처리되며,
+ * 대기열이 가득 차면 즉시 "잠시 후 다시 시도" 오류로 거절(load shedding)합니다.
+ * 처리 중 발생한 검증 오류는 해당 사용자의 /user/queue/errors 로 전달합니다.
+ */
+@Slf4j
+@Component
+public class BidAdmissionQueue {
+
+    private static final int LANE_BATCH_SIZE = 32; // 한 번 스케줄될 때 처리할 최대 입찰 수 (상품 간 공정성)
+    private static final long IDLE_LANE_EVICTION_MINUTES = 10;
+
+    private final BidEngine bidEngine;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final Timer waitTimer;
+    private final Counter shedCounter;
+
+    @Value("${auction.bid.admission.workers:8}")
+    private int workerCount;
+
+    @Value("${auction.bid.admission.queue-capacity:200}")
+    private int queueCapacity;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private ExecutorService workers;
+
+    public BidAdmissionQueue(BidEngine bidEngine, SimpMessageSendingOperations messagingTemplate, MeterRegistry meterRegistry) {
+        this.bidEngine = bidEngine;
+        this.messagingTemplate = messagingTemplate;
+        this.waitTimer = Timer.builder("auction.bid.admission.wait")
+                .description("입찰이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.shedCounter = Counter.builder("auction.bid.admission.shed")
+                .description("대기열이 가득 차 거절된 입찰 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.bid.admission.depth", lanes, BidAdmissionQueue::totalDepth)
+                .description("모든 상품 대기열에 쌓인 입찰 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("bid-admission-"));
+        log.info("입찰 대기열 시작. workers={}, queueCapacity={}", workerCount, queueCapacity);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 입찰을 상품 대기열에 넣습니다. 대기열이 가득 차면 IllegalStateException 을 던집니다.
+     */
+    public void submit(Long productId, BidRequest bidRequest, String email) {
+        Ticket ticket = new Ticket(bidRequest, email, System.nanoTime());
+        AtomicBoolean admitted = new AtomicBoolean();
+        // compute 안에서 넣어야 유휴 대기열 제거와 경합하지 않습니다.
+        Lane lane = lanes.compute(productId, (id, existing) -> {
+            Lane target = existing != null ? existing : new Lane(id);
+            admitted.set(target.offer(ticket));
+            return target;
+        });
+
+        if (!admitted.get()) {
+            lane.shed.incrementAndGet();
+            shedCounter.increment();
+            throw new IllegalStateException("입찰이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        lane.schedule();
+    }
+
+    /**
+     * 상품별 대기열 상태 (대기 건수가 많은 순).
+     */
+    public List<BidQueueStatsResponse> stats() {
+        List<BidQueueStatsResponse> result = new ArrayList<>();
+        for (Lane lane : lanes.values()) {
+            result.add(lane.toStats());
+        }
+        result.sort(Comparator.comparingInt(BidQueueStatsResponse::getDepth).reversed());
+        return result;
+    }
+
+    // 오래 쓰이지 않은 대기열 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleLanes() {
+        long threshold = System.nanoTime() - TimeUnit.MINUTES.toNanos(IDLE_LANE_EVICTION_MINUTES);
+        for (Long productId : lanes.keySet()) {
+            lanes.computeIfPresent(productId, (id, lane) -> lane.isIdleSince(threshold) ? null : lane);
+        }
+    }
+
+    private static double totalDepth(Map<Long, Lane> lanes) {
+        int depth = 0;
+        for (Lane lane : lanes.values()) {
+            depth += lane.depth.get();
+        }
+        return depth;
+    }
+
+    private void process(Ticket ticket, Long productId, Lane lane) {
+        long waitedNanos = System.nanoTime() - ticket.enqueuedAt;
+        waitTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+        lane.recordWait(waitedNanos);
+
+        try {
+            bidEngine.placeBid(productId, ticket.bidRequest, ticket.email);
+        } catch (RuntimeException e) {
+            if (!(e instanceof IllegalArgumentException || e instanceof IllegalStateException)) {
+                log.error("상품 ID {} 입찰 처리 중 오류", productId, e);
+            }
+            // 요청 스레드가 이미 돌아갔으므로, @MessageExceptionHandler 대신 사용자 큐로 직접 전달
+            messagingTemplate.convertAndSendToUser(ticket.email, "/queue/errors", e.getMessage());
+        }
+    }
+
+    private static class Ticket {
+        private final BidRequest bidRequest;
+        private final String email;
+        private final long enqueuedAt;
+
+        Ticket(BidRequest bidRequest, String email, long enqueuedAt) {
+            this.bidRequest = bidRequest;
+            this.email = email;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /**
+     * 상품 한 개의 대기열. 공유 워커 풀 위에서 동작하지만, scheduled 플래그로 한 번에 한 스레드만 실행합니다.
+     */
+    private class Lane implements Runnable {
+        private final Long productId;
+        private final Queue<Ticket> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong shed = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private volatile long lastActivity = System.nanoTime();
+
+        Lane(Long productId) {
+            this.productId = productId;
+        }
+
+        boolean offer(Ticket ticket) {
+            lastActivity = ticket.enqueuedAt;
+            if (depth.incrementAndGet() > queueCapacity) {
+                depth.decrementAndGet();
+                return false;
+            }
+            queue.add(ticket);
+            return true;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this);
+            }
+        }
+
+        void recordWait(long waitedNanos) {
+            processed.incrementAndGet();
+            totalWaitNanos.addAndGet(waitedNanos);
+            maxWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+        }
+
+        boolean isIdleSince(long threshold) {
+            return depth.get() == 0 && !scheduled.get() && lastActivity < threshold;
+        }
+
+        BidQueueStatsResponse toStats() {
+            long count = processed.get();
+            return BidQueueStatsResponse.builder()
+                    .productId(productId)
+                    .depth(depth.get())
+                    .processedCount(count)
+                    .shedCount(shed.get())
+                    .averageWaitMs(count == 0 ? 0 : totalWaitNanos.get() / (double) count / 1_000_000)
+                    .maxWaitMs(maxWaitNanos.get() / 1_000_000.0)
+                    .build();
+        }
+
+        @Override
+        public void run() {
+            try {
+                Ticket ticket;
+                int handled = 0;
+                while (handled++ < LANE_BATCH_SIZE && (ticket = queue.poll()) != null) {
+                    depth.decrementAndGet();
+                    process(ticket, productId, this);
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수락되었지만 DB 에 저장할 수 없는 입찰(삭제된 상품, FK 위반 등)을 따로 보관합니다.
+ *
+ * 저장에 계속 실패하는 입찰 한 건이 뒤에 쌓인 입찰의 저장을 막지 않도록, 배치를 건별로 나눠 저장한 뒤에도
+ * 실패한 입찰은 auction:bids:dead-letter (list) 에 남기고 건너뜁니다. 운영자가 확인 후 수동으로 처리합니다.
+ * 항목 형식: "출처|상품 ID|입찰자 ID|금액|입찰 시각|오류"
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidDeadLetter {
+
+    public static final String KEY = "auction:bids:dead-letter";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public void record(String source, Long productId, Long bidderId, long amount, LocalDateTime bidTime, Throwable cause) {
+        log.error("입찰을 저장하지 못해 dead-letter 로 옮깁니다. 출처: {}, 상품 ID: {}, 입찰자 ID: {}, 금액: {}, 입찰 시각: {}",
+                source, productId, bidderId, amount, bidTime, cause);
+        meterRegistry.counter("auction.bid.dead-letter", "source", source).increment();
+        String entry = source + "|" + productId + "|" + bidderId + "|" + amount + "|" + bidTime + "|" + summary(cause);
+        try {
+            redisTemplate.opsForList().rightPush(KEY, entry);
+        } catch (RuntimeException e) {
+            // 위의 오류 로그가 유일한 기록이 됨
+            log.error("입찰 dead-letter 기록 실패: {}", entry, e);
+        }
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 오류(DB 연결 실패, 타임아웃, 락 대기 등)인지 여부.
+     * 이런 오류로 실패한 입찰은 dead-letter 로 옮기지 않고 계속 재시도합니다.
+     */
+    public static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException
+                || e instanceof TransactionSystemException;
+    }
+
+    private static String summary(Throwable cause) {
+        String message = cause.getMessage();
+        String text = cause.getClass().getSimpleName() + (message != null ? ": " + message : "");
+        return text.replace('|', '/').replace('\n', ' ');
+    }
+}
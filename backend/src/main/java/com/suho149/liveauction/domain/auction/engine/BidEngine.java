@@ -0,0 +1,14 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.dto.BidRequest;
+
+/**
+ * 입찰 요청을 실제로 처리하는 엔진.
+ * auction.bid.engine 설정값에 따라 하나의 구현체만 Bean으로 등록됩니다.
+ * 검증 실패 시에는 IllegalArgumentException / IllegalStateException을 던지며,
+ * AuctionController의 @MessageExceptionHandler가 이를 /user/queue/errors로 전달합니다.
+ */
+public interface BidEngine {
+
+    void placeBid(Long productId, BidRequest bidRequest, String email);
+}
@@ -0,0 +1,238 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.entity.Bid;
+import com.suho149.liveauction.domain.auction.journal.BidJournal;
+import com.suho149.liveauction.domain.auction.repository.BidRepository;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 입찰 기록(Bid) INSERT 를 모아 두었다가 JDBC 배치로 한 번에 저장합니다.
+ *
+ * 비관적 락을 잡은 입찰 트랜잭션 안에서 INSERT 왕복을 없애기 위해, 락 기반 입찰은 커밋 이후 이 버퍼에 입찰을 넣습니다.
+ * batch-size 건이 쌓이거나 flush-interval-ms 가 지나면 저장하며, 단일 스레드가 넣은 순서대로 저장하므로
+ * 상품별 입찰 순서(및 ID 순서)가 유지됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidInsertBuffer {
+
+    private final BidRepository bidRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ParticipantCounter participantCounter;
+    private final BidJournal bidJournal;
+    private final BidDeadLetter bidDeadLetter;
+
+    // 같은 배치가 이 횟수만큼 연속으로 실패하면 한 건씩 저장하여 문제가 되는 입찰만 dead-letter 로 옮김
+    static final int MAX_BATCH_ATTEMPTS = 3;
+
+    @Value("${auction.bid.insert-buffer.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    @Value("${auction.bid.insert-buffer.batch-size:200}")
+    private int batchSize;
+
+    private final ConcurrentLinkedQueue<PendingBid> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+    // 저장에 실패한 배치. flush 스레드에서만 접근하며, 다음 flush 때 새 입찰보다 먼저 저장합니다.
+    private final List<PendingBid> inFlight = new ArrayList<>();
+    private int failedAttempts;
+
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("bid-insert-buffer-"));
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        // 종료 직전까지 쌓인 입찰을 마지막으로 저장
+        flush();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 입찰 기록을 버퍼에 넣습니다. (롤백되면 버림)
+     * 저널에는 커밋 직전에 기록하며, 저널 기록에 실패하면 예외가 전파되어 트랜잭션이 롤백되고 입찰이 거부됩니다.
+     */
+    public void enqueueAfterCommit(Long productId, Long bidderId, long amount, LocalDateTime bidTime) {
+        PendingBid bid = new PendingBid(productId, bidderId, amount, bidTime);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journal(bid);
+            enqueue(bid);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                journal(bid);
+            }
+
+            @Override
+            public void afterCommit() {
+                enqueue(bid);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    // 롤백된 입찰은 저장할 필요가 없으므로 checkpoint 가 넘어갈 수 있게 표시
+                    bidJournal.markPersisted(bid.journalSequence);
+                }
+            }
+        });
+    }
+
+    public int pendingCount() {
+        return pendingSize.get() + inFlight.size();
+    }
+
+    // 응답 전에 저널에 먼저 기록하여, 배치 저장 전에 JVM 이 종료되어도 입찰 기록을 복구할 수 있게 합니다.
+    // (상품 행은 같은 트랜잭션으로 커밋되므로 마감 시간은 기록하지 않음)
+    private void journal(PendingBid bid) {
+        try {
+            bid.journalSequence = bidJournal.append(bid.productId, bid.bidderId, bid.amount, bid.bidTime, null);
+        } catch (RuntimeException e) {
+            log.error("입찰 저널 기록 실패. 입찰을 거부합니다. 상품 ID {}, 금액 {}", bid.productId, bid.amount, e);
+            throw e;
+        }
+    }
+
+    private void enqueue(PendingBid bid) {
+        pending.add(bid);
+        // 크기 임계값에 도달하면 주기를 기다리지 않고 바로 저장
+        if (pendingSize.incrementAndGet() == batchSize && !flusher.isShutdown()) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("입찰 기록 배치 저장 실패. 다음 주기에 재시도합니다. 대기 건수: {}", pendingCount(), e);
+        }
+    }
+
+    // flush 스레드(또는 종료 시점)에서만 호출
+    private void flush() {
+        while (true) {
+            PendingBid next;
+            while (inFlight.size() < batchSize && (next = pending.poll()) != null) {
+                pendingSize.decrementAndGet();
+                inFlight.add(next);
+            }
+            if (inFlight.isEmpty()) {
+                return;
+            }
+
+            if (failedAttempts >= MAX_BATCH_ATTEMPTS) {
+                insertOneByOne();
+                return;
+            }
+            try {
+                insert(inFlight);
+            } catch (RuntimeException e) {
+                failedAttempts++;
+                throw e;
+            }
+            failedAttempts = 0;
+            log.debug("입찰 기록 {}건 배치 저장 완료.", inFlight.size());
+            inFlight.forEach(bid -> bidJournal.markPersisted(bid.journalSequence));
+            participantCounter.recordAll(biddersByProduct(inFlight));
+
+            boolean full = inFlight.size() == batchSize;
+            inFlight.clear();
+            if (!full) {
+                return;
+            }
+        }
+    }
+
+    // 넣은 순서대로 한 건씩 저장. 일시적인 오류(DB 연결 등)면 남은 입찰을 두고 멈추고, 그 밖의 오류면 해당 입찰만 dead-letter 로 옮김
+    private void insertOneByOne() {
+        while (!inFlight.isEmpty()) {
+            PendingBid bid = inFlight.get(0);
+            try {
+                insert(List.of(bid));
+                participantCounter.recordAll(biddersByProduct(List.of(bid)));
+            } catch (RuntimeException e) {
+                if (BidDeadLetter.isTransient(e)) {
+                    throw e;
+                }
+                bidDeadLetter.record("insert-buffer", bid.productId, bid.bidderId, bid.amount, bid.bidTime, e);
+            }
+            bidJournal.markPersisted(bid.journalSequence);
+            inFlight.remove(0);
+        }
+        failedAttempts = 0;
+    }
+
+    private void insert(List<PendingBid> batch) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<Bid> bids = new ArrayList<>(batch.size());
+            for (PendingBid bid : batch) {
+                bids.add(Bid.builder()
+                        .product(productRepository.getReferenceById(bid.productId))
+                        .bidder(userRepository.getReferenceById(bid.bidderId))
+                        .amount(bid.amount)
+                        .bidTime(bid.bidTime)
+                        .build());
+            }
+            bidRepository.saveAll(bids);
+        });
+    }
+
+    private static Map<Long, Set<Long>> biddersByProduct(List<PendingBid> bids) {
+        Map<Long, Set<Long>> bidders = new HashMap<>();
+        for (PendingBid bid : bids) {
+            bidders.computeIfAbsent(bid.productId, id -> new HashSet<>()).add(bid.bidderId);
+        }
+        return bidders;
+    }
+
+    private static class PendingBid {
+        private final Long productId;
+        private final Long bidderId;
+        private final long amount;
+        private final LocalDateTime bidTime;
+        private long journalSequence;
+
+        PendingBid(Long productId, Long bidderId, long amount, LocalDateTime bidTime) {
+            this.productId = productId;
+            this.bidderId = bidderId;
+            this.amount = amount;
+            this.bidTime = bidTime;
+        }
+    }
+}
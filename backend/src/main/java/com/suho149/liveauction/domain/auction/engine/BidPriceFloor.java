@@ -0,0 +1,71 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.event.PriceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별로 마지막으로 확정된 가격(하한선)을 잠금 없이 보관합니다.
+ *
+ * 인기 경매에서 지는 입찰 대부분은 도착 시점에 이미 현재가 이하이므로, STOMP 수신 스레드에서 이 값과 비교해
+ * 트랜잭션/사용자 조회/행 락 대기 없이 바로 거절합니다. 값은 커밋된 가격 갱신마다 올라가기만 하므로
+ * 실제 현재가보다 높아지지 않으며, 캐시에 없는 상품은 걸러내지 않고 입찰 엔진에 맡깁니다.
+ */
+@Component
+public class BidPriceFloor {
+
+    private final Map<Long, AtomicLong> floors = new ConcurrentHashMap<>();
+    private final Counter rejected;
+
+    public BidPriceFloor(MeterRegistry meterRegistry) {
+        this.rejected = Counter.builder("auction.bid.prefilter.rejected")
+                .description("가격 하한선 캐시로 미리 거절된 입찰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입찰 엔진으로 넘기기 전에 확실히 실패할 입찰을 거절합니다.
+     */
+    public void check(Long productId, Long bidAmount) {
+        if (bidAmount == null) {
+            throw new IllegalArgumentException("입찰 금액을 입력해주세요.");
+        }
+        AtomicLong floor = floors.get(productId);
+        if (floor != null && bidAmount <= floor.get()) {
+            rejected.increment();
+            throw new IllegalArgumentException("현재 가격보다 높은 금액으로 입찰해야 합니다.");
+        }
+    }
+
+    // 커밋된 가격 갱신마다 호출 (하한선은 올라가기만 함)
+    @EventListener
+    public void onPriceChanged(PriceChangedEvent event) {
+        floors.computeIfAbsent(event.getProductId(), id -> new AtomicLong()).accumulateAndGet(event.getNewPrice(), Math::max);
+    }
+
+    /**
+     * 마감된 경매의 하한선을 지웁니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 지우므로, 같은 트랜잭션에서 발행한 마지막 가격 갱신(커밋 후 전송)보다 뒤에 호출하면
+     * 그 갱신으로 하한선이 다시 생기지 않습니다.
+     */
+    public void evict(Long productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    floors.remove(productId);
+                }
+            });
+            return;
+        }
+        floors.remove(productId);
+    }
+}
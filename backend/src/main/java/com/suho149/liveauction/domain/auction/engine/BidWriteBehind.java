@@ -0,0 +1,192 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.entity.Bid;
+import com.suho149.liveauction.domain.auction.journal.BidJournal;
+import com.suho149.liveauction.domain.auction.repository.BidRepository;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.service.NotificationService;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.domain.user.entity.User;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 메모리(또는 Redis)에서 수락된 입찰을 모아 두었다가 한 트랜잭션으로 DB에 반영합니다.
+ * - Product는 상품별 마지막(최고가) 입찰만 조건부 UPDATE 로 반영합니다.
+ * - Bid 행은 반영된 상품의 입찰만 수락된 순서 그대로 저장합니다.
+ * - 입찰 알림은 이 트랜잭션 안에서 발행하여, 커밋 이후에 발송되도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidWriteBehind {
+
+    private final BidRepository bidRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final PlatformTransactionManager transactionManager;
+    private final ParticipantCounter participantCounter;
+    private final BidJournal bidJournal;
+    private final BidDeadLetter bidDeadLetter;
+
+    // 배치 반영을 이 횟수만큼 연속으로 실패하면 건별로 나눠 반영하고, 건별로도 실패한 입찰은 dead-letter 로 옮김
+    static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final ConcurrentLinkedQueue<AcceptedBid> pending = new ConcurrentLinkedQueue<>();
+    // 반영에 실패한 배치. flush 스레드에서만 접근하며, 다음 flush 때 새 입찰보다 먼저 반영합니다.
+    private final List<AcceptedBid> inFlight = new ArrayList<>();
+    private int failedAttempts;
+
+    public void enqueue(AcceptedBid acceptedBid) {
+        pending.add(acceptedBid);
+    }
+
+    public int pendingCount() {
+        return pending.size() + inFlight.size();
+    }
+
+    /**
+     * 대기 중인 입찰을 모두 꺼내 저장합니다. 단일 스레드에서만 호출되어야 합니다.
+     * 트랜잭션이 실패하면 예외를 그대로 던지고, 꺼낸 입찰은 다음 호출에서 다시 시도합니다.
+     * MAX_BATCH_ATTEMPTS 번 연속으로 실패하면 건별로 나눠 반영하여, 저장할 수 없는 입찰만 dead-letter 로 옮깁니다.
+     * @return DB 상태가 메모리 상태와 어긋나 메모리 상태를 다시 적재해야 하는 상품 ID 목록
+     */
+    public Set<Long> flush() {
+        AcceptedBid next;
+        while ((next = pending.poll()) != null) {
+            inFlight.add(next);
+        }
+        if (inFlight.isEmpty()) {
+            return Set.of();
+        }
+        if (failedAttempts >= MAX_BATCH_ATTEMPTS) {
+            return persistOneByOne();
+        }
+        List<AcceptedBid> batch = List.copyOf(inFlight);
+        Set<Long> diverged;
+        try {
+            diverged = persist(batch);
+        } catch (RuntimeException e) {
+            failedAttempts++;
+            throw e;
+        }
+        inFlight.clear();
+        failedAttempts = 0;
+        return diverged;
+    }
+
+    // 수락 순서대로 한 건씩 반영. 일시적인 오류(DB 연결 등)면 남은 입찰을 두고 멈추고, 그 밖의 오류면 해당 입찰만 dead-letter 로 옮김
+    private Set<Long> persistOneByOne() {
+        Set<Long> diverged = new HashSet<>();
+        while (!inFlight.isEmpty()) {
+            AcceptedBid accepted = inFlight.get(0);
+            try {
+                diverged.addAll(persist(List.of(accepted)));
+            } catch (RuntimeException e) {
+                if (BidDeadLetter.isTransient(e)) {
+                    throw e;
+                }
+                bidDeadLetter.record("write-behind", accepted.getProductId(), accepted.getBidderId(),
+                        accepted.getAmount(), accepted.getBidTime(), e);
+                bidJournal.markPersisted(accepted.getJournalSequence());
+                // 메모리 상태에는 반영된 입찰이므로 DB 기준으로 다시 적재
+                diverged.add(accepted.getProductId());
+            }
+            inFlight.remove(0);
+        }
+        failedAttempts = 0;
+        return diverged;
+    }
+
+    /**
+     * 수락된 입찰 묶음을 한 트랜잭션으로 저장합니다. 실패하면 예외를 던지며 아무것도 반영되지 않습니다.
+     * 상품별 마지막 입찰을 조건부 UPDATE 로 먼저 반영하고, 반영된 상품의 입찰만 Bid 로 저장하고 알림을 보냅니다.
+     * 반영되지 않은 상품(즉시 구매, 조기 종료, 마감 등으로 판매 중이 아님)의 입찰은 저장하지 않고 dead-letter 로 옮깁니다.
+     * @return DB 상태가 메모리 상태와 어긋난 상품 ID 목록
+     */
+    public Set<Long> persist(List<AcceptedBid> batch) {
+        Set<Long> diverged = new HashSet<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 상품별 마지막 입찰 (수락 순서를 유지하므로 마지막 값이 최고가)
+            Map<Long, AcceptedBid> latestByProduct = new LinkedHashMap<>();
+            for (AcceptedBid accepted : batch) {
+                latestByProduct.put(accepted.getProductId(), accepted);
+            }
+
+            latestByProduct.forEach((productId, latest) -> {
+                int updated = productRepository.applyAcceptedBid(
+                        productId,
+                        latest.getAmount(),
+                        userRepository.getReferenceById(latest.getBidderId()),
+                        latest.getAuctionEndTime(),
+                        ProductStatus.ON_SALE);
+                if (updated == 0) {
+                    log.warn("상품 ID {} 입찰 반영 실패 (DB 상태와 불일치). 입찰 엔진 상태를 다시 동기화합니다.", productId);
+                    diverged.add(productId);
+                }
+            });
+
+            for (AcceptedBid accepted : batch) {
+                if (diverged.contains(accepted.getProductId())) {
+                    continue;
+                }
+                Product product = productRepository.getReferenceById(accepted.getProductId());
+                User bidder = userRepository.getReferenceById(accepted.getBidderId());
+                bidRepository.save(Bid.builder()
+                        .product(product)
+                        .bidder(bidder)
+                        .amount(accepted.getAmount())
+                        .bidTime(accepted.getBidTime())
+                        .build());
+                sendBidNotifications(accepted);
+            }
+        });
+
+        log.debug("입찰 {}건 DB 반영 완료. (불일치 상품 {}건)", batch.size(), diverged.size());
+        Map<Long, Set<Long>> biddersByProduct = new HashMap<>();
+        for (AcceptedBid accepted : batch) {
+            if (diverged.contains(accepted.getProductId())) {
+                bidDeadLetter.record("diverged", accepted.getProductId(), accepted.getBidderId(), accepted.getAmount(),
+                        accepted.getBidTime(), new IllegalStateException("판매 중이 아니거나 더 높은 가격이 반영된 상품의 입찰입니다."));
+            } else {
+                biddersByProduct.computeIfAbsent(accepted.getProductId(), id -> new HashSet<>()).add(accepted.getBidderId());
+            }
+            bidJournal.markPersisted(accepted.getJournalSequence());
+        }
+        participantCounter.recordAll(biddersByProduct);
+        return diverged;
+    }
+
+    // AuctionService.sendBidNotifications 와 동일한 문구로 알림 발송
+    private void sendBidNotifications(AcceptedBid accepted) {
+        String url = "/products/" + accepted.getProductId();
+        String formattedAmount = NumberFormat.getInstance(Locale.KOREA).format(accepted.getAmount());
+
+        if (accepted.getPreviousBidderId() != null && !accepted.getPreviousBidderId().equals(accepted.getBidderId())) {
+            String content = "'" + accepted.getProductName() + "' 상품에 더 높은 가격(" + formattedAmount + "원)의 입찰이 등록되었습니다.";
+            notificationService.send(userRepository.getReferenceById(accepted.getPreviousBidderId()), NotificationType.BID, content, url);
+        }
+        if (!accepted.getSellerId().equals(accepted.getBidderId())) {
+            String sellerContent = "'" + accepted.getProductName() + "' 상품에 " + formattedAmount + "원의 새로운 입찰이 등록되었습니다.";
+            notificationService.send(userRepository.getReferenceById(accepted.getSellerId()), NotificationType.BID, sellerContent, url);
+        }
+    }
+}
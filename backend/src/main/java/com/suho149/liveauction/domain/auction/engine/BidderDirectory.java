@@ -0,0 +1,46 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입찰자 이메일 → (ID, 이름) 캐시.
+ * 메모리 기반 입찰 엔진은 입찰마다 users 테이블을 조회하지 않도록 이 캐시를 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BidderDirectory {
+
+    private final UserRepository userRepository;
+
+    private final Map<String, BidderRef> bidders = new ConcurrentHashMap<>();
+
+    public BidderRef resolve(String email) {
+        BidderRef cached = bidders.get(email);
+        if (cached != null) {
+            return cached;
+        }
+        BidderRef loaded = userRepository.findByEmail(email)
+                .map(user -> new BidderRef(user.getId(), user.getName()))
+                .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다: " + email));
+        bidders.putIfAbsent(email, loaded);
+        return loaded;
+    }
+
+    @Getter
+    public static class BidderRef {
+        private final Long id;
+        private final String name;
+
+        BidderRef(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시퀀서가 보관하는 상품 한 개의 실시간 경매 상태.
+ * 해당 상품의 메일박스 스레드에서만 읽고 쓰므로 별도의 동기화가 필요 없습니다.
+ */
+@Getter
+class LiveAuctionState {
+
+    private final Long productId;
+    private final String productName;
+    private final Long sellerId;
+    private final long startPrice;
+    private ProductStatus status;
+    private long currentPrice;
+    private Long highestBidderId;
+    private String highestBidderName;
+    private LocalDateTime auctionEndTime;
+
+    LiveAuctionState(Product product) {
+        this.productId = product.getId();
+        this.productName = product.getName();
+        this.sellerId = product.getSeller().getId();
+        this.startPrice = product.getStartPrice();
+        this.status = product.getStatus();
+        this.currentPrice = product.getCurrentPrice();
+        if (product.getHighestBidder() != null) {
+            this.highestBidderId = product.getHighestBidder().getId();
+            this.highestBidderName = product.getHighestBidder().getName();
+        }
+        this.auctionEndTime = product.getAuctionEndTime();
+    }
+
+    void apply(Long bidderId, String bidderName, long amount) {
+        this.highestBidderId = bidderId;
+        this.highestBidderName = bidderName;
+        this.currentPrice = amount;
+    }
+
+    void extendAuctionEndTime(LocalDateTime newEndTime) {
+        this.auctionEndTime = newEndTime;
+    }
+
+    // 즉시 구매, 조기 종료, 마감으로 판매 중 상태를 벗어남
+    void end(ProductStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,33 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.dto.BidRequest;
+import com.suho149.liveauction.domain.auction.service.AuctionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 입찰 엔진. 요청 스레드에서 SELECT ... FOR UPDATE 로 상품 행을 잠근 뒤 입찰을 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "lock", matchIfMissing = true)
+public class LockingBidEngine implements BidEngine {
+
+    private final AuctionService auctionService;
+    private final Timer placement;
+
+    public LockingBidEngine(AuctionService auctionService, MeterRegistry meterRegistry) {
+        this.auctionService = auctionService;
+        // 락 대기 시간을 포함한 처리 시간 (optimistic 엔진과 비교용)
+        this.placement = Timer.builder("auction.bid.placement")
+                .description("입찰 처리 시간")
+                .tag("engine", "lock")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void placeBid(Long productId, BidRequest bidRequest, String email) {
+        placement.record(() -> auctionService.placeBid(productId, bidRequest, email));
+    }
+}
@@ -0,0 +1,92 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.dto.BidRequest;
+import com.suho149.liveauction.domain.auction.service.AuctionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 낙관적 동시성 입찰 엔진. (auction.bid.engine=optimistic)
+ *
+ * 상품 행을 잠그지 않고 입찰을 처리한 뒤 커밋 시점에 Product.version 으로 충돌을 감지합니다.
+ * 충돌하면 지터가 섞인 지수 백오프 후 새 트랜잭션으로 다시 시도하며, max-retries 를 넘으면 실패로 응답합니다.
+ * 경쟁이 적은 상품에서는 알림/자동 입찰 처리 동안 행 락을 잡지 않아도 되므로 락 대기가 사라집니다.
+ *
+ * 충돌/재시도/포기 횟수를 auction.bid.optimistic.* 카운터로 내보내므로, 비관적 락(lock)과 비교해 배포별로 선택할 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "optimistic")
+public class OptimisticBidEngine implements BidEngine {
+
+    private final AuctionService auctionService;
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter exhausted;
+    private final Timer placement;
+
+    @Value("${auction.bid.optimistic.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${auction.bid.optimistic.backoff-ms:10}")
+    private long backoffMs;
+
+    public OptimisticBidEngine(AuctionService auctionService, MeterRegistry meterRegistry) {
+        this.auctionService = auctionService;
+        this.conflicts = Counter.builder("auction.bid.optimistic.conflicts")
+                .description("버전 충돌로 롤백된 입찰 시도 수")
+                .register(meterRegistry);
+        this.retries = Counter.builder("auction.bid.optimistic.retries")
+                .description("충돌 후 다시 시도한 횟수")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("auction.bid.optimistic.exhausted")
+                .description("재시도 한도를 넘겨 실패한 입찰 수")
+                .register(meterRegistry);
+        this.placement = Timer.builder("auction.bid.placement")
+                .description("입찰 처리 시간 (재시도 포함)")
+                .tag("engine", "optimistic")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void placeBid(Long productId, BidRequest bidRequest, String email) {
+        placement.record(() -> placeWithRetry(productId, bidRequest, email));
+    }
+
+    private void placeWithRetry(Long productId, BidRequest bidRequest, String email) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                auctionService.placeBidOptimistic(productId, bidRequest, email);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attempt >= maxRetries) {
+                    exhausted.increment();
+                    log.warn("상품 ID {} 입찰 충돌 재시도 한도 초과. 시도 횟수: {}", productId, attempt + 1);
+                    throw new IllegalStateException("동시에 많은 입찰이 몰려 처리하지 못했습니다. 다시 시도해주세요.");
+                }
+                retries.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 0 ~ backoffMs * 2^attempt 사이의 무작위 대기 (full jitter)
+    private void backoff(int attempt) {
+        long ceiling = backoffMs << Math.min(attempt, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입찰 처리가 중단되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.repository.BidRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품별 입찰 참여자 수를 Redis 에 증분으로 유지합니다.
+ *
+ * - auction:participants:{productId} (set): 참여자 ID. exact-limit 명 이하인 동안은 정확한 수
+ * - auction:participants:{productId}:hll (HyperLogLog): exact-limit 을 넘은 대형 경매의 근사치 (오차 약 0.81%)
+ * - auction:participants:{productId}:ready: DB 의 기존 입찰자를 적재했는지 표시
+ *
+ * 입찰 기록이 DB 에 저장된 뒤 recordAll 로 참여자를 더하고, 상세 조회는 count 로 O(1) 조회합니다.
+ * Redis 에 아직 없는 상품(재시작, 보관 기간 만료)은 처음 조회할 때 DB 에서 한 번 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantCounter {
+
+    private static final String KEY_PREFIX = "auction:participants:";
+    private static final long RETENTION_MILLIS = Duration.ofDays(7).toMillis();
+
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = script("scripts/add-participants.lua");
+    private static final DefaultRedisScript<Long> COUNT_SCRIPT = script("scripts/count-participants.lua");
+
+    private final StringRedisTemplate redisTemplate;
+    private final BidRepository bidRepository;
+
+    @Value("${auction.participants.exact-limit:10000}")
+    private int exactLimit;
+
+    /**
+     * 상품의 입찰 참여자 수. Redis 를 사용할 수 없으면 DB 에서 직접 셉니다.
+     */
+    public long count(Long productId) {
+        try {
+            Long count = redisTemplate.execute(COUNT_SCRIPT, keys(productId));
+            if (count != null && count >= 0) {
+                return count;
+            }
+            return load(productId);
+        } catch (RuntimeException e) {
+            log.warn("참여자 수 캐시 조회 실패. DB 에서 직접 계산합니다. productId: {}", productId, e);
+            return bidRepository.countDistinctBiddersByProductId(productId);
+        }
+    }
+
+    /**
+     * DB 에 저장된 입찰의 참여자를 더합니다. (상품 ID -> 입찰자 ID 목록)
+     * 실패해도 예외를 던지지 않고, 해당 상품을 다음 조회 때 DB 에서 다시 적재하도록 표시를 지웁니다.
+     */
+    public void recordAll(Map<Long, Set<Long>> biddersByProduct) {
+        biddersByProduct.forEach((productId, bidderIds) -> {
+            try {
+                add(productId, bidderIds, false);
+            } catch (RuntimeException e) {
+                log.warn("참여자 수 캐시 갱신 실패. 다음 조회 때 DB 에서 다시 적재합니다. productId: {}", productId, e);
+                invalidate(productId);
+            }
+        });
+    }
+
+    // DB 의 기존 입찰자를 적재 (그 사이 recordAll 로 들어온 참여자와 합쳐짐)
+    private long load(Long productId) {
+        List<Long> bidderIds = bidRepository.findDistinctBidderIdsByProductId(productId);
+        add(productId, bidderIds, true);
+        Long count = redisTemplate.execute(COUNT_SCRIPT, keys(productId));
+        return count != null && count >= 0 ? count : bidderIds.size();
+    }
+
+    private void add(Long productId, Collection<Long> bidderIds, boolean markReady) {
+        List<String> args = new ArrayList<>(bidderIds.size() + 3);
+        args.add(String.valueOf(exactLimit));
+        args.add(String.valueOf(RETENTION_MILLIS));
+        args.add(markReady ? "1" : "0");
+        for (Long bidderId : bidderIds) {
+            args.add(String.valueOf(bidderId));
+        }
+        redisTemplate.execute(ADD_SCRIPT, keys(productId), args.toArray());
+    }
+
+    private void invalidate(Long productId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + productId + ":ready");
+        } catch (RuntimeException e) {
+            log.warn("참여자 수 캐시 무효화 실패. productId: {}", productId, e);
+        }
+    }
+
+    private static List<String> keys(Long productId) {
+        String base = KEY_PREFIX + productId;
+        return List.of(base, base + ":hll", base + ":ready");
+    }
+
+    private static DefaultRedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
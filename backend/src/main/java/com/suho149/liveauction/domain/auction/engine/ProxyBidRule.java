@@ -0,0 +1,80 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 자동 입찰(프록시 입찰) 경쟁의 최종 결과를 한 번에 계산하는 순수 함수.
+ *
+ * 가장 높은 한도의 자동 입찰자가 이기며, 가격은 "2순위 한도 + 최소 증가액"(최고 한도 이내)까지만 오릅니다.
+ * 단계마다 입찰을 한 건씩 저장하던 기존 루프와 최종 가격/최고 입찰자는 같지만,
+ * 중간 단계는 저장하지 않고 필요한 경우 impliedAmounts 로만 남깁니다.
+ */
+public final class ProxyBidRule {
+
+    public static final long MIN_BID_INCREMENT = 1000;
+
+    private ProxyBidRule() {
+    }
+
+    /**
+     * @param proxies 최대 금액 내림차순으로 정렬된 자동 입찰 목록
+     * @param currentHighestBidderId 현재 최고 입찰자 (없으면 null)
+     * @return 자동 입찰로 바뀌는 최종 결과. 현재 상태에서 더 오를 가격이 없으면 null
+     */
+    public static Resolution resolve(List<AutoBidProxy> proxies, long currentPrice, Long currentHighestBidderId, long startPrice) {
+        if (proxies.isEmpty()) {
+            return null;
+        }
+        AutoBidProxy top = proxies.get(0);
+        if (top.getMaxAmount() <= currentPrice) {
+            return null;
+        }
+
+        List<Long> impliedAmounts = new ArrayList<>(1);
+        long price = currentPrice;
+
+        // 1단계: 1순위가 선두가 아니면 우선 한 단계 위로 올라가 선두를 잡음
+        if (!top.getUserId().equals(currentHighestBidderId)) {
+            long base = currentHighestBidderId == null ? startPrice : currentPrice;
+            long firstAmount = Math.min(top.getMaxAmount(), base + MIN_BID_INCREMENT);
+            if (firstAmount <= currentPrice) {
+                return null;
+            }
+            price = firstAmount;
+        }
+
+        // 2단계: 2순위 한도가 아직 남아 있으면 그 한도 + 최소 증가액까지 올림
+        if (proxies.size() > 1 && proxies.get(1).getMaxAmount() > price) {
+            long finalAmount = Math.min(top.getMaxAmount(), proxies.get(1).getMaxAmount() + MIN_BID_INCREMENT);
+            if (finalAmount > price) {
+                if (price > currentPrice) {
+                    impliedAmounts.add(price);
+                }
+                price = finalAmount;
+            }
+        }
+
+        if (price <= currentPrice) {
+            return null;
+        }
+        return new Resolution(top, price, impliedAmounts);
+    }
+
+    @Getter
+    public static class Resolution {
+        private final AutoBidProxy winner;
+        private final long amount;
+        // 한 번에 건너뛴 중간 입찰 금액 (감사 로그용, 오름차순)
+        private final List<Long> impliedAmounts;
+
+        Resolution(AutoBidProxy winner, long amount, List<Long> impliedAmounts) {
+            this.winner = winner;
+            this.amount = amount;
+            this.impliedAmounts = Collections.unmodifiableList(impliedAmounts);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis에 보관하는 상품별 실시간 경매 상태와 DB 반영 대기 목록을 다룹니다.
+ *
+ * - auction:live:{productId} (hash): price, bidderId, bidderName, endAt(epoch ms), sellerId, status, startPrice
+ * - auction:accepted (list): 수락되었지만 아직 DB에 반영되지 않은 입찰 "productId|bidderId|previousBidderId|amount|bidAt|endAt"
+ *
+ * 입찰 검증과 갱신은 Lua 스크립트 하나로 원자적으로 수행되므로, 여러 백엔드 인스턴스가 동시에 입찰을 받아도 안전합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "redis")
+public class RedisAuctionStore {
+
+    private static final String AUCTION_KEY_PREFIX = "auction:live:";
+    private static final String ACCEPTED_KEY = "auction:accepted";
+
+    private static final long EXTENSION_THRESHOLD_SECONDS = 60; // AuctionService와 동일한 연장 규칙
+    private static final long EXTENSION_DURATION_MILLIS = Duration.ofSeconds(60).toMillis();
+    private static final long RETENTION_AFTER_END_MILLIS = Duration.ofDays(1).toMillis(); // 마감 후 해시 보관 기간
+
+    private static final DefaultRedisScript<List> PLACE_BID_SCRIPT = script("scripts/place-bid.lua", List.class);
+    private static final DefaultRedisScript<Long> SYNC_AUCTION_SCRIPT = script("scripts/sync-auction.lua", Long.class);
+    private static final DefaultRedisScript<Long> END_AUCTION_SCRIPT = script("scripts/end-auction.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @SuppressWarnings("unchecked")
+    public RedisBidOutcome tryBid(Long productId, Long bidderId, String bidderName, long amount) {
+        List<String> reply = redisTemplate.execute(PLACE_BID_SCRIPT,
+                List.of(auctionKey(productId), ACCEPTED_KEY),
+                String.valueOf(productId),
+                String.valueOf(bidderId),
+                bidderName,
+                String.valueOf(amount),
+                String.valueOf(EXTENSION_THRESHOLD_SECONDS),
+                String.valueOf(EXTENSION_DURATION_MILLIS),
+                String.valueOf(RETENTION_AFTER_END_MILLIS));
+        return RedisBidOutcome.from(reply);
+    }
+
+    /**
+     * DB의 상품 상태를 Redis에 반영합니다. (아직 반영되지 않은 더 높은 입찰이 Redis에 있으면 가격은 유지)
+     * @param product seller, highestBidder 가 fetch 된 상품
+     */
+    public void sync(Product product) {
+        boolean hasBidder = product.getHighestBidder() != null;
+        redisTemplate.execute(SYNC_AUCTION_SCRIPT,
+                List.of(auctionKey(product.getId())),
+                String.valueOf(product.getCurrentPrice()),
+                hasBidder ? String.valueOf(product.getHighestBidder().getId()) : "",
+                hasBidder ? product.getHighestBidder().getName() : "",
+                String.valueOf(toEpochMillis(product.getAuctionEndTime())),
+                String.valueOf(product.getSeller().getId()),
+                product.getStatus().name(),
+                String.valueOf(product.getStartPrice()),
+                String.valueOf(RETENTION_AFTER_END_MILLIS));
+    }
+
+    /**
+     * 경매가 판매 중 상태를 벗어났음을 Redis 에 반영합니다. 이후 Lua 스크립트는 입찰을 ENDED 로 거절합니다.
+     * 해시가 없으면 아무것도 하지 않습니다.
+     */
+    public void end(Long productId, ProductStatus status) {
+        redisTemplate.execute(END_AUCTION_SCRIPT, List.of(auctionKey(productId)), status.name());
+    }
+
+    /**
+     * 자동 입찰 계산에 필요한 현재 상태를 읽습니다.
+     * @return Redis에 상태가 없으면 null
+     */
+    public Snapshot read(Long productId) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        List<String> values = hash.multiGet(auctionKey(productId), List.of("price", "bidderId", "startPrice"));
+        if (values.get(0) == null) {
+            return null;
+        }
+        String bidderId = values.get(1);
+        return new Snapshot(
+                Long.parseLong(values.get(0)),
+                bidderId == null || bidderId.isEmpty() ? null : Long.valueOf(bidderId),
+                Long.parseLong(values.get(2)));
+    }
+
+    // --- DB 반영 대기 목록 ---
+
+    public List<String> peekAccepted(int count) {
+        return redisTemplate.opsForList().range(ACCEPTED_KEY, 0, count - 1);
+    }
+
+    // peekAccepted 로 읽은 앞쪽 count 건을 제거 (입찰은 뒤쪽에만 추가되므로 안전)
+    public void removeAccepted(int count) {
+        redisTemplate.opsForList().trim(ACCEPTED_KEY, count, -1);
+    }
+
+    public long acceptedBacklog() {
+        Long size = redisTemplate.opsForList().size(ACCEPTED_KEY);
+        return size != null ? size : 0;
+    }
+
+    // --- 시작 시 DB 와 맞추기 ---
+
+    // Redis 에 경매 상태가 있는 상품 ID 목록
+    public Set<Long> liveProductIds() {
+        Set<Long> productIds = new HashSet<>();
+        ScanOptions options = ScanOptions.scanOptions().match(AUCTION_KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> productIds.add(Long.valueOf(key.substring(AUCTION_KEY_PREFIX.length()))));
+        }
+        return productIds;
+    }
+
+    // DB 에 없는 상품의 경매 상태 삭제
+    public void evict(Long productId) {
+        redisTemplate.delete(auctionKey(productId));
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String auctionKey(Long productId) {
+        return AUCTION_KEY_PREFIX + productId;
+    }
+
+    private static <T> DefaultRedisScript<T> script(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(resultType);
+        return script;
+    }
+
+    @Getter
+    public static class Snapshot {
+        private final long currentPrice;
+        private final Long highestBidderId;
+        private final long startPrice;
+
+        Snapshot(long currentPrice, Long highestBidderId, long startPrice) {
+            this.currentPrice = currentPrice;
+            this.highestBidderId = highestBidderId;
+            this.startPrice = startPrice;
+        }
+    }
+}
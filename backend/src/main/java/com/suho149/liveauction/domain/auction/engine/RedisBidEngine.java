@@ -0,0 +1,129 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.broadcast.PriceTickBroadcaster;
+import com.suho149.liveauction.domain.auction.dto.BidRequest;
+import com.suho149.liveauction.domain.auction.dto.BidResponse;
+import com.suho149.liveauction.domain.auction.engine.BidderDirectory.BidderRef;
+import com.suho149.liveauction.domain.auction.event.AuctionEndedEvent;
+import com.suho149.liveauction.domain.auction.event.AutoBidChangedEvent;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Redis Lua 스크립트로 입찰을 원자적으로 수락하는 입찰 엔진. (auction.bid.engine=redis)
+ *
+ * 검증(판매자 여부, 현재가, 마감 여부)과 현재가/최고 입찰자/마감 시간 갱신이 Redis 안에서 한 번에 처리되므로
+ * 요청 스레드는 DB 락 없이 Redis 왕복 한 번으로 입찰 결과를 알 수 있고, 여러 백엔드 인스턴스에서도 같은 순서가 보장됩니다.
+ * 수락된 입찰은 Redis 대기 목록에 쌓이며 RedisBidFlusher가 MariaDB에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "redis")
+public class RedisBidEngine implements BidEngine {
+
+    private final RedisAuctionStore auctionStore;
+    private final ProductRepository productRepository;
+    private final AutoBidOrderBook autoBidOrderBook;
+    private final BidderDirectory bidderDirectory;
+    private final PriceTickBroadcaster priceTickBroadcaster;
+
+    @Override
+    public void placeBid(Long productId, BidRequest bidRequest, String email) {
+        BidderRef bidder = bidderDirectory.resolve(email);
+        long bidAmount = bidRequest.getBidAmount();
+
+        RedisBidOutcome outcome = auctionStore.tryBid(productId, bidder.getId(), bidder.getName(), bidAmount);
+        if (outcome.getResult() == RedisBidOutcome.Result.MISSING) {
+            seed(productId);
+            outcome = auctionStore.tryBid(productId, bidder.getId(), bidder.getName(), bidAmount);
+        }
+
+        switch (outcome.getResult()) {
+            case ACCEPTED -> { }
+            case SELLER -> throw new IllegalStateException("자신이 등록한 상품에는 입찰할 수 없습니다.");
+            case TOO_LOW -> throw new IllegalArgumentException("현재 가격보다 높은 금액으로 입찰해야 합니다.");
+            default -> throw new IllegalArgumentException("경매가 종료된 상품입니다.");
+        }
+
+        broadcast(productId, bidAmount, bidder.getName(), outcome.getAuctionEndTime());
+        resolveProxies(productId);
+    }
+
+    /**
+     * 자동 입찰 설정이 바뀌면 (커밋 이후, AutoBidOrderBook 갱신 다음) 경쟁을 재계산합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAutoBidChanged(AutoBidChangedEvent event) {
+        if (auctionStore.read(event.getProductId()) == null) {
+            seed(event.getProductId());
+        }
+        resolveProxies(event.getProductId());
+    }
+
+    /**
+     * 경매가 판매 중 상태를 벗어나면 (커밋 이후) Redis 해시의 상태를 바꿔 더 이상 입찰을 수락하지 않습니다.
+     * 그 전에 수락되어 대기 목록에 남은 입찰은 RedisBidFlusher 반영 단계에서 불일치로 감지되어 저장되지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuctionEnded(AuctionEndedEvent event) {
+        try {
+            auctionStore.end(event.getProductId(), event.getStatus());
+        } catch (RuntimeException e) {
+            // 반영하지 못하면 그 뒤에 수락된 입찰이 반영 단계에서 불일치로 감지되어 Redis 해시가 DB 기준으로 다시 맞춰짐
+            log.warn("상품 ID {} Redis 경매 종료 반영 실패", event.getProductId(), e);
+        }
+    }
+
+    // 자동 입찰 경쟁의 최종 결과를 한 번에 계산해 Lua 스크립트로 한 번만 수락합니다.
+    private void resolveProxies(Long productId) {
+        List<AutoBidProxy> proxies = autoBidOrderBook.topTwo(productId);
+        if (proxies.isEmpty()) {
+            return;
+        }
+        RedisAuctionStore.Snapshot snapshot = auctionStore.read(productId);
+        if (snapshot == null) {
+            return;
+        }
+
+        ProxyBidRule.Resolution resolution = ProxyBidRule.resolve(proxies, snapshot.getCurrentPrice(),
+                snapshot.getHighestBidderId(), snapshot.getStartPrice());
+        if (resolution == null) {
+            return;
+        }
+        AutoBidProxy winner = resolution.getWinner();
+        RedisBidOutcome outcome = auctionStore.tryBid(productId, winner.getUserId(), winner.getUserName(), resolution.getAmount());
+        if (!outcome.isAccepted()) {
+            // 그 사이 더 높은 입찰이 들어왔다면 그 입찰을 처리한 쪽에서 다시 계산합니다.
+            log.debug("상품 ID {} 자동 입찰 반영 중단. 결과: {}", productId, outcome.getResult());
+            return;
+        }
+        broadcast(productId, resolution.getAmount(), winner.getUserName(), outcome.getAuctionEndTime());
+    }
+
+    private void seed(Long productId) {
+        Product product = productRepository.findByIdWithBidders(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        auctionStore.sync(product);
+        log.debug("상품 ID {} Redis 경매 상태 적재. 현재가: {}", productId, product.getCurrentPrice());
+    }
+
+    private void broadcast(Long productId, long amount, String bidderName, LocalDateTime auctionEndTime) {
+        BidResponse response = BidResponse.builder()
+                .productId(productId)
+                .newPrice(amount)
+                .bidderName(bidderName)
+                .auctionEndTime(auctionEndTime)
+                .build();
+        priceTickBroadcaster.publish(response);
+    }
+}
@@ -0,0 +1,226 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.scheduler.JobLease;
+import com.suho149.liveauction.scheduler.JobLeaseLock;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 대기 목록(auction:accepted)에 쌓인 입찰을 주기적으로 MariaDB에 반영합니다.
+ *
+ * 목록 앞쪽을 읽어 한 트랜잭션으로 저장한 뒤, 커밋이 끝나면 그만큼만 목록에서 제거합니다.
+ * 커밋 직후 제거 전에 프로세스가 죽으면 같은 입찰이 한 번 더 저장될 수 있습니다. (at-least-once)
+ * 여러 인스턴스가 떠 있어도 펜싱 토큰이 있는 작업 잠금(JobLeaseLock)으로 한 곳에서만 반영하며,
+ * 잠금은 반영하는 동안 계속 갱신되므로 느린 배치 중에 다른 노드가 같은 입찰을 반영하지 않습니다.
+ * 같은 배치가 MAX_BATCH_ATTEMPTS 번 연속 실패하면 한 건씩 반영하고, 저장할 수 없는 입찰은 dead-letter 로 옮깁니다.
+ * 시작 시에는 대기 목록을 비운 뒤 Redis 경매 상태를 DB 와 맞춥니다. (reconcile)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "redis")
+public class RedisBidFlusher {
+
+    private static final String FLUSH_JOB = "flush-redis-bids";
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final RedisAuctionStore auctionStore;
+    private final BidWriteBehind writeBehind;
+    private final ProductRepository productRepository;
+    private final JobLeaseLock jobLeaseLock;
+    private final BidDeadLetter bidDeadLetter;
+
+    @Value("${auction.bid.redis.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${auction.bid.redis.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    private ScheduledExecutorService flusher;
+    // 대기 목록 앞쪽 배치가 연속으로 실패한 횟수 (flush 스레드에서만 접근)
+    private int failedAttempts;
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("bid-redis-flusher-"));
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Redis 입찰 반영 시작. flushInterval={}ms, batchSize={}", flushIntervalMs, flushBatchSize);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Redis 입찰 DB 반영 실패. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 시작 시 Redis 와 DB 의 경매 상태를 맞춥니다.
+     * 1. 대기 목록에 남은 입찰을 먼저 DB 에 반영 (Redis 가 앞선 부분)
+     * 2. Redis 에 상태가 있는 상품과 DB 의 판매 중 상품을 DB 기준으로 다시 적재
+     *    (Redis 에 더 높은 가격이 남아 있으면 유지하는 sync 규칙을 따름. 종료/삭제된 상품도 여기서 정리됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            flush();
+            Set<Long> productIds = new HashSet<>(auctionStore.liveProductIds());
+            productIds.addAll(productRepository.findIdsByStatus(ProductStatus.ON_SALE));
+
+            List<Long> ids = new ArrayList<>(productIds);
+            int synced = 0;
+            int evicted = 0;
+            for (int from = 0; from < ids.size(); from += RECONCILE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + RECONCILE_CHUNK_SIZE));
+                Map<Long, Product> products = productRepository.findAllWithBiddersByIdIn(chunk).stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity()));
+                for (Long productId : chunk) {
+                    Product product = products.get(productId);
+                    if (product == null) {
+                        auctionStore.evict(productId);
+                        evicted++;
+                    } else {
+                        auctionStore.sync(product);
+                        synced++;
+                    }
+                }
+            }
+            log.info("Redis 경매 상태 정합성 맞춤 완료. 동기화 {}건, 삭제 {}건", synced, evicted);
+        } catch (RuntimeException e) {
+            // 맞추지 못한 상품은 입찰 시(MISSING) 또는 반영 시(diverged) 다시 적재됨
+            log.error("Redis 경매 상태 정합성 맞춤 실패", e);
+        }
+    }
+
+    /**
+     * 대기 목록이 빌 때까지 배치 단위로 반영합니다. 다른 인스턴스가 반영 중이면 아무것도 하지 않습니다.
+     */
+    void flush() {
+        jobLeaseLock.runExclusively(FLUSH_JOB, this::flush);
+    }
+
+    private void flush(JobLease lease) {
+        List<String> records;
+        do {
+            lease.checkHeld();
+            records = auctionStore.peekAccepted(flushBatchSize);
+            if (records == null || records.isEmpty()) {
+                return;
+            }
+            if (failedAttempts >= MAX_BATCH_ATTEMPTS) {
+                flushOneByOne(records, lease);
+                continue;
+            }
+            Set<Long> diverged;
+            try {
+                diverged = writeBehind.persist(toAcceptedBids(records));
+            } catch (RuntimeException e) {
+                failedAttempts++;
+                throw e;
+            }
+            failedAttempts = 0;
+            lease.checkHeld();
+            auctionStore.removeAccepted(records.size());
+            diverged.forEach(this::resync);
+        } while (records.size() == flushBatchSize);
+    }
+
+    // 앞쪽부터 한 건씩 반영. 일시적인 오류면 멈추고 다음 주기에 재시도, 그 밖의 오류면 해당 입찰을 dead-letter 로 옮기고 목록에서 제거
+    private void flushOneByOne(List<String> records, JobLease lease) {
+        for (String record : records) {
+            lease.checkHeld();
+            try {
+                writeBehind.persist(toAcceptedBids(List.of(record))).forEach(this::resync);
+            } catch (RuntimeException e) {
+                if (BidDeadLetter.isTransient(e)) {
+                    throw e;
+                }
+                deadLetter(record, e);
+            }
+            auctionStore.removeAccepted(1);
+        }
+        failedAttempts = 0;
+    }
+
+    private void deadLetter(String record, RuntimeException cause) {
+        String[] fields = record.split("\\|", -1);
+        try {
+            Long productId = Long.valueOf(fields[0]);
+            bidDeadLetter.record("redis", productId, Long.valueOf(fields[1]), Long.parseLong(fields[3]),
+                    RedisAuctionStore.toLocalDateTime(Long.parseLong(fields[4])), cause);
+            // Redis 에는 수락된 입찰이므로 DB 기준으로 다시 맞춤
+            resync(productId);
+        } catch (RuntimeException malformed) {
+            bidDeadLetter.record("redis", null, null, 0, null, cause);
+            log.error("형식이 잘못된 입찰 레코드: {}", record);
+        }
+    }
+
+    // DB 상태가 바뀐 상품(즉시 구매, 조기 종료 등)은 Redis 해시를 DB 기준으로 다시 맞춥니다.
+    private void resync(Long productId) {
+        productRepository.findByIdWithBidders(productId).ifPresent(auctionStore::sync);
+    }
+
+    // "productId|bidderId|previousBidderId|amount|bidAt|endAt" 형식의 레코드를 AcceptedBid로 변환
+    private List<AcceptedBid> toAcceptedBids(List<String> records) {
+        Set<Long> productIds = new HashSet<>();
+        List<String[]> parsed = new ArrayList<>(records.size());
+        for (String record : records) {
+            String[] fields = record.split("\\|", -1);
+            parsed.add(fields);
+            productIds.add(Long.valueOf(fields[0]));
+        }
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<AcceptedBid> batch = new ArrayList<>(parsed.size());
+        for (String[] fields : parsed) {
+            Product product = products.get(Long.valueOf(fields[0]));
+            if (product == null) {
+                log.warn("삭제된 상품의 입찰은 반영하지 않습니다. 레코드: {}", String.join("|", fields));
+                continue;
+            }
+            batch.add(AcceptedBid.builder()
+                    .productId(product.getId())
+                    .productName(product.getName())
+                    .sellerId(product.getSeller().getId())
+                    .bidderId(Long.valueOf(fields[1]))
+                    .previousBidderId(fields[2].isEmpty() ? null : Long.valueOf(fields[2]))
+                    .amount(Long.parseLong(fields[3]))
+                    .bidTime(RedisAuctionStore.toLocalDateTime(Long.parseLong(fields[4])))
+                    .auctionEndTime(RedisAuctionStore.toLocalDateTime(Long.parseLong(fields[5])))
+                    .build());
+        }
+        return batch;
+    }
+}
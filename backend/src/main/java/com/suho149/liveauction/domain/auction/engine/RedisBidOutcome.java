@@ -0,0 +1,48 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * place-bid.lua 실행 결과.
+ */
+@Getter
+class RedisBidOutcome {
+
+    enum Result {
+        ACCEPTED, // 수락됨
+        MISSING,  // Redis에 경매 상태가 없음 (DB에서 적재 필요)
+        SELLER,   // 판매자 본인 입찰
+        TOO_LOW,  // 현재가 이하 금액
+        ENDED     // 판매 중이 아니거나 마감 시간 경과
+    }
+
+    private final Result result;
+    private final long currentPrice;
+    private final LocalDateTime auctionEndTime;
+    private final Long previousBidderId;
+
+    private RedisBidOutcome(Result result, long currentPrice, LocalDateTime auctionEndTime, Long previousBidderId) {
+        this.result = result;
+        this.currentPrice = currentPrice;
+        this.auctionEndTime = auctionEndTime;
+        this.previousBidderId = previousBidderId;
+    }
+
+    static RedisBidOutcome from(List<String> reply) {
+        Result result = Result.valueOf(reply.get(0));
+        if (result == Result.MISSING) {
+            return new RedisBidOutcome(result, 0, null, null);
+        }
+        long currentPrice = Long.parseLong(reply.get(1));
+        LocalDateTime endTime = RedisAuctionStore.toLocalDateTime(Long.parseLong(reply.get(2)));
+        Long previousBidderId = reply.size() > 3 && !reply.get(3).isEmpty() ? Long.valueOf(reply.get(3)) : null;
+        return new RedisBidOutcome(result, currentPrice, endTime, previousBidderId);
+    }
+
+    boolean isAccepted() {
+        return result == Result.ACCEPTED;
+    }
+}
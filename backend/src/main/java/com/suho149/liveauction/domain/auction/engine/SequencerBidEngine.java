@@ -0,0 +1,332 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.broadcast.PriceTickBroadcaster;
+import com.suho149.liveauction.domain.auction.dto.BidRequest;
+import com.suho149.liveauction.domain.auction.dto.BidResponse;
+import com.suho149.liveauction.domain.auction.engine.BidderDirectory.BidderRef;
+import com.suho149.liveauction.domain.auction.event.AuctionEndedEvent;
+import com.suho149.liveauction.domain.auction.event.AutoBidChangedEvent;
+import com.suho149.liveauction.domain.auction.journal.BidJournal;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 상품별 단일 작성자(single-writer) 시퀀서 입찰 엔진. (auction.bid.engine=sequencer)
+ *
+ * 상품마다 메일박스를 하나씩 두고, 같은 상품의 입찰은 메일박스에 쌓인 순서대로 한 번에 하나씩만 처리합니다.
+ * 검증과 수락은 메모리 상태(LiveAuctionState)만으로 끝나므로 요청 스레드는 DB 락을 잡지 않으며,
+ * Bid 저장과 Product 현재가/최고 입찰자 반영은 BidWriteBehind가 비동기로 처리합니다.
+ *
+ * 즉시 구매, 조기 종료, 마감처럼 DB를 직접 바꾸는 경로는 커밋 이후 AuctionEndedEvent 로 상태 변경을 같은 메일박스에
+ * 넣으므로, 그 뒤에 처리되는 입찰은 거절됩니다. 그 전에 수락된 입찰은 write-behind 반영 단계에서 불일치로 감지되어
+ * 저장되지 않으며 (dead-letter), 해당 상품의 메모리 상태는 버리고 DB에서 다시 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid.engine", havingValue = "sequencer")
+public class SequencerBidEngine implements BidEngine {
+
+    private static final long EXTENSION_THRESHOLD_SECONDS = 60; // AuctionService와 동일한 연장 규칙
+    private static final long EXTENSION_DURATION_SECONDS = 60;
+    private static final int MAILBOX_BATCH_SIZE = 64; // 한 번 스케줄될 때 처리할 최대 메시지 수 (공정성)
+    private static final long IDLE_EVICTION_GRACE_MINUTES = 1;
+
+    private final ProductRepository productRepository;
+    private final AutoBidOrderBook autoBidOrderBook;
+    private final BidderDirectory bidderDirectory;
+    private final PriceTickBroadcaster priceTickBroadcaster;
+    private final BidWriteBehind writeBehind;
+    private final BidJournal bidJournal;
+
+    @Value("${auction.bid.sequencer.threads:4}")
+    private int threads;
+
+    @Value("${auction.bid.sequencer.accept-timeout-ms:2000}")
+    private long acceptTimeoutMs;
+
+    @Value("${auction.bid.sequencer.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private ExecutorService workers;
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    void start() {
+        workers = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("bid-sequencer-"));
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("bid-write-behind-"));
+        flusher.scheduleWithFixedDelay(this::flushAndEvict, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("시퀀서 입찰 엔진 시작. workers={}, flushInterval={}ms", threads, flushIntervalMs);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        // 종료 직전까지 수락된 입찰을 마지막으로 반영
+        writeBehind.flush();
+    }
+
+    @Override
+    public void placeBid(Long productId, BidRequest bidRequest, String email) {
+        BidderRef bidder = bidderDirectory.resolve(email);
+        long bidAmount = bidRequest.getBidAmount();
+
+        CompletableFuture<Void> accepted = submit(productId, mailbox -> acceptManualBid(mailbox.state(), bidder, bidAmount));
+        awaitAcceptance(accepted);
+    }
+
+    /**
+     * 자동 입찰 설정이 바뀌면 (커밋 이후, AutoBidOrderBook 갱신 다음) 경쟁을 재계산합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAutoBidChanged(AutoBidChangedEvent event) {
+        submit(event.getProductId(), mailbox -> resolveProxies(mailbox.state()));
+    }
+
+    /**
+     * 경매가 판매 중 상태를 벗어나면 (커밋 이후) 메일박스에 상태 변경을 넣습니다.
+     * 메일박스 순서대로 처리되므로 이미 쌓여 있던 입찰 다음, 새로 들어오는 입찰 앞에 반영됩니다.
+     * 메일박스가 없는 상품은 다음 입찰 때 DB에서 종료된 상태를 적재합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuctionEnded(AuctionEndedEvent event) {
+        if (!mailboxes.containsKey(event.getProductId())) {
+            return;
+        }
+        submit(event.getProductId(), mailbox -> {
+            if (mailbox.state != null) {
+                mailbox.state.end(event.getStatus());
+            }
+        });
+    }
+
+    public int activeAuctionCount() {
+        return mailboxes.size();
+    }
+
+    // --- 메일박스 스레드에서 실행되는 로직 ---
+
+    private void acceptManualBid(LiveAuctionState state, BidderRef bidder, long bidAmount) {
+        if (state.getSellerId().equals(bidder.getId())) {
+            throw new IllegalStateException("자신이 등록한 상품에는 입찰할 수 없습니다.");
+        }
+        if (bidAmount <= state.getCurrentPrice()) {
+            throw new IllegalArgumentException("현재 가격보다 높은 금액으로 입찰해야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (state.getStatus() != ProductStatus.ON_SALE || now.isAfter(state.getAuctionEndTime())) {
+            throw new IllegalArgumentException("경매가 종료된 상품입니다.");
+        }
+
+        long secondsUntilEnd = Duration.between(now, state.getAuctionEndTime()).getSeconds();
+        if (secondsUntilEnd > 0 && secondsUntilEnd <= EXTENSION_THRESHOLD_SECONDS) {
+            LocalDateTime newEndTime = now.plusSeconds(EXTENSION_DURATION_SECONDS);
+            state.extendAuctionEndTime(newEndTime);
+            log.info("상품 ID {} 경매 시간 연장. 새 마감 시간: {}", state.getProductId(), newEndTime);
+        }
+
+        accept(state, bidder.getId(), bidder.getName(), bidAmount, now);
+        resolveProxies(state);
+    }
+
+    // 자동 입찰 경쟁은 최종 결과만 한 번 수락 (입찰 한 건, 브로드캐스트 한 번)
+    private void resolveProxies(LiveAuctionState state) {
+        if (state.getStatus() != ProductStatus.ON_SALE || LocalDateTime.now().isAfter(state.getAuctionEndTime())) {
+            return;
+        }
+        ProxyBidRule.Resolution resolution = ProxyBidRule.resolve(autoBidOrderBook.topTwo(state.getProductId()),
+                state.getCurrentPrice(), state.getHighestBidderId(), state.getStartPrice());
+        if (resolution == null) {
+            return;
+        }
+        AutoBidProxy winner = resolution.getWinner();
+        accept(state, winner.getUserId(), winner.getUserName(), resolution.getAmount(), LocalDateTime.now());
+    }
+
+    private void accept(LiveAuctionState state, Long bidderId, String bidderName, long amount, LocalDateTime bidTime) {
+        // 상태를 바꾸기 전에 저널에 기록 (기록에 실패하면 입찰도 수락하지 않음)
+        long journalSequence = bidJournal.append(state.getProductId(), bidderId, amount, bidTime, state.getAuctionEndTime());
+        Long previousBidderId = state.getHighestBidderId();
+        state.apply(bidderId, bidderName, amount);
+
+        writeBehind.enqueue(AcceptedBid.builder()
+                .productId(state.getProductId())
+                .productName(state.getProductName())
+                .sellerId(state.getSellerId())
+                .bidderId(bidderId)
+                .previousBidderId(previousBidderId)
+                .amount(amount)
+                .bidTime(bidTime)
+                .auctionEndTime(state.getAuctionEndTime())
+                .journalSequence(journalSequence)
+                .build());
+
+        BidResponse response = BidResponse.builder()
+                .productId(state.getProductId())
+                .newPrice(amount)
+                .bidderName(bidderName)
+                .auctionEndTime(state.getAuctionEndTime())
+                .build();
+        priceTickBroadcaster.publish(response);
+    }
+
+    private LiveAuctionState loadState(Long productId) {
+        Product product = productRepository.findByIdWithBidders(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        LiveAuctionState state = new LiveAuctionState(product);
+        log.debug("상품 ID {} 시퀀서 상태 적재. 현재가: {}", productId, state.getCurrentPrice());
+        return state;
+    }
+
+    // --- 메일박스 관리 ---
+
+    private CompletableFuture<Void> submit(Long productId, Consumer<Mailbox> command) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        // compute 안에서 enqueue 해야 유휴 메일박스 제거와 경합하지 않습니다.
+        Mailbox mailbox = mailboxes.compute(productId, (id, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(id);
+            target.queue.add(new Envelope(command, done));
+            return target;
+        });
+        mailbox.schedule();
+        return done;
+    }
+
+    private void awaitAcceptance(CompletableFuture<Void> accepted) {
+        try {
+            accepted.get(acceptTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("입찰 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("입찰 결과를 확인하지 못했습니다. 잠시 후 현재가를 확인해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입찰 처리가 중단되었습니다.");
+        }
+    }
+
+    private void flushAndEvict() {
+        try {
+            for (Long productId : writeBehind.flush()) {
+                submit(productId, mailbox -> mailbox.state = null);
+            }
+        } catch (Exception e) {
+            log.error("입찰 write-behind 반영 실패. 다음 주기에 재시도합니다. 대기 건수: {}", writeBehind.pendingCount(), e);
+            return;
+        }
+
+        // 마감이 지나고 할 일이 없는 메일박스 정리
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(IDLE_EVICTION_GRACE_MINUTES);
+        for (Long productId : mailboxes.keySet()) {
+            mailboxes.computeIfPresent(productId, (id, mailbox) -> mailbox.isIdle() && mailbox.isExpired(threshold) ? null : mailbox);
+        }
+    }
+
+    private static class Envelope {
+        private final Consumer<Mailbox> command;
+        private final CompletableFuture<Void> done;
+
+        Envelope(Consumer<Mailbox> command, CompletableFuture<Void> done) {
+            this.command = command;
+            this.done = done;
+        }
+    }
+
+    /**
+     * 상품 한 개의 메시지 큐. 공유 워커 풀 위에서 동작하지만, scheduled 플래그로 한 번에 한 스레드만 실행합니다.
+     */
+    private class Mailbox implements Runnable {
+        private final Long productId;
+        private final Queue<Envelope> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private LiveAuctionState state; // 메일박스 스레드 전용
+        private volatile LocalDateTime endTimeHint; // 유휴 정리 판단용 (다른 스레드에서 읽음)
+
+        Mailbox(Long productId) {
+            this.productId = productId;
+        }
+
+        LiveAuctionState state() {
+            if (state == null) {
+                state = loadState(productId);
+            }
+            return state;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this);
+            }
+        }
+
+        boolean isIdle() {
+            return queue.isEmpty() && !scheduled.get();
+        }
+
+        boolean isExpired(LocalDateTime threshold) {
+            LocalDateTime endTime = endTimeHint;
+            return endTime == null || endTime.isBefore(threshold);
+        }
+
+        @Override
+        public void run() {
+            try {
+                Envelope envelope;
+                int processed = 0;
+                while (processed++ < MAILBOX_BATCH_SIZE && (envelope = queue.poll()) != null) {
+                    try {
+                        envelope.command.accept(this);
+                        envelope.done.complete(null);
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        envelope.done.completeExceptionally(e); // 검증 실패는 정상 흐름
+                    } catch (RuntimeException e) {
+                        log.error("상품 ID {} 시퀀서 처리 중 오류", productId, e);
+                        state = null; // 상태를 신뢰할 수 없으므로 다음 메시지에서 다시 적재
+                        envelope.done.completeExceptionally(e);
+                    }
+                }
+                endTimeHint = state != null ? state.getAuctionEndTime() : null;
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
@@ -11,11 +11,18 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+// 상품별 입찰 기록을 금액 순으로 페이징(keyset)하고, (상품, 금액)으로 입찰 한 건을 찾을 때 사용하는 인덱스
+@Table(indexes = @Index(name = "idx_bid_product_id_amount", columnList = "product_id, amount"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Bid {
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 는 INSERT 마다 즉시 실행되어 JDBC 배치가 꺼지므로, 시퀀스에서 ID를 묶음(pooled)으로 할당받습니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bid_seq_generator")
+    @SequenceGenerator(name = "bid_seq_generator", sequenceName = "bid_seq", allocationSize = Bid.ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,10 +40,11 @@ public class Bid {
     private LocalDateTime bidTime;
 
     @Builder
-    public Bid(Product product, User bidder, Long amount) {
+    public Bid(Product product, User bidder, Long amount, LocalDateTime bidTime) {
         this.product = product;
         this.bidder = bidder;
         this.amount = amount;
-        this.bidTime = LocalDateTime.now();
+        // 비동기로 저장되는 입찰은 실제 수락 시각을 넘겨받고, 그 외에는 저장 시각을 사용
+        this.bidTime = bidTime != null ? bidTime : LocalDateTime.now();
     }
 }
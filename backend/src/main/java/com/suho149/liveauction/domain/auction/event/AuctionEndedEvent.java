@@ -0,0 +1,20 @@
+package com.suho149.liveauction.domain.auction.event;
+
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import lombok.Getter;
+
+/**
+ * 경매가 판매 중(ON_SALE) 상태를 벗어났음을 알리는 이벤트. (즉시 구매, 조기 종료, 마감)
+ * 상태를 바꾼 트랜잭션 안에서 발행하며, 메모리/Redis 에 경매 상태를 보관하는 입찰 엔진이 커밋 이후에 받아
+ * 더 이상 입찰을 수락하지 않도록 합니다.
+ */
+@Getter
+public class AuctionEndedEvent {
+    private final Long productId;
+    private final ProductStatus status;
+
+    public AuctionEndedEvent(Long productId, ProductStatus status) {
+        this.productId = productId;
+        this.status = status;
+    }
+}
@@ -0,0 +1,16 @@
+package com.suho149.liveauction.domain.auction.event;
+
+import lombok.Getter;
+
+/**
+ * 특정 상품의 자동 입찰 설정이 추가/변경/취소되었음을 알리는 이벤트.
+ * 메모리 기반 입찰 엔진은 이 이벤트를 받아 자동 입찰 목록을 다시 적재합니다.
+ */
+@Getter
+public class AutoBidChangedEvent {
+    private final Long productId;
+
+    public AutoBidChangedEvent(Long productId) {
+        this.productId = productId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.suho149.liveauction.domain.auction.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품의 현재가(와 마감 시간)가 확정되어 바뀌었음을 알리는 이벤트.
+ * 입찰 엔진과 무관하게 PriceTickBroadcaster 가 커밋된 가격 갱신마다 발행합니다.
+ */
+@Getter
+public class PriceChangedEvent {
+    private final Long productId;
+    private final long newPrice;
+    private final LocalDateTime auctionEndTime;
+
+    public PriceChangedEvent(Long productId, long newPrice, LocalDateTime auctionEndTime) {
+        this.productId = productId;
+        this.newPrice = newPrice;
+        this.auctionEndTime = auctionEndTime;
+    }
+}
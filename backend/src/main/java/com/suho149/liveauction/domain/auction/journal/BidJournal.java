@@ -0,0 +1,340 @@
+package com.suho149.liveauction.domain.auction.journal;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 수락된 입찰을 응답 전에 기록하는 추가 전용(append-only) 저널.
+ *
+ * 고정 길이(64 byte) 레코드를 메모리 매핑된 세그먼트 파일(bids-{첫 시퀀스}.journal)에 이어 씁니다.
+ * 기록은 페이지 캐시에 바로 반영되므로 JVM 이 비정상 종료되어도 남으며, force-interval-ms 마다 디스크에 강제 기록합니다.
+ *
+ * 입찰 기록이 DB 에 저장되면 markPersisted 로 표시하고, 저장되지 않은 가장 작은 시퀀스 직전까지를 checkpoint 파일에 남깁니다.
+ * checkpoint 이전만 담은 세그먼트는 삭제하므로, 저널은 전체 이력이 아니라 "아직 DB 에 없을 수 있는 입찰"만 보관합니다.
+ * 시작 시 checkpoint 이후의 레코드는 BidJournalRecovery 가 DB 와 맞춥니다.
+ *
+ * 레코드: magic(4) crc32(4) sequence(8) productId(8) bidderId(8) amount(8) bidAt(8) endAt(8) reserved(8)
+ */
+@Slf4j
+@Component
+public class BidJournal {
+
+    static final int RECORD_SIZE = 64;
+    private static final int MAGIC = 0x42494431; // "BID1"
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    @Value("${auction.bid.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.bid.journal.dir:./bid-journal}")
+    private String dir;
+
+    @Value("${auction.bid.journal.segment-records:262144}")
+    private int segmentRecords;
+
+    @Value("${auction.bid.journal.force-interval-ms:200}")
+    private long forceIntervalMs;
+
+    // 기록되었지만 아직 DB 저장이 확인되지 않은 시퀀스
+    private final ConcurrentSkipListSet<Long> unpersisted = new ConcurrentSkipListSet<>();
+    private final Deque<Segment> segments = new ArrayDeque<>(); // this 로 동기화
+    private final List<JournalRecord> recovered = new ArrayList<>();
+
+    private Path directory;
+    private long nextSequence = 1; // this 로 동기화
+    private long checkpoint; // 관리 스레드 전용 (시작 시 제외)
+    private ScheduledExecutorService maintainer;
+
+    public BidJournal(MeterRegistry meterRegistry) {
+        Gauge.builder("auction.bid.journal.unpersisted", unpersisted, ConcurrentSkipListSet::size)
+                .description("저널에 기록되었지만 아직 DB 저장이 확인되지 않은 입찰 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            log.info("입찰 저널이 비활성화되어 있습니다.");
+            return;
+        }
+        directory = Paths.get(dir);
+        Files.createDirectories(directory);
+        checkpoint = readCheckpoint();
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(BidJournal::isSegmentFile).sorted().toList();
+        }
+        for (Path file : files) {
+            Segment segment = Segment.open(file, firstSequenceOf(file));
+            // 시퀀스가 끊기거나 검증에 실패한 레코드(기록 도중 종료) 이후는 버립니다.
+            long expected = segment.firstSequence;
+            while (!segment.isFull()) {
+                JournalRecord record = segment.read(segment.count);
+                if (record == null || record.getSequence() != expected) {
+                    break;
+                }
+                if (record.getSequence() > checkpoint) {
+                    recovered.add(record);
+                    unpersisted.add(record.getSequence());
+                }
+                segment.count++;
+                expected++;
+            }
+            nextSequence = Math.max(nextSequence, expected);
+            segments.addLast(segment);
+        }
+        nextSequence = Math.max(nextSequence, checkpoint + 1);
+        // 이어 쓸 수 있는 것은 시퀀스가 이어지는 마지막 세그먼트뿐입니다.
+        for (Segment segment : segments) {
+            if (segment != segments.peekLast() || segment.firstSequence + segment.count != nextSequence) {
+                segment.sealed = true;
+            }
+        }
+
+        maintainer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("bid-journal-"));
+        maintainer.scheduleWithFixedDelay(this::maintainSafely, forceIntervalMs, forceIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("입찰 저널 열기 완료. 경로: {}, checkpoint: {}, 다음 시퀀스: {}, 복구 대상: {}건",
+                directory.toAbsolutePath(), checkpoint, nextSequence, recovered.size());
+    }
+
+    @PreDestroy
+    void close() throws InterruptedException {
+        if (maintainer == null) {
+            return;
+        }
+        maintainer.shutdown();
+        maintainer.awaitTermination(5, TimeUnit.SECONDS);
+        maintainSafely();
+        synchronized (this) {
+            segments.forEach(Segment::close);
+        }
+    }
+
+    /**
+     * 입찰 한 건을 기록합니다. 비활성화 상태이면 아무것도 하지 않고 0을 반환합니다.
+     * @param auctionEndTime 상품 행이 아직 DB 에 반영되지 않은 입찰(메모리 엔진)이면 수락 시점의 마감 시간, 아니면 null
+     * @return 저널 시퀀스 (DB 저장 후 markPersisted 에 넘김)
+     */
+    public long append(Long productId, Long bidderId, long amount, LocalDateTime bidTime, LocalDateTime auctionEndTime) {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (this) {
+            Segment segment = segments.peekLast();
+            if (segment == null || segment.isFull()) {
+                segment = roll();
+            }
+            long sequence = nextSequence++;
+            segment.write(sequence, productId, bidderId, amount,
+                    JournalRecord.toEpochMillis(bidTime), JournalRecord.toEpochMillis(auctionEndTime));
+            unpersisted.add(sequence);
+            return sequence;
+        }
+    }
+
+    public void markPersisted(long sequence) {
+        if (sequence > 0) {
+            unpersisted.remove(sequence);
+        }
+    }
+
+    /**
+     * 시작 시 checkpoint 이후에 남아 있던 레코드. (DB 에 저장되었는지 알 수 없는 입찰)
+     */
+    public List<JournalRecord> recoveredRecords() {
+        return List.copyOf(recovered);
+    }
+
+    public void clearRecovered() {
+        recovered.clear();
+    }
+
+    // 호출하는 쪽에서 this 로 동기화
+    private Segment roll() {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence, SEGMENT_SUFFIX));
+        try {
+            Segment segment = Segment.create(file, nextSequence, segmentRecords);
+            segments.addLast(segment);
+            log.debug("입찰 저널 세그먼트 생성: {}", file.getFileName());
+            return segment;
+        } catch (IOException e) {
+            throw new IllegalStateException("입찰 저널 세그먼트를 만들지 못했습니다.", e);
+        }
+    }
+
+    private void maintainSafely() {
+        try {
+            maintain();
+        } catch (Exception e) {
+            log.error("입찰 저널 정리 실패. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 관리 스레드(또는 종료 시점)에서만 호출
+    private void maintain() throws IOException {
+        List<Segment> snapshot;
+        long watermark;
+        synchronized (this) {
+            snapshot = new ArrayList<>(segments);
+            watermark = unpersisted.isEmpty() ? nextSequence - 1 : unpersisted.first() - 1;
+        }
+        for (Segment segment : snapshot) {
+            segment.buffer.force();
+        }
+        if (watermark <= checkpoint) {
+            return;
+        }
+        writeCheckpoint(watermark);
+        checkpoint = watermark;
+
+        synchronized (this) {
+            while (segments.size() > 1 && segments.peekFirst().lastSequence() <= watermark) {
+                Segment retired = segments.pollFirst();
+                retired.close();
+                Files.deleteIfExists(retired.path);
+                log.debug("입찰 저널 세그먼트 삭제: {}", retired.path.getFileName());
+            }
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file) || Files.size(file) != Long.BYTES) {
+            return 0;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(file)).getLong();
+    }
+
+    private void writeCheckpoint(long sequence) throws IOException {
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long firstSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 메모리 매핑된 세그먼트 파일 하나. 기록은 BidJournal 의 잠금 안에서만 합니다.
+     */
+    private static class Segment {
+        private final Path path;
+        private final long firstSequence;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private int count;
+        private boolean sealed; // 더 이상 이어 쓰지 않는 세그먼트
+
+        private Segment(Path path, long firstSequence, FileChannel channel, int capacity) throws IOException {
+            this.path = path;
+            this.firstSequence = firstSequence;
+            this.channel = channel;
+            this.capacity = capacity;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+        }
+
+        static Segment create(Path path, long firstSequence, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(path, firstSequence, channel, capacity);
+        }
+
+        static Segment open(Path path, long firstSequence) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(path, firstSequence, channel, (int) (channel.size() / RECORD_SIZE));
+        }
+
+        boolean isFull() {
+            return sealed || count >= capacity;
+        }
+
+        long lastSequence() {
+            return firstSequence + count - 1;
+        }
+
+        // 본문을 먼저 쓰고 crc, magic 순서로 기록하여, 기록 도중 종료된 레코드는 읽을 때 걸러지도록 합니다.
+        void write(long sequence, Long productId, Long bidderId, long amount, long bidAt, long endAt) {
+            int offset = count * RECORD_SIZE;
+            buffer.putLong(offset + 8, sequence);
+            buffer.putLong(offset + 16, productId);
+            buffer.putLong(offset + 24, bidderId);
+            buffer.putLong(offset + 32, amount);
+            buffer.putLong(offset + 40, bidAt);
+            buffer.putLong(offset + 48, endAt);
+            buffer.putLong(offset + 56, 0L);
+            buffer.putInt(offset + 4, checksum(offset));
+            buffer.putInt(offset, MAGIC);
+            count++;
+        }
+
+        JournalRecord read(int index) {
+            int offset = index * RECORD_SIZE;
+            if (buffer.getInt(offset) != MAGIC || buffer.getInt(offset + 4) != checksum(offset)) {
+                return null;
+            }
+            return new JournalRecord(
+                    buffer.getLong(offset + 8),
+                    buffer.getLong(offset + 16),
+                    buffer.getLong(offset + 24),
+                    buffer.getLong(offset + 32),
+                    JournalRecord.toLocalDateTime(buffer.getLong(offset + 40)),
+                    JournalRecord.toLocalDateTime(buffer.getLong(offset + 48)));
+        }
+
+        private int checksum(int offset) {
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().position(offset + 8).limit(offset + RECORD_SIZE));
+            return (int) crc.getValue();
+        }
+
+        void close() {
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("입찰 저널 세그먼트 닫기 실패: {}", path.getFileName(), e);
+            }
+        }
+    }
+}
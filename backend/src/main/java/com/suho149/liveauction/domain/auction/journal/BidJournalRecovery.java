@@ -0,0 +1,153 @@
+package com.suho149.liveauction.domain.auction.journal;
+
+import com.suho149.liveauction.domain.auction.engine.ParticipantCounter;
+import com.suho149.liveauction.domain.auction.entity.Bid;
+import com.suho149.liveauction.domain.auction.repository.BidRepository;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시작 시 입찰 저널에 남아 있던(DB 저장이 확인되지 않은) 입찰을 DB 와 맞춥니다.
+ * 웹 서버가 요청을 받기 전(빈 초기화 단계)에 실행되므로, 입찰 엔진은 복구된 DB 상태에서 시작합니다.
+ *
+ * - Bid 행: 상품별 수락 금액은 항상 증가하므로 (상품, 금액)으로 이미 저장된 입찰인지 판단합니다.
+ *   락 기반 입찰(마감 시간이 없는 레코드)은 입찰 트랜잭션이 커밋된 것이 확인된 경우에만 저장합니다.
+ *   상품 행을 잠근 채 커밋 직전에 기록하므로, 같은 상품의 다음 기록이 있으면 이전 입찰은 커밋된 것입니다.
+ *   상품별 마지막 기록은 상품의 최고 입찰자와 현재가가 기록과 정확히 같을 때만 커밋된 것으로 봅니다.
+ *   (종료 후 다른 노드의 더 높은 입찰이 반영되었으면 커밋 여부를 알 수 없어 건너뜀)
+ * - Product 행: 메모리 엔진이 수락한 입찰(마감 시간이 기록된 레코드)만 상품별 최고가를 조건부 UPDATE 로 반영합니다.
+ * 알림은 다시 보내지 않습니다. 복구가 재시도 후에도 실패하면 시작을 중단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidJournalRecovery {
+
+    private final BidJournal bidJournal;
+    private final BidRepository bidRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final ParticipantCounter participantCounter;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Value("${auction.bid.journal.recovery-backoff-ms:2000}")
+    private long retryBackoffMs;
+
+    @PostConstruct
+    void recover() {
+        List<JournalRecord> records = bidJournal.recoveredRecords();
+        if (records.isEmpty()) {
+            return;
+        }
+        log.warn("입찰 저널에서 DB 저장이 확인되지 않은 입찰 {}건을 복구합니다.", records.size());
+
+        int inserted = replay(records);
+
+        Map<Long, Set<Long>> biddersByProduct = new HashMap<>();
+        for (JournalRecord record : records) {
+            biddersByProduct.computeIfAbsent(record.getProductId(), id -> new HashSet<>()).add(record.getBidderId());
+            bidJournal.markPersisted(record.getSequence());
+        }
+        participantCounter.recordAll(biddersByProduct);
+        bidJournal.clearRecovered();
+        log.warn("입찰 저널 복구 완료. 대상 {}건 중 누락된 입찰 {}건 저장.", records.size(), inserted);
+    }
+
+    // 복구하지 못한 채 시작하면 복구 대상 시퀀스가 checkpoint 를 영원히 막으므로, 몇 번 재시도한 뒤에도 실패하면 시작을 중단합니다.
+    // (레코드는 저널에 남아 있으므로 다음 시작 때 다시 복구)
+    private int replay(List<JournalRecord> records) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new TransactionTemplate(transactionManager).execute(status -> reconcile(records));
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new IllegalStateException("입찰 저널 복구에 " + MAX_ATTEMPTS + "번 실패하여 시작을 중단합니다.", e);
+                }
+                log.warn("입찰 저널 복구 실패 ({}/{}). {}ms 후 다시 시도합니다.", attempt, MAX_ATTEMPTS, retryBackoffMs * attempt, e);
+                sleep(retryBackoffMs * attempt);
+            }
+        }
+    }
+
+    // 락 기반 입찰은 커밋 직전에 기록하므로, 기록 후 커밋 전에 종료되었으면 상품 행에 반영되지 않았습니다.
+    // 현재가만 비교하면 이후 다른 입찰로 오른 가격에 묻혀 커밋되지 않은 입찰도 통과하므로 입찰자까지 비교합니다.
+    private boolean committedWithProduct(JournalRecord record) {
+        return productRepository.findById(record.getProductId())
+                .map(product -> product.getCurrentPrice() == record.getAmount()
+                        && product.getHighestBidder() != null
+                        && product.getHighestBidder().getId().equals(record.getBidderId()))
+                .orElse(false);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입찰 저널 복구 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private int reconcile(List<JournalRecord> records) {
+        int inserted = 0;
+        Map<Long, JournalRecord> latestByProduct = new LinkedHashMap<>();
+        Map<Long, JournalRecord> lastLockBasedByProduct = new HashMap<>();
+        for (JournalRecord record : records) {
+            if (record.getAuctionEndTime() == null) {
+                lastLockBasedByProduct.merge(record.getProductId(), record,
+                        (current, next) -> next.getAmount() > current.getAmount() ? next : current);
+            }
+        }
+        for (JournalRecord record : records) {
+            if (record.getAuctionEndTime() == null
+                    && record == lastLockBasedByProduct.get(record.getProductId())
+                    && !committedWithProduct(record)) {
+                log.warn("커밋되지 않은 입찰 기록을 건너뜁니다. 상품 ID {}, 금액 {}", record.getProductId(), record.getAmount());
+                continue;
+            }
+            if (!bidRepository.existsByProductIdAndAmount(record.getProductId(), record.getAmount())) {
+                bidRepository.save(Bid.builder()
+                        .product(productRepository.getReferenceById(record.getProductId()))
+                        .bidder(userRepository.getReferenceById(record.getBidderId()))
+                        .amount(record.getAmount())
+                        .bidTime(record.getBidTime())
+                        .build());
+                inserted++;
+            }
+            if (record.getAuctionEndTime() != null) {
+                latestByProduct.merge(record.getProductId(), record,
+                        (current, next) -> next.getAmount() > current.getAmount() ? next : current);
+            }
+        }
+
+        latestByProduct.forEach((productId, latest) -> {
+            int updated = productRepository.applyAcceptedBid(
+                    productId,
+                    latest.getAmount(),
+                    userRepository.getReferenceById(latest.getBidderId()),
+                    latest.getAuctionEndTime(),
+                    ProductStatus.ON_SALE);
+            if (updated > 0) {
+                log.warn("상품 ID {} 현재가를 저널 기준으로 복구했습니다. 현재가: {}", productId, latest.getAmount());
+            }
+        });
+        return inserted;
+    }
+}
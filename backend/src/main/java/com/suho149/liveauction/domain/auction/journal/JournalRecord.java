@@ -0,0 +1,31 @@
+package com.suho149.liveauction.domain.auction.journal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 입찰 저널의 고정 길이 레코드 한 건.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JournalRecord {
+
+    private final long sequence;
+    private final Long productId;
+    private final Long bidderId;
+    private final long amount;
+    private final LocalDateTime bidTime;
+    private final LocalDateTime auctionEndTime; // 상품 행이 아직 DB 에 반영되지 않은 입찰만 기록 (없으면 null)
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis == 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
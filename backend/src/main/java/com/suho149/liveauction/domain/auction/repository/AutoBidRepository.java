@@ -1,7 +1,11 @@
 package com.suho149.liveauction.domain.auction.repository;
 
 import com.suho149.liveauction.domain.auction.entity.AutoBid;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +16,17 @@ public interface AutoBidRepository extends JpaRepository<AutoBid, Long> {
 
     // 특정 상품에 설정된 모든 자동 입찰을 최대 금액이 높은 순으로 조회
     List<AutoBid> findByProduct_IdOrderByMaxAmountDesc(Long productId);
+
+    // 트랜잭션 밖(시퀀서 스레드)에서 사용자 이름까지 읽을 수 있도록 user를 함께 fetch
+    // 최대 금액이 같으면 먼저 설정한 자동 입찰이 우선
+    @Query("SELECT a FROM AutoBid a JOIN FETCH a.user WHERE a.product.id = :productId ORDER BY a.maxAmount DESC, a.id ASC")
+    List<AutoBid> findWithUserByProductId(@Param("productId") Long productId);
+
+    // 최대 금액 상위 N건만 조회 (자동 입찰 목록 캐시용)
+    @Query("SELECT a FROM AutoBid a JOIN FETCH a.user WHERE a.product.id = :productId ORDER BY a.maxAmount DESC, a.id ASC")
+    List<AutoBid> findWithUserByProductId(@Param("productId") Long productId, Pageable pageable);
+
+    // 주어진 상태의 상품에 걸린 모든 자동 입찰 (상품별, 최대 금액 내림차순)
+    @Query("SELECT a FROM AutoBid a JOIN FETCH a.user WHERE a.product.status = :status ORDER BY a.product.id ASC, a.maxAmount DESC, a.id ASC")
+    List<AutoBid> findAllWithUserByProductStatus(@Param("status") ProductStatus status);
 }
@@ -4,6 +4,7 @@ import com.suho149.liveauction.domain.auction.entity.Bid;
 import com.suho149.liveauction.domain.product.entity.Product;
 import com.suho149.liveauction.domain.product.entity.ProductStatus;
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -15,6 +16,23 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     @Query("SELECT COUNT(DISTINCT b.bidder.id) FROM Bid b WHERE b.product.id = :productId")
     long countDistinctBiddersByProductId(@Param("productId") Long productId);
 
+    // 특정 상품에 입찰한 고유한 사용자 ID 목록 (참여자 수 캐시 적재용)
+    @Query("SELECT DISTINCT b.bidder.id FROM Bid b WHERE b.product.id = :productId")
+    List<Long> findDistinctBidderIdsByProductId(@Param("productId") Long productId);
+
+    /**
+     * 상품의 입찰 기록을 최신순으로 cursor(입찰 금액) 미만부터 조회합니다. (keyset 페이징, (product_id, amount) 인덱스 사용)
+     * 상품별 수락 금액은 항상 증가하므로 금액 순서가 곧 수락 순서입니다.
+     * (ID 는 노드마다 시퀀스에서 묶음으로 할당받으므로 여러 노드에서는 수락 순서와 다를 수 있음)
+     * 결과 행: [입찰 ID, 입찰자 이름, 금액, 입찰 시간]
+     */
+    @Query("SELECT b.id, u.name, b.amount, b.bidTime FROM Bid b JOIN b.bidder u " +
+            "WHERE b.product.id = :productId AND b.amount < :cursor ORDER BY b.amount DESC")
+    List<Object[]> findHistoryBefore(@Param("productId") Long productId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 상품별 수락 금액은 항상 증가하므로 (상품, 금액)으로 입찰 한 건을 식별할 수 있음 (저널 복구용)
+    boolean existsByProductIdAndAmount(Long productId, Long amount);
+
     @Query("SELECT DISTINCT b.product FROM Bid b " +
             "WHERE b.bidder.id = :bidderId AND b.product.status = :status")
     List<Product> findBiddingProductsByBidderIdAndStatus(
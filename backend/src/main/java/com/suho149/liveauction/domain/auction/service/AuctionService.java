@@ -1,13 +1,20 @@
 package com.suho149.liveauction.domain.auction.service;
 
+import com.suho149.liveauction.domain.alert.service.PriceAlertService;
+import com.suho149.liveauction.domain.auction.broadcast.PriceTickBroadcaster;
 import com.suho149.liveauction.domain.auction.dto.AutoBidRequest;
 import com.suho149.liveauction.domain.auction.dto.BidRequest;
 import com.suho149.liveauction.domain.auction.dto.BidResponse;
 import com.suho149.liveauction.domain.auction.dto.BuyNowRequest;
+import com.suho149.liveauction.domain.auction.engine.AutoBidOrderBook;
+import com.suho149.liveauction.domain.auction.engine.AutoBidProxy;
+import com.suho149.liveauction.domain.auction.engine.BidInsertBuffer;
+import com.suho149.liveauction.domain.auction.engine.BidPriceFloor;
+import com.suho149.liveauction.domain.auction.engine.ProxyBidRule;
 import com.suho149.liveauction.domain.auction.entity.AutoBid;
-import com.suho149.liveauction.domain.auction.entity.Bid;
+import com.suho149.liveauction.domain.auction.event.AuctionEndedEvent;
+import com.suho149.liveauction.domain.auction.event.AutoBidChangedEvent;
 import com.suho149.liveauction.domain.auction.repository.AutoBidRepository;
-import com.suho149.liveauction.domain.auction.repository.BidRepository;
 import com.suho149.liveauction.domain.notification.entity.NotificationType;
 import com.suho149.liveauction.domain.notification.service.NotificationService;
 import com.suho149.liveauction.domain.product.entity.Product;
@@ -17,7 +24,8 @@ import com.suho149.liveauction.domain.user.entity.User;
 import com.suho149.liveauction.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -37,10 +45,18 @@ public class AuctionService {
 
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final PriceTickBroadcaster priceTickBroadcaster;
     private final NotificationService notificationService;
     private final AutoBidRepository autoBidRepository;
-    private final BidRepository bidRepository;
+    private final BidInsertBuffer bidInsertBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AutoBidOrderBook autoBidOrderBook;
+    private final BidPriceFloor bidPriceFloor;
+    private final PriceAlertService priceAlertService;
+
+    // 메모리 기반 입찰 엔진(sequencer)은 자동 입찰 경쟁도 직접 처리하므로, 이 서비스에서는 DB 기반 처리를 건너뜁니다.
+    @Value("${auction.bid.engine:lock}")
+    private String bidEngine;
 
     private static final long EXTENSION_THRESHOLD_SECONDS = 60; // 60초(1분) 이내 입찰 시 연장
     private static final long EXTENSION_DURATION_SECONDS = 60;  // 60초(1분) 연장
@@ -54,7 +70,26 @@ public class AuctionService {
         Product product = productRepository.findByIdWithPessimisticLock(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
-        long bidAmount = bidRequest.getBidAmount();
+        applyBid(product, bidder, bidRequest.getBidAmount());
+    }
+
+    /**
+     * 낙관적 동시성 입찰. 상품 행을 잠그지 않고 읽은 뒤, 커밋 시점에 version 이 바뀌었으면
+     * ObjectOptimisticLockingFailureException 이 발생하고 전체가 롤백됩니다. 재시도는 OptimisticBidEngine 이 담당합니다.
+     */
+    @Transactional
+    public void placeBidOptimistic(Long productId, BidRequest bidRequest, String email) {
+        User bidder = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다: " + email));
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+
+        applyBid(product, bidder, bidRequest.getBidAmount());
+    }
+
+    private void applyBid(Product product, User bidder, long bidAmount) {
+        Long productId = product.getId();
 
         // 판매자 본인 입찰 방지 로직 추가
         if (product.getSeller().getId().equals(bidder.getId())) {
@@ -62,7 +97,7 @@ public class AuctionService {
         }
 
         // 유효성 검사
-        if (bidRequest.getBidAmount() <= product.getCurrentPrice()) {
+        if (bidAmount <= product.getCurrentPrice()) {
             throw new IllegalArgumentException("현재 가격보다 높은 금액으로 입찰해야 합니다.");
         }
         if (LocalDateTime.now().isAfter(product.getAuctionEndTime())) {
@@ -119,10 +154,16 @@ public class AuctionService {
         if (product.getSeller().getId().equals(buyer.getId())) {
             throw new IllegalStateException("자신이 등록한 상품은 구매할 수 없습니다.");
         }
+        // 현재 입찰가가 즉시 구매가에 도달했으면 즉시 구매 불가 (가격이 내려가는 갱신이 발행되지 않도록)
+        if (product.getCurrentPrice() >= product.getBuyNowPrice()) {
+            throw new IllegalStateException("현재 입찰가가 즉시 구매가보다 높으므로 즉시 구매할 수 없습니다.");
+        }
 
         // 2. 즉시 구매 처리
         product.updateBid(buyer, product.getBuyNowPrice()); // 구매자를 최고 입찰자로, 현재가를 즉시 구매가로 설정
         product.endAuctionWithWinner(); // 경매 종료 (결제 대기) 상태로 변경
+        autoBidOrderBook.evict(productId);
+        eventPublisher.publishEvent(new AuctionEndedEvent(productId, product.getStatus()));
 
         // 3. 실시간 알림 전송 (가격, 상태 변경)
         BidResponse bidResponse = BidResponse.builder()
@@ -131,11 +172,14 @@ public class AuctionService {
                 .bidderName(buyer.getName())
                 .auctionEndTime(product.getAuctionEndTime())
                 .build();
-        messagingTemplate.convertAndSend("/sub/products/" + productId, bidResponse);
+        priceTickBroadcaster.publish(bidResponse);
+        priceTickBroadcaster.evict(productId);
+        bidPriceFloor.evict(productId);
 
         // 4. 낙찰자에게 알림 발송
         String content = "'" + product.getName() + "' 상품을 즉시 구매하여 최종 낙찰되었습니다! 24시간 내에 결제를 완료해주세요.";
         notificationService.send(buyer, NotificationType.BID, content, "/products/" + product.getId());
+        priceAlertService.clearForClosedAuctions(List.of(productId));
         log.info("상품 ID {} 즉시 구매 처리 완료. 구매자: {}", productId, buyer.getName());
     }
 
@@ -166,98 +210,63 @@ public class AuctionService {
                         }
                 );
 
+        eventPublisher.publishEvent(new AutoBidChangedEvent(productId));
+
         // 자동 입찰 설정 후, 즉시 자동 입찰 로직을 한 번 실행해볼 수 있음
-        processAutoBids(product);
+        if (resolvesAutoBidsInline()) {
+            processAutoBidsFromDatabase(product);
+        }
     }
 
+    private boolean resolvesAutoBidsInline() {
+        return !"sequencer".equals(bidEngine) && !"redis".equals(bidEngine);
+    }
+
+    // 입찰 직후에는 메모리의 자동 입찰 목록을 사용 (매 입찰마다 DB 조회를 피함)
     private void processAutoBids(Product product) {
-        log.info("상품 ID {} 자동 입찰 프로세스 시작...", product.getId());
-        long minBidIncrement = 1000;
-
-        while (true) {
-            // 1. 자동 입찰 목록 조회
-            List<AutoBid> autoBids = autoBidRepository.findByProduct_IdOrderByMaxAmountDesc(product.getId());
-            User currentHighestBidder = product.getHighestBidder();
-            long currentPrice = product.getCurrentPrice();
-
-            // 2. [종료 조건 1] 자동 입찰자가 없으면 할 일 없음
-            if (autoBids.isEmpty()) {
-                log.info("자동 입찰 설정 없음. 종료.");
-                break;
-            }
-
-            // 3. 최고 자동 입찰자(A) 정보
-            AutoBid topAutoBidderSetting = autoBids.get(0);
-            User topAutoBidder = topAutoBidderSetting.getUser();
-            long topMaxAmount = topAutoBidderSetting.getMaxAmount();
-
-            // 4. [종료 조건 2] 최고 자동 입찰자의 한도가 현재가보다 낮으면 더 이상 입찰 불가
-            if (topMaxAmount <= currentPrice) {
-                log.info("최고 자동 입찰자({})의 한도({})가 현재가({})보다 낮거나 같음. 종료.",
-                        topAutoBidder.getName(), topMaxAmount, currentPrice);
-                break;
-            }
-
-            // 5. [종료 조건 3] 최고 자동 입찰자가 이미 최고 입찰자이고, 2순위 경쟁자가 없는 경우
-            if (currentHighestBidder != null && currentHighestBidder.getId().equals(topAutoBidder.getId())) {
-                // 2순위 자동 입찰자가 없거나, 2순위의 한도가 이미 현재가보다 낮으면 경쟁 끝
-                if (autoBids.size() < 2 || autoBids.get(1).getMaxAmount() <= currentPrice) {
-                    log.info("최고 자동 입찰자가 이미 선두이며 추가 경쟁자 없음. 종료.");
-                    break;
-                }
-            }
-
-            // --- 입찰 실행 ---
-            long nextBidAmount;
-            User nextHighestBidder;
-
-            // 6. 현재 최고 입찰자가 없는 경우 (경매 시작 후 첫 입찰)
-            if (currentHighestBidder == null) {
-                nextHighestBidder = topAutoBidder;
-                nextBidAmount = Math.min(topMaxAmount, product.getStartPrice() + minBidIncrement);
-            } else {
-                // 7. 2순위 경쟁자(B)가 있는 경우
-                if (autoBids.size() > 1) {
-                    AutoBid secondAutoBidderSetting = autoBids.get(1);
-                    // 최고 입찰자가 1순위(A)냐 2순위(B)냐 아니면 제3자(C)냐에 따라 경쟁 구도가 달라짐
-                    if(currentHighestBidder.getId().equals(topAutoBidder.getId())) {
-                        // 현재 A가 1등. B의 한계까지 가격을 올려야 함.
-                        nextHighestBidder = topAutoBidder;
-                        nextBidAmount = Math.min(topMaxAmount, secondAutoBidderSetting.getMaxAmount() + minBidIncrement);
-                    } else {
-                        // B 또는 C가 1등. A가 이들을 이기기 위해 입찰.
-                        nextHighestBidder = topAutoBidder;
-                        nextBidAmount = Math.min(topMaxAmount, currentPrice + minBidIncrement);
-                    }
-                } else { // 2순위 경쟁자가 없는 경우 (일반 입찰자 vs 1순위 자동 입찰자)
-                    nextHighestBidder = topAutoBidder;
-                    nextBidAmount = Math.min(topMaxAmount, currentPrice + minBidIncrement);
-                }
-            }
-
-            // 8. [무한루프 방지] 계산된 입찰액이 현재가 이하면 종료
-            if (nextBidAmount <= currentPrice) {
-                log.info("계산된 다음 입찰가({})가 현재가({})보다 낮거나 같아 종료.", nextBidAmount, currentPrice);
-                break;
-            }
-
-            // 9. 입찰 실행 및 알림
-            User previousBidder = product.getHighestBidder();
-            updateAndNotifyBid(product, nextHighestBidder, nextBidAmount);
-            sendBidNotifications(product, nextHighestBidder, previousBidder, nextBidAmount);
+        processAutoBids(product, autoBidOrderBook.topTwo(product.getId()));
+    }
+
+    // 자동 입찰 설정/취소 트랜잭션 안에서는 아직 커밋 전이므로 DB에서 직접 읽음
+    private void processAutoBidsFromDatabase(Product product) {
+        List<AutoBidProxy> proxies = autoBidRepository.findWithUserByProductId(product.getId()).stream()
+                .map(AutoBidProxy::from)
+                .toList();
+        processAutoBids(product, proxies);
+    }
+
+    private void processAutoBids(Product product, List<AutoBidProxy> proxies) {
+        // 자동 입찰 경쟁의 최종 결과만 반영합니다. (입찰 한 건, 브로드캐스트 한 번)
+        if (proxies.isEmpty()) {
+            return;
+        }
+
+        User previousBidder = product.getHighestBidder();
+        ProxyBidRule.Resolution resolution = ProxyBidRule.resolve(
+                proxies,
+                product.getCurrentPrice(),
+                previousBidder != null ? previousBidder.getId() : null,
+                product.getStartPrice());
+        if (resolution == null) {
+            log.info("상품 ID {} 자동 입찰로 변경될 가격 없음.", product.getId());
+            return;
         }
+
+        User winner = userRepository.getReferenceById(resolution.getWinner().getUserId());
+        log.info("상품 ID {} 자동 입찰 결정. 최고 입찰자: {}, 가격: {}", product.getId(), resolution.getWinner().getUserName(), resolution.getAmount());
+        if (!resolution.getImpliedAmounts().isEmpty()) {
+            log.debug("상품 ID {} 자동 입찰 생략된 단계: {}", product.getId(), resolution.getImpliedAmounts());
+        }
+
+        updateAndNotifyBid(product, winner, resolution.getAmount());
+        sendBidNotifications(product, winner, previousBidder, resolution.getAmount());
     }
 
     private void updateAndNotifyBid(Product product, User bidder, long amount) {
         product.updateBid(bidder, amount);
 
-        // 입찰 기록 저장
-        Bid newBid = Bid.builder()
-                .product(product)
-                .bidder(bidder)
-                .amount(amount)
-                .build();
-        bidRepository.save(newBid);
+        // 입찰 기록은 커밋 이후 배치로 저장 (락을 잡은 동안 INSERT 왕복을 하지 않음)
+        bidInsertBuffer.enqueueAfterCommit(product.getId(), bidder.getId(), amount, LocalDateTime.now());
 
         BidResponse response = BidResponse.builder()
                 .productId(product.getId())
@@ -265,7 +274,7 @@ public class AuctionService {
                 .bidderName(bidder.getName())
                 .auctionEndTime(product.getAuctionEndTime())
                 .build();
-        messagingTemplate.convertAndSend("/sub/products/" + product.getId(), response);
+        priceTickBroadcaster.publish(response);
     }
 
     // 알림 발송 로직을 별도 메소드로 분리
@@ -300,11 +309,16 @@ public class AuctionService {
         autoBidRepository.delete(autoBid);
         log.info("사용자 {}의 상품 ID {} 자동 입찰 설정 취소 완료.", user.getName(), productId);
 
+        eventPublisher.publishEvent(new AutoBidChangedEvent(productId));
+        if (!resolvesAutoBidsInline()) {
+            return;
+        }
+
         // --- 4. 취소 후 다른 자동 입찰 경쟁 유발 ---
         // 이 상품에 다른 자동 입찰자가 남아있을 수 있으므로,
         // 현재 최고 입찰자를 기준으로 자동 입찰 경쟁을 다시 시도합니다.
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("자동 입찰 취소 후 상품 정보를 찾을 수 없습니다. ID: " + productId));
-        processAutoBids(product);
+        processAutoBidsFromDatabase(product);
     }
 }
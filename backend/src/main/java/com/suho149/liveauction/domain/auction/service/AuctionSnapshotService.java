@@ -0,0 +1,80 @@
+package com.suho149.liveauction.domain.auction.service;
+
+import com.suho149.liveauction.domain.auction.broadcast.PriceTickRing;
+import com.suho149.liveauction.domain.auction.dto.AuctionSnapshotResponse;
+import com.suho149.liveauction.domain.auction.dto.BidResponse;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuctionSnapshotService {
+
+    private final ProductRepository productRepository;
+    private final PriceTickRing tickRing;
+
+    /**
+     * 경매의 현재 상태를 순번과 함께 조회합니다.
+     * 입찰 엔진에 따라 DB 반영이 늦을 수 있으므로(write-behind), 최근 tick 이 DB 보다 앞서 있으면 tick 을 기준으로 합니다.
+     * @param since 클라이언트가 마지막으로 받은 순번 (null 이면 놓친 갱신을 조회하지 않음)
+     */
+    public AuctionSnapshotResponse getSnapshot(Long productId, Long since) {
+        Product product = productRepository.findByIdWithBidders(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+
+        AuctionSnapshotResponse.AuctionSnapshotResponseBuilder snapshot = AuctionSnapshotResponse.builder()
+                .productId(productId)
+                .status(product.getStatus())
+                .currentPrice(product.getCurrentPrice())
+                .highestBidderName(product.getHighestBidder() != null ? product.getHighestBidder().getName() : null)
+                .auctionEndTime(product.getAuctionEndTime())
+                .sequence(product.getCurrentPrice());
+
+        Optional<BidResponse> latest = latestTick(productId);
+        long sequence = product.getCurrentPrice();
+        if (latest.isPresent() && latest.get().getSequence() > sequence) {
+            BidResponse tick = latest.get();
+            sequence = tick.getSequence();
+            snapshot.currentPrice(tick.getNewPrice())
+                    .highestBidderName(tick.getBidderName())
+                    .auctionEndTime(tick.getAuctionEndTime())
+                    .sequence(sequence);
+        }
+
+        if (since == null || since >= sequence) {
+            return snapshot.ticks(List.of()).complete(true).build();
+        }
+        // 링 기록은 전송과 별도로 이루어지므로, 현재 순번까지 모두 기록된 경우에만 놓친 갱신을 돌려줍니다.
+        List<BidResponse> missed = missedTicks(productId, since).orElse(List.of());
+        boolean complete = !missed.isEmpty() && missed.get(missed.size() - 1).getSequence() >= sequence;
+        return snapshot.ticks(complete ? missed : List.of()).complete(complete).build();
+    }
+
+    // tick 링을 읽지 못해도 DB 상태로 스냅샷을 돌려줍니다.
+    private Optional<BidResponse> latestTick(Long productId) {
+        try {
+            return tickRing.latest(productId);
+        } catch (RuntimeException e) {
+            log.warn("상품 ID {} 최근 가격 갱신 조회 실패", productId, e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<List<BidResponse>> missedTicks(Long productId, long since) {
+        try {
+            return tickRing.since(productId, since);
+        } catch (RuntimeException e) {
+            log.warn("상품 ID {} 놓친 가격 갱신 조회 실패", productId, e);
+            return Optional.empty();
+        }
+    }
+}
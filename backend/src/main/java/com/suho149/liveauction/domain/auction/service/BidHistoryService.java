@@ -0,0 +1,50 @@
+package com.suho149.liveauction.domain.auction.service;
+
+import com.suho149.liveauction.domain.auction.dto.BidHistoryResponse;
+import com.suho149.liveauction.domain.auction.repository.BidRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BidHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final BidRepository bidRepository;
+
+    /**
+     * 상품의 입찰 기록을 최신순으로 조회합니다.
+     * OFFSET 대신 마지막으로 받은 입찰 금액(after) 미만부터 읽으므로, 기록이 많아도 페이지마다 size 건만 읽습니다.
+     * (배치 저장 대기 중인 최근 입찰은 잠시 뒤에 나타날 수 있습니다.)
+     * @param after 이전 페이지의 nextCursor (첫 페이지이면 null)
+     */
+    public BidHistoryResponse getBidHistory(Long productId, Long after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long cursor = after != null ? after : Long.MAX_VALUE;
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회
+        List<Object[]> rows = bidRepository.findHistoryBefore(productId, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<BidHistoryResponse.Item> bids = rows.stream()
+                .limit(pageSize)
+                .map(row -> BidHistoryResponse.Item.builder()
+                        .bidId((Long) row[0])
+                        .bidderName((String) row[1])
+                        .amount((Long) row[2])
+                        .bidTime((LocalDateTime) row[3])
+                        .build())
+                .toList();
+
+        return BidHistoryResponse.builder()
+                .bids(bids)
+                .nextCursor(hasNext ? bids.get(bids.size() - 1).getAmount() : null)
+                .build();
+    }
+}
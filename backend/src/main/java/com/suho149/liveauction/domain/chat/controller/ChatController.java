@@ -5,23 +5,22 @@ import com.suho149.liveauction.domain.chat.dto.ChatMessageResponse;
 import com.suho149.liveauction.domain.chat.dto.ChatRoomResponse;
 import com.suho149.liveauction.domain.chat.entity.ChatRoom;
 import com.suho149.liveauction.domain.chat.service.ChatService;
-import com.suho149.liveauction.global.jwt.JwtTokenProvider;
 import com.suho149.liveauction.global.security.UserPrincipal;
+import com.suho149.liveauction.global.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import java.security.Principal;
 import java.util.List;
 
 @Slf4j
@@ -30,7 +29,6 @@ import java.util.List;
 @RequestMapping("/api/v1/chat")
 public class ChatController {
     private final ChatService chatService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     // 채팅방 생성 또는 조회 (HTTP)
     @PostMapping("/rooms/{productId}")
@@ -46,29 +44,19 @@ public class ChatController {
     }
 
     // 메시지 발행 (WebSocket)
+    // 발신자는 CONNECT 때 인증된 STOMP 세션의 사용자입니다. (메시지마다 토큰을 검증하지 않음)
     @MessageMapping("/rooms/{roomId}/message")
     public void sendMessage(
             @DestinationVariable Long roomId,
             @Payload ChatMessageRequest request,
-            @Header("Authorization") final String token // ★ 헤더에서 Authorization 값을 직접 받음
+            Principal principal
     ) {
-        log.info("Received message for room {}: {}", roomId, request.getMessage());
-
-        // 토큰 유효성 검사
-        if (!StringUtils.hasText(token) || !token.startsWith("Bearer ")) {
-            log.error("Invalid or missing token for room {}", roomId);
+        if (!(principal instanceof StompPrincipal sender)) {
+            log.error("Unauthenticated chat message for room {}", roomId);
             return;
         }
-
-        String jwt = token.substring(7);
-        if (!jwtTokenProvider.validateToken(jwt)) {
-            log.error("Token validation failed for room {}", roomId);
-            return;
-        }
-
-        // 토큰에서 이메일 추출 후 서비스 호출
-        String email = jwtTokenProvider.getEmailFromToken(jwt);
-        chatService.saveAndSendMessage(roomId, request.getMessage(), email);
+        log.debug("Received message for room {} from user {}", roomId, sender.getId());
+        chatService.saveAndSendMessage(roomId, request.getMessage(), sender);
     }
 
     // 내 채팅방 목록 조회
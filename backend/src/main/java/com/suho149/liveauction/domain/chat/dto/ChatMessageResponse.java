@@ -26,4 +26,16 @@ public class ChatMessageResponse {
                 .sentAt(chatMessage.getSentAt())
                 .build();
     }
+
+    // 발신자 엔티티를 읽지 않고 이미 알고 있는 발신자 정보로 응답을 만듦 (STOMP 세션 사용자)
+    public static ChatMessageResponse from(ChatMessage chatMessage, Long senderId, String senderName, String senderPicture) {
+        return ChatMessageResponse.builder()
+                .messageId(chatMessage.getId())
+                .senderId(senderId)
+                .senderName(senderName)
+                .senderPicture(senderPicture)
+                .message(chatMessage.getMessage())
+                .sentAt(chatMessage.getSentAt())
+                .build();
+    }
 }
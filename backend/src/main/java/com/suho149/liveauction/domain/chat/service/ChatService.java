@@ -13,8 +13,9 @@ import com.suho149.liveauction.domain.product.repository.ProductRepository;
 import com.suho149.liveauction.domain.user.entity.User;
 import com.suho149.liveauction.domain.user.repository.UserRepository;
 import com.suho149.liveauction.global.security.UserPrincipal;
+import com.suho149.liveauction.global.websocket.PreEncodedMessageSender;
+import com.suho149.liveauction.global.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,7 +29,7 @@ public class ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final PreEncodedMessageSender messageSender;
     private final NotificationService notificationService;
 
     @Transactional
@@ -51,17 +52,18 @@ public class ChatService {
                 .stream().map(ChatMessageResponse::from).collect(Collectors.toList());
     }
 
+    /**
+     * 채팅 메시지를 저장하고 채팅방 구독자에게 전송합니다.
+     * 발신자 정보는 STOMP 세션의 사용자 값을 사용하므로 사용자 테이블을 조회하지 않습니다. (저장에는 ID 참조만 사용)
+     */
     @Transactional
-    public void saveAndSendMessage(Long roomId, String messageContent, String senderEmail) {
+    public void saveAndSendMessage(Long roomId, String messageContent, StompPrincipal sender) {
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
 
-        User sender = userRepository.findByEmail(senderEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
         ChatMessage chatMessage = ChatMessage.builder()
                 .chatRoom(chatRoom)
-                .sender(sender)
+                .sender(userRepository.getReferenceById(sender.getId()))
                 .message(messageContent)
                 .build();
 
@@ -72,11 +74,13 @@ public class ChatService {
                 ? chatRoom.getBuyer()
                 : chatRoom.getProduct().getSeller();
 
-        String content = sender.getName() + "님으로부터 새 메시지가 도착했습니다.";
+        String content = sender.getUserName() + "님으로부터 새 메시지가 도착했습니다.";
         String url = "/chat/rooms/" + roomId;
         notificationService.send(recipient, NotificationType.CHAT, content, url);
 
-        messagingTemplate.convertAndSend("/sub/chat/rooms/" + roomId, ChatMessageResponse.from(chatMessage));
+        // 채팅방 구독자 모두가 같은 직렬화 결과를 공유
+        messageSender.send("/sub/chat/rooms/" + roomId,
+                ChatMessageResponse.from(chatMessage, sender.getId(), sender.getUserName(), sender.getPicture()));
     }
 
     public List<ChatRoomResponse> getMyChatRooms(UserPrincipal userPrincipal) {
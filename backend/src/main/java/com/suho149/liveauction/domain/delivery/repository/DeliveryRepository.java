@@ -4,6 +4,7 @@ import com.suho149.liveauction.domain.delivery.entity.Delivery;
 import com.suho149.liveauction.domain.delivery.entity.DeliveryStatus;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
@@ -36,4 +37,20 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
             "JOIN FETCH p.buyer " +
             "WHERE d.trackingNumber = :trackingNumber")
     Optional<Delivery> findWithDetailsByTrackingNumber(@Param("trackingNumber") String trackingNumber);
+
+    /**
+     * 배송 상태가 from 인 경우에만 to 로 바꿉니다. 같은 배송을 동시에 바꾸려는 쪽은 행 잠금을 기다린 뒤 0을 받으므로,
+     * 상태 전이에 따른 정산/알림은 1을 받은 한 곳에서만 처리됩니다. (스케줄러 잠금을 잃은 노드의 늦은 커밋 포함)
+     * @return 변경된 행 수 (0이면 이미 다른 곳에서 처리됨)
+     */
+    @Modifying
+    @Query("UPDATE Delivery d SET d.status = :to WHERE d.id = :id AND d.status = :from")
+    int updateStatusIf(@Param("id") Long id, @Param("from") DeliveryStatus from, @Param("to") DeliveryStatus to);
+
+    // 배송 중(SHIPPING)인 경우에만 배송 완료로 바꿈 (updateStatusIf 와 같은 방식)
+    @Modifying
+    @Query("UPDATE Delivery d SET d.status = com.suho149.liveauction.domain.delivery.entity.DeliveryStatus.COMPLETED, " +
+            "d.completedAt = :completedAt " +
+            "WHERE d.id = :id AND d.status = com.suho149.liveauction.domain.delivery.entity.DeliveryStatus.SHIPPING")
+    int completeIfShipping(@Param("id") Long id, @Param("completedAt") LocalDateTime completedAt);
 }
@@ -136,8 +136,10 @@ public class DeliveryService {
             throw new IllegalStateException("배송이 완료된 상품만 구매 확정할 수 있습니다.");
         }
 
-        // --- 4. 상태 변경 ---
-        delivery.confirmPurchase();
+        // --- 4. 상태 변경 (자동 구매 확정 스케줄러와 동시에 확정해도 정산은 한 번만 생성되도록 조건부로 변경) ---
+        if (deliveryRepository.updateStatusIf(deliveryId, DeliveryStatus.COMPLETED, DeliveryStatus.CONFIRMED) == 0) {
+            throw new IllegalStateException("이미 구매 확정된 상품입니다.");
+        }
 
         Product product = delivery.getPayment().getProduct();
         User seller = product.getSeller();
@@ -0,0 +1,158 @@
+package com.suho149.liveauction.domain.keyword.matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 한 번에 찾는 Aho-Corasick 오토마톤. 만든 뒤에는 바뀌지 않으므로 여러 스레드가 함께 사용할 수 있습니다.
+ *
+ * 본문을 한 글자씩 한 번만 읽으면서 등록된 모든 키워드의 포함 여부를 찾습니다. (키워드 수와 무관하게 본문 길이 + 찾은 수에 비례)
+ * 글자 단위(char)로 동작하므로 한글과 영문을 같은 방식으로 처리하며, 영문은 대소문자를 구분하지 않습니다.
+ * (DB 의 LIKE 비교가 대소문자를 구분하지 않던 것과 동일)
+ */
+public final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NO_PATTERN = -1;
+
+    // 노드별 자식 간선: 글자 오름차순 배열 (이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 이 노드에서 끝나는 키워드 번호 (없으면 -1)
+    private final int[] patternAt;
+    // 실패 링크를 따라가며 처음 만나는 키워드가 끝나는 노드 (없으면 ROOT)
+    private final int[] outputLink;
+    private final int patternCount;
+
+    private KeywordAutomaton(char[][] edgeChars, int[][] edgeTargets, int[] patternAt, int patternCount) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.patternAt = patternAt;
+        this.patternCount = patternCount;
+        this.failure = new int[patternAt.length];
+        this.outputLink = new int[patternAt.length];
+        linkFailures();
+    }
+
+    /**
+     * 키워드 목록으로 오토마톤을 만듭니다. 목록의 순서가 키워드 번호입니다.
+     * 키워드는 normalize 된 값이어야 하고 서로 달라야 합니다. 빈 키워드는 아무것도 찾지 않습니다.
+     */
+    public static KeywordAutomaton build(List<String> patterns) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminals.add(NO_PATTERN);
+
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = children.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(pattern.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    terminals.add(NO_PATTERN);
+                }
+                node = next;
+            }
+            terminals.set(node, id);
+        }
+
+        int size = children.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        int[] patternAt = new int[size];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+            patternAt[node] = terminals.get(node);
+        }
+        return new KeywordAutomaton(edgeChars, edgeTargets, patternAt, patterns.size());
+    }
+
+    /**
+     * 키워드 비교용 정규화 (영문 소문자). 등록 키워드와 본문 모두 같은 규칙을 사용합니다.
+     */
+    public static String normalize(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    public int patternCount() {
+        return patternCount;
+    }
+
+    /**
+     * 본문에 포함된 키워드 번호 집합.
+     */
+    public BitSet match(CharSequence text) {
+        BitSet matched = new BitSet(patternCount);
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = next(state, ch)) < 0 && state != ROOT) {
+                state = failure[state];
+            }
+            state = next < 0 ? ROOT : next;
+
+            int node = patternAt[state] != NO_PATTERN ? state : outputLink[state];
+            while (node != ROOT) {
+                matched.set(patternAt[node]);
+                node = outputLink[node];
+            }
+        }
+        return matched;
+    }
+
+    private int next(int node, char ch) {
+        int index = Arrays.binarySearch(edgeChars[node], ch);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    // 너비 우선으로 실패 링크와 출력 링크를 계산 (부모의 링크가 먼저 계산되어 있어야 함)
+    private void linkFailures() {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            int parent = queue.poll();
+            for (int i = 0; i < edgeChars[parent].length; i++) {
+                char ch = edgeChars[parent][i];
+                int child = edgeTargets[parent][i];
+                int fallback = ROOT;
+                if (parent != ROOT) {
+                    int state = failure[parent];
+                    int next;
+                    while ((next = next(state, ch)) < 0 && state != ROOT) {
+                        state = failure[state];
+                    }
+                    fallback = next < 0 ? ROOT : next;
+                }
+                failure[child] = fallback;
+                outputLink[child] = patternAt[fallback] != NO_PATTERN ? fallback : outputLink[fallback];
+                queue.add(child);
+            }
+        }
+    }
+}
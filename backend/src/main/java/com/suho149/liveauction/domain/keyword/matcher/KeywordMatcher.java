@@ -0,0 +1,98 @@
+package com.suho149.liveauction.domain.keyword.matcher;
+
+import com.suho149.liveauction.domain.keyword.repository.KeywordRepository;
+import com.suho149.liveauction.global.cache.RedisVersionedIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 등록된 알림 키워드를 메모리의 Aho-Corasick 오토마톤으로 유지하고, 새 상품 본문에서 한 번에 찾습니다.
+ *
+ * 키워드 추가/삭제는 커밋된 뒤 이 노드의 상태에 바로 반영되고, Redis 의 keyword:version 으로 다른 노드에 알립니다. (RedisVersionedIndex)
+ * 이미 있는 키워드를 다른 사용자가 등록/삭제하면 사용자 목록만 바뀌고, 키워드 자체가 추가/삭제될 때만 오토마톤을 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class KeywordMatcher {
+
+    private static final String VERSION_KEY = "keyword:version";
+
+    private final KeywordRepository keywordRepository;
+    private final RedisVersionedIndex<Subscriptions> index;
+
+    public KeywordMatcher(KeywordRepository keywordRepository, StringRedisTemplate redisTemplate) {
+        this.keywordRepository = keywordRepository;
+        this.index = new RedisVersionedIndex<>("알림 키워드", VERSION_KEY, redisTemplate, this::load);
+    }
+
+    /**
+     * 본문에 등록 키워드가 포함된 사용자 ID 목록. (한 사용자가 여러 키워드에 걸려도 한 번만 포함)
+     */
+    public Set<Long> findUserIds(String text) {
+        Subscriptions current = index.current();
+        BitSet matched = current.automaton.match(text);
+        Set<Long> userIds = new HashSet<>();
+        for (int id = matched.nextSetBit(0); id >= 0; id = matched.nextSetBit(id + 1)) {
+            Map<Long, Long> users = current.subscribers.get(current.patterns.get(id));
+            if (users != null) {
+                userIds.addAll(users.values());
+            }
+        }
+        return userIds;
+    }
+
+    // 키워드 등록 (트랜잭션 안에서 호출되면 커밋된 뒤 반영)
+    public void added(Long keywordId, String keyword, Long userId) {
+        index.update(current -> {
+            Map<Long, Long> users = current.subscribers.computeIfAbsent(KeywordAutomaton.normalize(keyword), k -> new ConcurrentHashMap<>());
+            boolean newPattern = users.isEmpty();
+            users.put(keywordId, userId);
+            return newPattern ? new Subscriptions(current.subscribers) : current;
+        });
+    }
+
+    // 키워드 삭제 (트랜잭션 안에서 호출되면 커밋된 뒤 반영)
+    public void removed(Long keywordId, String keyword) {
+        index.update(current -> {
+            String pattern = KeywordAutomaton.normalize(keyword);
+            Map<Long, Long> users = current.subscribers.get(pattern);
+            if (users == null || users.remove(keywordId) == null || !users.isEmpty()) {
+                return current;
+            }
+            current.subscribers.remove(pattern);
+            return new Subscriptions(current.subscribers);
+        });
+    }
+
+    private Subscriptions load() {
+        Map<String, Map<Long, Long>> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : keywordRepository.findAllForMatching()) {
+            loaded.computeIfAbsent(KeywordAutomaton.normalize((String) row[1]), k -> new ConcurrentHashMap<>())
+                    .put((Long) row[0], (Long) row[2]);
+        }
+        log.info("알림 키워드 {}개 적재", loaded.size());
+        return new Subscriptions(loaded);
+    }
+
+    // 키워드별 사용자 목록과 오토마톤. 사용자 목록은 그 자리에서 바꾸고, 키워드가 추가/삭제되면 오토마톤과 함께 교체
+    private static class Subscriptions {
+        private final Map<String, Map<Long, Long>> subscribers; // 정규화된 키워드 -> (키워드 ID -> 사용자 ID)
+        private final List<String> patterns; // 오토마톤의 키워드 번호 -> 키워드
+        private final KeywordAutomaton automaton;
+
+        Subscriptions(Map<String, Map<Long, Long>> subscribers) {
+            this.subscribers = subscribers;
+            this.patterns = new ArrayList<>(subscribers.keySet());
+            this.automaton = KeywordAutomaton.build(patterns);
+        }
+    }
+}
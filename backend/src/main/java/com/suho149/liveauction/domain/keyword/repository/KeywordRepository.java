@@ -1,8 +1,6 @@
 package com.suho149.liveauction.domain.keyword.repository;
 
 import com.suho149.liveauction.domain.keyword.entity.Keyword;
-import com.suho149.liveauction.domain.user.entity.User;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -11,7 +9,7 @@ import java.util.List;
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     List<Keyword> findByUserId(Long userId);
 
-    // 특정 키워드를 포함하는 상품이 등록되었을 때, 해당 키워드를 등록한 모든 사용자를 찾기 위한 쿼리
-    @Query("SELECT k.user FROM Keyword k WHERE :text LIKE CONCAT('%', k.keyword, '%')")
-    List<User> findUsersByKeywordIn(@Param("text") String text);
+    // 키워드 매칭 오토마톤 적재용. 결과 행: [키워드 ID, 키워드, 사용자 ID]
+    @Query("SELECT k.id, k.keyword, k.user.id FROM Keyword k")
+    List<Object[]> findAllForMatching();
 }
@@ -3,6 +3,7 @@ package com.suho149.liveauction.domain.keyword.service;
 import com.suho149.liveauction.domain.keyword.dto.KeywordRequest;
 import com.suho149.liveauction.domain.keyword.dto.KeywordResponse;
 import com.suho149.liveauction.domain.keyword.entity.Keyword;
+import com.suho149.liveauction.domain.keyword.matcher.KeywordMatcher;
 import com.suho149.liveauction.domain.user.entity.User;
 import com.suho149.liveauction.domain.keyword.repository.KeywordRepository;
 import com.suho149.liveauction.domain.user.repository.UserRepository;
@@ -19,6 +20,7 @@ import java.util.stream.Collectors;
 public class KeywordService {
     private final KeywordRepository keywordRepository;
     private final UserRepository userRepository;
+    private final KeywordMatcher keywordMatcher;
 
     @Transactional
     public KeywordResponse addKeyword(KeywordRequest request, UserPrincipal userPrincipal) {
@@ -28,6 +30,7 @@ public class KeywordService {
                 .keyword(request.getKeyword())
                 .build();
         keywordRepository.save(newKeyword);
+        keywordMatcher.added(newKeyword.getId(), newKeyword.getKeyword(), userPrincipal.getId());
         return new KeywordResponse(newKeyword);
     }
 
@@ -48,5 +51,6 @@ public class KeywordService {
         }
 
         keywordRepository.delete(keyword);
+        keywordMatcher.removed(keyword.getId(), keyword.getKeyword());
     }
 }
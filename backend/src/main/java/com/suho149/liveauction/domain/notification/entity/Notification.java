@@ -13,8 +13,13 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 알림은 작업 스레드가 모아서 JDBC 배치로 저장하므로, Bid 와 같이 시퀀스에서 ID를 묶음으로 할당받습니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq_generator")
+    @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notification_seq", allocationSize = Notification.ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
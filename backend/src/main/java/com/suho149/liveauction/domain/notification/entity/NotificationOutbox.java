@@ -0,0 +1,68 @@
+package com.suho149.liveauction.domain.notification.entity;
+
+import com.suho149.liveauction.domain.notification.event.NotificationEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스. 알림 이벤트를 발행한 비즈니스 트랜잭션(입찰, 결제, 배송 등)과 같은 트랜잭션에서 저장됩니다.
+ * 알림이 저장되면 processedAt 이 채워지며, 채워지지 않은 행은 NotificationOutboxRelay 가 다시 전달합니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_notification_outbox_processed_at_id", columnList = "processed_at, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_outbox_event_key", columnNames = "event_key"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq_generator")
+    @SequenceGenerator(name = "notification_outbox_seq_generator", sequenceName = "notification_outbox_seq", allocationSize = NotificationOutbox.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "event_key", nullable = false, length = 36)
+    private String eventKey;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 255)
+    private String content;
+
+    private String url;
+
+    @Column(nullable = false)
+    private long occurredAt; // epoch ms
+
+    @Column(nullable = false)
+    private int attempts = 0; // 릴레이가 전달을 시도한 횟수
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt; // null 이면 아직 알림이 저장되지 않음
+
+    public NotificationOutbox(NotificationEvent event) {
+        this.eventKey = event.getEventKey();
+        this.userId = event.getUserId();
+        this.type = event.getType();
+        this.content = event.getContent();
+        this.url = event.getUrl();
+        this.occurredAt = event.getOccurredAt();
+    }
+
+    public NotificationEvent toEvent() {
+        return new NotificationEvent(eventKey, userId, type, content, url, occurredAt);
+    }
+
+    public void markProcessed(LocalDateTime now) {
+        this.processedAt = now;
+    }
+}
@@ -4,6 +4,7 @@ public enum NotificationType {
     BID, // 새로운 상위 입찰
     CHAT, // 새로운 채팅 메시지
     KEYWORD, // 키워드 상품 등록
+    SAVED_SEARCH, // 저장 검색 조건에 맞는 상품 등록
     DELIVERY, // 배송 상태 변경 알림
     SYSTEM
 }
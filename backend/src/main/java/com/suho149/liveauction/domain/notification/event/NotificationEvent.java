@@ -3,17 +3,28 @@ package com.suho149.liveauction.domain.notification.event;
 import com.suho149.liveauction.domain.notification.entity.NotificationType;
 import lombok.Getter;
 
+import java.util.UUID;
+
 @Getter
 public class NotificationEvent {
+    private final String eventKey; // 멱등 키. 같은 이벤트가 여러 번 전달되어도 알림은 한 번만 저장됨
     private final Long userId; // User 엔티티 대신 userId (Long)
     private final NotificationType type;
     private final String content;
     private final String url;
+    private final long occurredAt; // 발행 시각 (epoch ms). 발행부터 SSE 전송까지의 지연 측정용
 
     public NotificationEvent(Long userId, NotificationType type, String content, String url) {
+        this(UUID.randomUUID().toString(), userId, type, content, url, System.currentTimeMillis());
+    }
+
+    // 아웃박스에 저장된 이벤트를 다시 만들 때 사용
+    public NotificationEvent(String eventKey, Long userId, NotificationType type, String content, String url, long occurredAt) {
+        this.eventKey = eventKey;
         this.userId = userId;
         this.type = type;
         this.content = content;
         this.url = url;
+        this.occurredAt = occurredAt;
     }
 }
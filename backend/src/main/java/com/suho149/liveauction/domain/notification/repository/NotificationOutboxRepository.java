@@ -0,0 +1,52 @@
+package com.suho149.liveauction.domain.notification.repository;
+
+import com.suho149.liveauction.domain.notification.entity.NotificationOutbox;
+import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 아직 처리되지 않은 이벤트를 잠그며 조회합니다. 같은 이벤트를 동시에 전달하는 쪽은 잠금을 기다린 뒤
+     * 이미 처리된 것으로 보고 건너뛰므로, 알림이 두 번 저장되지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.eventKey IN :eventKeys AND o.processedAt IS NULL ORDER BY o.id ASC")
+    List<NotificationOutbox> findUnprocessedForUpdate(@Param("eventKeys") Collection<String> eventKeys);
+
+    // 릴레이용: occurredBefore 이전에 발행되고 아직 처리되지 않은 이벤트를 id 순으로 한 묶음씩 조회 (keyset 페이징)
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.processedAt IS NULL AND o.id > :afterId " +
+            "AND o.occurredAt < :occurredBefore AND o.attempts < :maxAttempts " +
+            "AND MOD(o.id, :partitions) = :partition ORDER BY o.id ASC")
+    List<NotificationOutbox> findUnprocessedAfter(@Param("afterId") Long afterId,
+                                                  @Param("occurredBefore") long occurredBefore,
+                                                  @Param("maxAttempts") int maxAttempts,
+                                                  @Param("partition") int partition,
+                                                  @Param("partitions") int partitions,
+                                                  Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+
+    // max-attempts 번 전달에 실패해 릴레이가 더 이상 시도하지 않는 행 수
+    long countByProcessedAtIsNullAndAttemptsGreaterThanEqual(int maxAttempts);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.processedAt IS NULL AND o.attempts >= :maxAttempts " +
+            "AND o.occurredAt < :occurredBefore")
+    int deleteDeadBefore(@Param("maxAttempts") int maxAttempts, @Param("occurredBefore") long occurredBefore);
+}
@@ -2,8 +2,11 @@ package com.suho149.liveauction.domain.notification.repository;
 
 import com.suho149.liveauction.domain.notification.entity.Notification;
 import com.suho149.liveauction.domain.user.entity.User;
+import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,10 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Optional<Notification> findFirstByUserAndUrlAndIsReadFalse(User user, String url);
 
+    // 채팅 알림 그룹핑용: 사용자들의 읽지 않은 알림 중 url 이 일치하는 알림 (사용자-url 조합은 호출한 쪽에서 다시 확인)
+    @Query("SELECT n FROM Notification n WHERE n.user.id IN :userIds AND n.url IN :urls AND n.isRead = false")
+    List<Notification> findUnreadByUserIdInAndUrlIn(@Param("userIds") Collection<Long> userIds, @Param("urls") Collection<String> urls);
+
     // 사용자의 모든 읽지 않은 알림 목록을 가져옴
     List<Notification> findAllByUserIdAndIsReadFalse(Long userId);
 }
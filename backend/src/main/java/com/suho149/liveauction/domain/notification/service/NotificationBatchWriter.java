@@ -0,0 +1,191 @@
+package com.suho149.liveauction.domain.notification.service;
+
+import com.suho149.liveauction.domain.notification.dto.NotificationResponse;
+import com.suho149.liveauction.domain.notification.entity.Notification;
+import com.suho149.liveauction.domain.notification.entity.NotificationOutbox;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.event.NotificationEvent;
+import com.suho149.liveauction.domain.notification.repository.NotificationOutboxRepository;
+import com.suho149.liveauction.domain.notification.repository.NotificationRepository;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 이벤트 묶음을 한 트랜잭션으로 저장하고, 커밋된 뒤 SSE 로 보낼 내용을 돌려줍니다.
+ *
+ * 사용자 확인과 채팅 알림 그룹핑 조회는 묶음 전체에 대해 한 번씩만 하고, 새 알림은 JDBC 배치 INSERT 로 저장합니다.
+ * 이벤트는 아웃박스 행을 잠그고 처리 완료로 표시하는 것과 같은 트랜잭션에서 저장하므로, 바로 전달된 이벤트와
+ * 릴레이가 다시 전달한 이벤트가 겹쳐도 알림은 한 번만 저장됩니다. (멱등 키: eventKey)
+ */
+@Slf4j
+@Component
+public class NotificationBatchWriter {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter delivered;
+    private final Counter duplicates;
+
+    public NotificationBatchWriter(NotificationRepository notificationRepository,
+                                   NotificationOutboxRepository notificationOutboxRepository,
+                                   UserRepository userRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 대기열이 가득 차면 커밋 이후(afterCommit) 호출 스레드에서 바로 저장하므로, 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션으로 실행
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.delivered = Counter.builder("auction.notification.outbox.events")
+                .description("아웃박스 이벤트 처리 수")
+                .tag("result", "delivered")
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("auction.notification.outbox.events")
+                .description("아웃박스 이벤트 처리 수")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+    }
+
+    public List<Delivery> write(List<NotificationEvent> batch) {
+        return transactionTemplate.execute(status -> persist(batch));
+    }
+
+    private List<Delivery> persist(List<NotificationEvent> batch) {
+        // 아직 처리되지 않은 이벤트만 남김 (이미 처리되었거나 묶음 안에서 겹친 이벤트는 건너뜀)
+        Map<String, NotificationOutbox> outboxes = new HashMap<>();
+        for (NotificationOutbox outbox : notificationOutboxRepository.findUnprocessedForUpdate(
+                batch.stream().map(NotificationEvent::getEventKey).collect(Collectors.toSet()))) {
+            outboxes.put(outbox.getEventKey(), outbox);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationEvent> events = new ArrayList<>(outboxes.size());
+        for (NotificationEvent event : batch) {
+            NotificationOutbox outbox = outboxes.remove(event.getEventKey());
+            if (outbox == null) {
+                duplicates.increment();
+                continue;
+            }
+            outbox.markProcessed(now);
+            events.add(event);
+        }
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        delivered.increment(events.size());
+
+        Set<Long> userIds = new HashSet<>();
+        Set<String> chatUrls = new HashSet<>();
+        for (NotificationEvent event : events) {
+            userIds.add(event.getUserId());
+            if (event.getType() == NotificationType.CHAT) {
+                chatUrls.add(event.getUrl());
+            }
+        }
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(userIds));
+
+        // 채팅 알림 그룹핑: 같은 사용자, 같은 채팅방 url 의 읽지 않은 알림이 있으면 새로 만들지 않고 개수만 올림
+        Map<ChatKey, Notification> unreadChats = new HashMap<>();
+        if (!chatUrls.isEmpty() && !existingUserIds.isEmpty()) {
+            for (Notification unread : notificationRepository.findUnreadByUserIdInAndUrlIn(existingUserIds, chatUrls)) {
+                unreadChats.putIfAbsent(new ChatKey(unread.getUser().getId(), unread.getUrl()), unread);
+            }
+        }
+
+        List<Notification> created = new ArrayList<>();
+        // 사용자에게 보낼 알림과 SSE 이벤트 이름. 묶음 안에서 여러 번 갱신된 알림은 마지막 상태로 한 번만 보냄
+        Map<Notification, String> changed = new LinkedHashMap<>();
+        for (NotificationEvent event : events) {
+            if (!existingUserIds.contains(event.getUserId())) {
+                log.warn("알림을 보낼 사용자를 찾을 수 없습니다. userId: {}", event.getUserId());
+                continue;
+            }
+            if (event.getType() == NotificationType.CHAT) {
+                ChatKey key = new ChatKey(event.getUserId(), event.getUrl());
+                Notification existing = unreadChats.get(key);
+                if (existing != null) {
+                    existing.updateForChatNotification();
+                    changed.putIfAbsent(existing, "notificationUpdate");
+                    continue;
+                }
+                Notification notification = newNotification(event);
+                unreadChats.put(key, notification);
+                created.add(notification);
+                changed.put(notification, "notification");
+                continue;
+            }
+            Notification notification = newNotification(event);
+            created.add(notification);
+            changed.put(notification, "notification");
+        }
+
+        notificationRepository.saveAll(created);
+
+        List<Delivery> deliveries = new ArrayList<>(changed.size());
+        changed.forEach((notification, eventName) ->
+                deliveries.add(new Delivery(notification.getUser().getId(), eventName, new NotificationResponse(notification))));
+        return deliveries;
+    }
+
+    private Notification newNotification(NotificationEvent event) {
+        return Notification.builder()
+                .user(userRepository.getReferenceById(event.getUserId()))
+                .type(event.getType())
+                .content(event.getContent())
+                .url(event.getUrl())
+                .build();
+    }
+
+    @Getter
+    public static class Delivery {
+        private final Long userId;
+        private final String eventName;
+        private final NotificationResponse response;
+
+        Delivery(Long userId, String eventName, NotificationResponse response) {
+            this.userId = userId;
+            this.eventName = eventName;
+            this.response = response;
+        }
+    }
+
+    private static class ChatKey {
+        private final Long userId;
+        private final String url;
+
+        ChatKey(Long userId, String url) {
+            this.userId = userId;
+            this.url = url;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ChatKey other && userId.equals(other.userId) && Objects.equals(url, other.url);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * userId.hashCode() + Objects.hashCode(url);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.suho149.liveauction.domain.notification.service;
+
+import com.suho149.liveauction.domain.notification.event.NotificationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋된 알림 이벤트를 제한된 크기의 대기열에 넣고, 작업 스레드가 묶음으로 꺼내 저장한 뒤 SSE 로 보냅니다.
+ *
+ * 입찰/결제 등을 처리한 요청 스레드는 대기열에 넣기만 하므로 알림 저장 트랜잭션을 기다리지 않습니다.
+ * 대기열은 작업 스레드마다 하나씩 두고 사용자 ID 로 나누므로, 한 사용자의 알림은 한 스레드가 순서대로 처리합니다.
+ * (채팅 알림 그룹핑이 스레드 사이에서 경쟁하지 않음) 작업 스레드는 쌓여 있는 이벤트를 batch-size 까지 한 번에 꺼내므로,
+ * 알림이 몰릴수록 묶음이 커집니다. 대기열이 가득 차면 이벤트를 버리지 않고 호출한 스레드에서 바로 저장합니다.
+ * 저장하지 못한 이벤트는 아웃박스에 남아 NotificationOutboxRelay 가 다시 전달합니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationBatchWriter batchWriter;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.notification.workers:2}")
+    private int workers;
+
+    @Value("${auction.notification.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${auction.notification.batch-size:200}")
+    private int batchSize;
+
+    private List<BlockingQueue<NotificationEvent>> queues;
+    private ExecutorService executor;
+    private volatile boolean running = true;
+
+    private Timer latency;
+    private DistributionSummary batchSizes;
+    private Counter overflow;
+
+    public NotificationDispatcher(NotificationBatchWriter batchWriter, SseEmitterRegistry sseEmitterRegistry,
+                                  MeterRegistry meterRegistry) {
+        this.batchWriter = batchWriter;
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        queues = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            queues.add(new ArrayBlockingQueue<>(Math.max(1, queueCapacity / workers)));
+        }
+        Gauge.builder("auction.notification.queue.depth", this, NotificationDispatcher::queueDepth)
+                .description("저장/전송을 기다리는 알림 이벤트 수")
+                .register(meterRegistry);
+        latency = Timer.builder("auction.notification.latency")
+                .description("알림 이벤트 발행부터 저장 후 SSE 전송까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("auction.notification.batch.size")
+                .description("한 트랜잭션으로 저장한 알림 이벤트 수")
+                .register(meterRegistry);
+        overflow = Counter.builder("auction.notification.overflow")
+                .description("대기열이 가득 차 호출한 스레드에서 바로 저장한 알림 이벤트 수")
+                .register(meterRegistry);
+
+        executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("notification-worker-"));
+        for (BlockingQueue<NotificationEvent> queue : queues) {
+            executor.execute(() -> drain(queue));
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // 작업 스레드는 대기열을 비운 뒤 종료
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("알림 작업 스레드 종료 대기 시간 초과. 남은 알림: {}건", (long) queueDepth());
+        }
+    }
+
+    public void dispatch(NotificationEvent event) {
+        BlockingQueue<NotificationEvent> queue = queues.get(Math.floorMod(event.getUserId().hashCode(), queues.size()));
+        if (running && queue.offer(event)) {
+            return;
+        }
+        overflow.increment();
+        deliver(List.of(event));
+    }
+
+    /**
+     * 호출한 스레드에서 batch-size 씩 바로 저장하고 전송합니다. (아웃박스 릴레이용)
+     */
+    public void deliverNow(List<NotificationEvent> events) {
+        for (int from = 0; from < events.size(); from += batchSize) {
+            deliver(events.subList(from, Math.min(events.size(), from + batchSize)));
+        }
+    }
+
+    private double queueDepth() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    private void drain(BlockingQueue<NotificationEvent> queue) {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("알림 작업 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<NotificationEvent> batch) {
+        List<NotificationBatchWriter.Delivery> deliveries;
+        try {
+            deliveries = batchWriter.write(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("알림 저장 실패. userId: {}, type: {}", batch.get(0).getUserId(), batch.get(0).getType(), e);
+                return;
+            }
+            // 한 건 때문에 묶음 전체를 잃지 않도록 건별로 다시 저장
+            log.warn("알림 {}건 묶음 저장 실패. 건별로 다시 저장합니다.", batch.size(), e);
+            batch.forEach(event -> deliver(List.of(event)));
+            return;
+        }
+        batchSizes.record(batch.size());
+
+        // 커밋된 뒤에 전송
+        deliveries.forEach(delivery -> sseEmitterRegistry.send(delivery.getUserId(), delivery.getEventName(), delivery.getResponse()));
+        long now = System.currentTimeMillis();
+        batch.forEach(event -> latency.record(Math.max(0, now - event.getOccurredAt()), TimeUnit.MILLISECONDS));
+    }
+}
@@ -2,54 +2,65 @@ package com.suho149.liveauction.domain.notification.service;
 
 import com.suho149.liveauction.domain.notification.dto.NotificationResponse;
 import com.suho149.liveauction.domain.notification.entity.Notification;
+import com.suho149.liveauction.domain.notification.entity.NotificationOutbox;
 import com.suho149.liveauction.domain.notification.entity.NotificationType;
 import com.suho149.liveauction.domain.notification.event.NotificationEvent;
+import com.suho149.liveauction.domain.notification.repository.NotificationOutboxRepository;
 import com.suho149.liveauction.domain.notification.repository.NotificationRepository;
-import com.suho149.liveauction.domain.product.entity.Product;
 import com.suho149.liveauction.domain.user.entity.User;
 import com.suho149.liveauction.domain.keyword.repository.KeywordRepository;
-import com.suho149.liveauction.domain.user.repository.UserRepository;
 import com.suho149.liveauction.global.security.UserPrincipal;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
-    // 스레드 안전한 자료구조를 사용하여 사용자 ID와 SseEmitter를 매핑
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
     private final KeywordRepository keywordRepository;
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final UserRepository userRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final TransactionTemplate requiresNew;
+    private final Counter outboxWritten;
+
+    public NotificationService(KeywordRepository keywordRepository, NotificationRepository notificationRepository,
+                               NotificationOutboxRepository notificationOutboxRepository,
+                               ApplicationEventPublisher eventPublisher, NotificationDispatcher notificationDispatcher,
+                               SseEmitterRegistry sseEmitterRegistry, PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.keywordRepository = keywordRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.notificationDispatcher = notificationDispatcher;
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.outboxWritten = Counter.builder("auction.notification.outbox.written")
+                .description("아웃박스에 저장한 알림 이벤트 수")
+                .register(meterRegistry);
+    }
 
     // 1. SSE 연결
     public SseEmitter subscribe(Long userId) {
-        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE); // 타임아웃을 매우 길게 설정
-        emitters.put(userId, emitter);
-
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-
-        // 연결 성공을 알리는 더미 데이터 전송
-        sendToClient(userId, "connected", "SSE 연결이 성공적으로 완료되었습니다.");
-
-        return emitter;
+        return sseEmitterRegistry.subscribe(userId);
     }
 
     public void send(User user, NotificationType type, String content, String url) {
@@ -58,60 +69,33 @@ public class NotificationService {
     }
 
     /**
-     * [새로 추가된 이벤트 리스너 메서드]
-     * 다른 서비스의 트랜잭션이 성공적으로 '커밋된 후'에만 이 메서드가 실행됩니다.
-     * 이 메서드는 항상 새로운 트랜잭션에서 동작합니다.
+     * 알림 이벤트를 발행한 트랜잭션이 커밋되기 직전, 같은 트랜잭션에서 아웃박스에 저장합니다.
+     * 커밋되면 바로 NotificationDispatcher 에 넘기고, 그 전에 JVM 이 종료되면 NotificationOutboxRelay 가 다시 전달합니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 저장하고 넘깁니다.
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleNotificationEvent(NotificationEvent event) {
-        // 이벤트에서 userId를 가져와 DB에서 User 엔티티를 다시 조회합니다.
-        User user = userRepository.findById(event.getUserId()).orElse(null);
-
-        if (user == null) {
-            log.warn("알림을 보낼 사용자를 찾을 수 없습니다. userId: {}", event.getUserId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificationOutboxRepository.save(new NotificationOutbox(event));
+            outboxWritten.increment();
+            notificationDispatcher.dispatch(event);
             return;
         }
-
-        NotificationType type = event.getType();
-        String content = event.getContent();
-        String url = event.getUrl();
-
-        // 채팅 알림 그룹핑 로직
-        if (type == NotificationType.CHAT) {
-            Optional<Notification> existingOpt = notificationRepository.findFirstByUserAndUrlAndIsReadFalse(user, url);
-            if (existingOpt.isPresent()) {
-                Notification existing = existingOpt.get();
-                existing.updateForChatNotification();
-                notificationRepository.save(existing);
-                sendToClient(user.getId(), "notificationUpdate", new NotificationResponse(existing));
-                return;
-            }
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly) {
+            notificationOutboxRepository.save(new NotificationOutbox(event));
         }
-
-        // 새로운 알림 생성 및 저장
-        Notification notification = Notification.builder()
-                .user(user).type(type).content(content).url(url).build();
-        notificationRepository.save(notification);
-
-        // 클라이언트에게 SSE 이벤트 전송
-        sendToClient(user.getId(), "notification", new NotificationResponse(notification));
-    }
-
-    // 특정 사용자에게 이벤트 전송
-    private void sendToClient(Long userId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .id(String.valueOf(userId)) // 이벤트 ID
-                        .name(eventName) // 이벤트 이름
-                        .data(data)); // 실제 데이터
-            } catch (IOException e) {
-                emitters.remove(userId);
-                log.error("SSE 전송 오류 발생: userId={}", userId, e);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (readOnly) {
+                    // 읽기 전용 트랜잭션에서는 INSERT 할 수 없으므로 커밋 후 새 트랜잭션으로 저장
+                    requiresNew.executeWithoutResult(status -> notificationOutboxRepository.save(new NotificationOutbox(event)));
+                }
+                outboxWritten.increment();
+                notificationDispatcher.dispatch(event);
             }
-        }
+        });
     }
 
     // 내 모든 알림 목록 조회 메소드 구현
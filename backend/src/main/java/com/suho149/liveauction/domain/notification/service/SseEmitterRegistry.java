@@ -0,0 +1,48 @@
+package com.suho149.liveauction.domain.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 SSE 연결. 알림 작업 스레드와 요청 스레드가 함께 사용합니다.
+ */
+@Slf4j
+@Component
+public class SseEmitterRegistry {
+    // 스레드 안전한 자료구조를 사용하여 사용자 ID와 SseEmitter를 매핑
+    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE); // 타임아웃을 매우 길게 설정
+        emitters.put(userId, emitter);
+
+        emitter.onCompletion(() -> emitters.remove(userId, emitter));
+        emitter.onTimeout(() -> emitters.remove(userId, emitter));
+
+        // 연결 성공을 알리는 더미 데이터 전송
+        send(userId, "connected", "SSE 연결이 성공적으로 완료되었습니다.");
+
+        return emitter;
+    }
+
+    // 특정 사용자에게 이벤트 전송 (연결이 없으면 무시)
+    public void send(Long userId, String eventName, Object data) {
+        SseEmitter emitter = emitters.get(userId);
+        if (emitter != null) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(userId)) // 이벤트 ID
+                        .name(eventName) // 이벤트 이름
+                        .data(data)); // 실제 데이터
+            } catch (IOException e) {
+                emitters.remove(userId, emitter);
+                log.error("SSE 전송 오류 발생: userId={}", userId, e);
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.suho149.liveauction.domain.product.controller;
 
 import com.suho149.liveauction.domain.auction.dto.AutoBidRequest;
+import com.suho149.liveauction.domain.auction.dto.BidHistoryCompactResponse;
+import com.suho149.liveauction.domain.auction.dto.BidHistoryResponse;
 import com.suho149.liveauction.domain.auction.dto.BuyNowRequest;
 import com.suho149.liveauction.domain.auction.service.AuctionService;
+import com.suho149.liveauction.domain.auction.service.BidHistoryService;
 import com.suho149.liveauction.domain.payment.dto.PaymentInfoResponse;
 import com.suho149.liveauction.domain.payment.service.PaymentService;
 import com.suho149.liveauction.domain.product.dto.*;
@@ -30,6 +33,7 @@ public class ProductController {
     private final ProductService productService;
     private final AuctionService auctionService;
     private final PaymentService paymentService;
+    private final BidHistoryService bidHistoryService;
 
     @PostMapping
     public ResponseEntity<Void> createProduct(@RequestBody ProductCreateRequest request, @AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -99,6 +103,23 @@ public class ProductController {
         return ResponseEntity.ok(info);
     }
 
+    /**
+     * 입찰 기록 조회 (최신순, keyset 페이징).
+     * format=compact 이면 필드 이름 없이 배열(tuple) 형식으로 응답합니다.
+     */
+    @GetMapping("/{productId}/bids")
+    public ResponseEntity<?> getBidHistory(
+            @PathVariable Long productId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "default") String format) {
+        BidHistoryResponse history = bidHistoryService.getBidHistory(productId, after, size);
+        if ("compact".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok(BidHistoryCompactResponse.from(history));
+        }
+        return ResponseEntity.ok(history);
+    }
+
     /**
      * 상품에 대한 자동 입찰을 설정하거나 업데이트합니다.
      * @param productId 상품의 ID
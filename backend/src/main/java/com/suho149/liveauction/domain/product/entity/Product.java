@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.Where;
 
@@ -45,6 +46,8 @@ public class Product {
     @Column(nullable = false)
     private LocalDateTime auctionEndTime;
 
+    // 찜은 입찰과 자주 겹치므로 버전 증가/충돌 대상에서 제외
+    @OptimisticLock(excluded = true)
     @Column(nullable = false)
     private int likeCount = 0; // 찜 개수 필드 추가, 기본값 0
 
@@ -73,6 +76,11 @@ public class Product {
 
     private LocalDateTime deletedAt;
 
+    // 낙관적 동시성 입찰(auction.bid.engine=optimistic)에서 동시 수정을 감지하기 위한 버전 (기존 행은 0부터 시작)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Builder
     public Product(String name, String description, Long startPrice, Category category, LocalDateTime auctionEndTime, User seller, Long buyNowPrice) {
         this.name = name;
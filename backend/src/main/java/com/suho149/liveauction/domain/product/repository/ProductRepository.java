@@ -3,12 +3,14 @@ package com.suho149.liveauction.domain.product.repository;
 import com.suho149.liveauction.domain.product.entity.Category;
 import com.suho149.liveauction.domain.product.entity.Product;
 import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.user.entity.User;
 import io.lettuce.core.dynamic.annotation.Param;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
@@ -65,9 +67,86 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
     // 특정 상태이고, 경매 종료 시간이 특정 시간 이전인 상품 목록을 조회
     List<Product> findByStatusAndAuctionEndTimeBefore(ProductStatus status, LocalDateTime now);
 
+    // 경매 마감 타이머 재등록용 (id, auctionEndTime) 만 조회
+    @Query("SELECT p.id, p.auctionEndTime FROM Product p WHERE p.status = :status")
+    List<Object[]> findIdAndAuctionEndTimeByStatus(@Param("status") ProductStatus status);
+
     // 결제 기한이 만료된 상품을 찾기 위한 메소드
     List<Product> findByStatusAndPaymentDueDateBefore(ProductStatus status, LocalDateTime now);
 
+    /**
+     * 마감 시간이 지난 판매 중 상품 수. (partition: 여러 노드가 나눠 처리할 때 id % partitions 값)
+     */
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.status = :status AND p.auctionEndTime < :now " +
+            "AND MOD(p.id, :partitions) = :partition")
+    long countDueAuctions(@Param("status") ProductStatus status,
+                          @Param("now") LocalDateTime now,
+                          @Param("partition") int partition,
+                          @Param("partitions") int partitions);
+
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.status = :status AND p.paymentDueDate < :now " +
+            "AND MOD(p.id, :partitions) = :partition")
+    long countOverduePayments(@Param("status") ProductStatus status,
+                              @Param("now") LocalDateTime now,
+                              @Param("partition") int partition,
+                              @Param("partitions") int partitions);
+
+    /**
+     * 마감 시간이 지난 판매 중 상품을 id 순으로 잠그며 한 묶음(chunk)씩 조회합니다. (keyset 페이징)
+     * 잠금은 묶음을 처리하는 짧은 트랜잭션 동안만 유지됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.status = :status AND p.auctionEndTime < :now AND p.id > :afterId " +
+            "AND MOD(p.id, :partitions) = :partition ORDER BY p.id ASC")
+    List<Product> findDueAuctionsAfter(@Param("status") ProductStatus status,
+                                       @Param("now") LocalDateTime now,
+                                       @Param("afterId") Long afterId,
+                                       @Param("partition") int partition,
+                                       @Param("partitions") int partitions,
+                                       Pageable pageable);
+
+    // 결제 기한이 지난 상품을 id 순으로 잠그며 한 묶음씩 조회 (keyset 페이징)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.status = :status AND p.paymentDueDate < :now AND p.id > :afterId " +
+            "AND MOD(p.id, :partitions) = :partition ORDER BY p.id ASC")
+    List<Product> findOverduePaymentsAfter(@Param("status") ProductStatus status,
+                                           @Param("now") LocalDateTime now,
+                                           @Param("afterId") Long afterId,
+                                           @Param("partition") int partition,
+                                           @Param("partitions") int partitions,
+                                           Pageable pageable);
+
+    // 묶음 처리에 실패했을 때 한 건씩 다시 처리할 대상 id 목록 (잠그지 않음)
+    @Query("SELECT p.id FROM Product p WHERE p.status = :status AND p.auctionEndTime < :now AND p.id > :afterId " +
+            "AND MOD(p.id, :partitions) = :partition ORDER BY p.id ASC")
+    List<Long> findDueAuctionIdsAfter(@Param("status") ProductStatus status,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("afterId") Long afterId,
+                                      @Param("partition") int partition,
+                                      @Param("partitions") int partitions,
+                                      Pageable pageable);
+
+    @Query("SELECT p.id FROM Product p WHERE p.status = :status AND p.paymentDueDate < :now AND p.id > :afterId " +
+            "AND MOD(p.id, :partitions) = :partition ORDER BY p.id ASC")
+    List<Long> findOverduePaymentIdsAfter(@Param("status") ProductStatus status,
+                                          @Param("now") LocalDateTime now,
+                                          @Param("afterId") Long afterId,
+                                          @Param("partition") int partition,
+                                          @Param("partitions") int partitions,
+                                          Pageable pageable);
+
+    // 여러 상품의 상태를 한 번에 변경 (기대한 상태인 행만 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.status = :to, p.version = p.version + 1 WHERE p.id IN :ids AND p.status = :from")
+    int updateStatusInBulk(@Param("ids") List<Long> ids, @Param("from") ProductStatus from, @Param("to") ProductStatus to);
+
+    // 여러 상품의 상태와 결제 기한을 한 번에 변경 (낙찰 처리: Product.endAuctionWithWinner 와 동일)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.status = :to, p.paymentDueDate = :paymentDueDate, p.version = p.version + 1 " +
+            "WHERE p.id IN :ids AND p.status = :from")
+    int updateStatusInBulk(@Param("ids") List<Long> ids, @Param("from") ProductStatus from, @Param("to") ProductStatus to,
+                           @Param("paymentDueDate") LocalDateTime paymentDueDate);
+
     /**
      * 비관적 쓰기 락(PESSIMISTIC_WRITE)을 사용하여 Product를 조회합니다.
      * 이 메소드를 호출하는 트랜잭션은 해당 Product 행에 대한 독점적인 쓰기 권한을 가집니다.
@@ -78,6 +157,32 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
     @Query("SELECT p FROM Product p WHERE p.id = :productId")
     Optional<Product> findByIdWithPessimisticLock(@Param("productId") Long productId);
 
+    // 입찰 엔진이 메모리 상태를 적재할 때 사용 (판매자, 최고 입찰자를 함께 조회)
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.highestBidder WHERE p.id = :productId")
+    Optional<Product> findByIdWithBidders(@Param("productId") Long productId);
+
+    // Redis 경매 상태를 DB 와 맞출 때 사용 (판매자, 최고 입찰자를 함께 조회)
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.highestBidder WHERE p.id IN :productIds")
+    List<Product> findAllWithBiddersByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT p.id FROM Product p WHERE p.status = :status")
+    List<Long> findIdsByStatus(@Param("status") ProductStatus status);
+
+    /**
+     * 메모리에서 이미 수락된 입찰을 상품 행에 반영합니다. (write-behind)
+     * 판매 중이고 현재가가 더 낮은 경우에만 갱신하므로, 늦게 도착한 반영 요청이 최신 값을 덮어쓰지 않습니다.
+     * @return 갱신된 행 수 (0이면 DB 상태가 메모리 상태와 어긋난 것)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.currentPrice = :price, p.highestBidder = :bidder, p.auctionEndTime = :endTime, " +
+            "p.version = p.version + 1 " +
+            "WHERE p.id = :productId AND p.status = :status AND p.currentPrice < :price")
+    int applyAcceptedBid(@Param("productId") Long productId,
+                         @Param("price") Long price,
+                         @Param("bidder") User bidder,
+                         @Param("endTime") LocalDateTime endTime,
+                         @Param("status") ProductStatus status);
+
     // 페이징을 지원하지 않는 메소드 (MyAuctionsPage용)
     List<Product> findBySellerIdAndStatusInOrderByIdDesc(Long sellerId, Collection<ProductStatus> statuses);
 
@@ -1,20 +1,27 @@
 package com.suho149.liveauction.domain.product.service;
 
+import com.suho149.liveauction.domain.alert.service.PriceAlertService;
+import com.suho149.liveauction.domain.auction.broadcast.PriceTickBroadcaster;
+import com.suho149.liveauction.domain.auction.engine.AutoBidOrderBook;
+import com.suho149.liveauction.domain.auction.engine.BidPriceFloor;
+import com.suho149.liveauction.domain.auction.engine.ParticipantCounter;
+import com.suho149.liveauction.domain.auction.event.AuctionEndedEvent;
 import com.suho149.liveauction.domain.auction.repository.AutoBidRepository;
-import com.suho149.liveauction.domain.auction.repository.BidRepository;
-import com.suho149.liveauction.domain.keyword.repository.KeywordRepository;
+import com.suho149.liveauction.domain.keyword.matcher.KeywordMatcher;
 import com.suho149.liveauction.domain.notification.entity.NotificationType;
 import com.suho149.liveauction.domain.notification.event.NotificationEvent;
 import com.suho149.liveauction.domain.product.dto.*;
 import com.suho149.liveauction.domain.product.entity.*;
 import com.suho149.liveauction.domain.product.repository.ProductRepository;
 import com.suho149.liveauction.domain.product.repository.ReportRepository;
+import com.suho149.liveauction.domain.search.percolator.SavedSearchPercolator;
 import com.suho149.liveauction.domain.user.entity.Role;
 import com.suho149.liveauction.domain.user.entity.User;
 import com.suho149.liveauction.domain.user.repository.LikeRepository;
 import com.suho149.liveauction.domain.user.repository.UserRepository;
 import com.suho149.liveauction.domain.notification.service.NotificationService;
 import com.suho149.liveauction.global.security.UserPrincipal;
+import com.suho149.liveauction.scheduler.AuctionClosingWheel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -28,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,11 +48,17 @@ public class ProductService {
     private final UserRepository userRepository;
     private final LikeRepository likeRepository;
     private final NotificationService notificationService;
-    private final KeywordRepository keywordRepository;
+    private final KeywordMatcher keywordMatcher;
+    private final SavedSearchPercolator savedSearchPercolator;
     private final AutoBidRepository autoBidRepository;
-    private final BidRepository bidRepository;
     private final ReportRepository reportRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final AutoBidOrderBook autoBidOrderBook;
+    private final BidPriceFloor bidPriceFloor;
+    private final PriceTickBroadcaster priceTickBroadcaster;
+    private final PriceAlertService priceAlertService;
+    private final AuctionClosingWheel auctionClosingWheel;
+    private final ParticipantCounter participantCounter;
 
     @Transactional
     public Product createProduct(ProductCreateRequest request, UserPrincipal userPrincipal) {
@@ -68,17 +82,29 @@ public class ProductService {
         images.forEach(product::addImage);
 
         Product savedProduct = productRepository.save(product);
+        auctionClosingWheel.schedule(savedProduct.getId(), savedProduct.getAuctionEndTime());
 
-        // 키워드 알림 로직 수정
+        // 키워드 알림: 등록된 모든 키워드를 메모리 오토마톤으로 상품명/설명에서 한 번에 찾음 (키워드 테이블을 스캔하지 않음)
         String productInfo = savedProduct.getName() + " " + savedProduct.getDescription();
-        List<User> usersToNotify = keywordRepository.findUsersByKeywordIn(productInfo);
+        Set<Long> usersToNotify = keywordMatcher.findUserIds(productInfo);
 
-        usersToNotify.forEach(user -> {
+        usersToNotify.forEach(userId -> {
             // 본인이 등록한 상품에 대해서는 알림을 보내지 않음
-            if (!user.getId().equals(userPrincipal.getId())) {
+            if (!userId.equals(userPrincipal.getId())) {
                 String content = "등록하신 키워드가 포함된 '" + savedProduct.getName() + "' 상품이 등록되었습니다.";
                 String url = "/products/" + savedProduct.getId();
-                notificationService.send(user, NotificationType.KEYWORD, content, url);
+                notificationService.send(userRepository.getReferenceById(userId), NotificationType.KEYWORD, content, url);
+            }
+        });
+
+        // 저장 검색 알림: 카테고리/가격/키워드 조건에 맞는 저장 검색을 찾음 (키워드 알림을 이미 받은 사용자는 제외)
+        Set<Long> searchersToNotify = savedSearchPercolator.percolate(savedProduct);
+        searchersToNotify.removeAll(usersToNotify);
+        searchersToNotify.forEach(userId -> {
+            if (!userId.equals(userPrincipal.getId())) {
+                String content = "저장하신 검색 조건에 맞는 '" + savedProduct.getName() + "' 상품이 등록되었습니다.";
+                String url = "/products/" + savedProduct.getId();
+                notificationService.send(userRepository.getReferenceById(userId), NotificationType.SAVED_SEARCH, content, url);
             }
         });
 
@@ -123,8 +149,8 @@ public class ProductService {
                     .orElse(null);
         }
 
-        // 총 입찰 참여자 수 계산
-        long participantCount = bidRepository.countDistinctBiddersByProductId(productId);
+        // 총 입찰 참여자 수 (입찰 저장 시 증분으로 유지되는 값을 조회)
+        long participantCount = participantCounter.count(productId);
 
         return ProductDetailResponse.from(product, likedByCurrentUser, isSeller, myAutoBidMaxAmount, participantCount);
     }
@@ -183,6 +209,11 @@ public class ProductService {
             String sellerContent = "요청에 따라 '" + product.getName() + "' 상품의 경매를 조기 종료했습니다. (유찰)";
             notificationService.send(product.getSeller(), NotificationType.BID, sellerContent, url);
         }
+        autoBidOrderBook.evict(productId);
+        bidPriceFloor.evict(productId);
+        priceTickBroadcaster.evict(productId);
+        priceAlertService.clearForClosedAuctions(List.of(productId));
+        eventPublisher.publishEvent(new AuctionEndedEvent(productId, product.getStatus()));
     }
 
     @Transactional
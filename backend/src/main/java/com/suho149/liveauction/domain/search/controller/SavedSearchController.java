@@ -0,0 +1,36 @@
+package com.suho149.liveauction.domain.search.controller;
+
+import com.suho149.liveauction.domain.product.dto.ProductSearchCondition;
+import com.suho149.liveauction.domain.search.dto.SavedSearchResponse;
+import com.suho149.liveauction.domain.search.service.SavedSearchService;
+import com.suho149.liveauction.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/saved-searches")
+@RequiredArgsConstructor
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    @PostMapping
+    public ResponseEntity<SavedSearchResponse> addSavedSearch(@RequestBody ProductSearchCondition condition, @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(savedSearchService.addSavedSearch(condition, userPrincipal));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponse>> getMySavedSearches(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(savedSearchService.getMySavedSearches(userPrincipal));
+    }
+
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long savedSearchId, @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        savedSearchService.deleteSavedSearch(savedSearchId, userPrincipal);
+        return ResponseEntity.noContent().build();
+    }
+}
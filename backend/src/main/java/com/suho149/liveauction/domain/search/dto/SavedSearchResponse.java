@@ -0,0 +1,22 @@
+package com.suho149.liveauction.domain.search.dto;
+
+import com.suho149.liveauction.domain.product.entity.Category;
+import com.suho149.liveauction.domain.search.entity.SavedSearch;
+import lombok.Getter;
+
+@Getter
+public class SavedSearchResponse {
+    private final Long id;
+    private final String keyword;
+    private final Category category;
+    private final Long minPrice;
+    private final Long maxPrice;
+
+    public SavedSearchResponse(SavedSearch savedSearch) {
+        this.id = savedSearch.getId();
+        this.keyword = savedSearch.getKeyword();
+        this.category = savedSearch.getCategory();
+        this.minPrice = savedSearch.getMinPrice();
+        this.maxPrice = savedSearch.getMaxPrice();
+    }
+}
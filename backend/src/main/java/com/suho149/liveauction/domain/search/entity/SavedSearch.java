@@ -0,0 +1,43 @@
+package com.suho149.liveauction.domain.search.entity;
+
+import com.suho149.liveauction.domain.product.entity.Category;
+import com.suho149.liveauction.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 새 상품 알림을 받을 검색 조건. (카테고리, 가격 범위, 키워드. 비어 있는 조건은 제한 없음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SavedSearch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private String keyword;
+
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    private Long minPrice;
+
+    private Long maxPrice;
+
+    @Builder
+    public SavedSearch(User user, String keyword, Category category, Long minPrice, Long maxPrice) {
+        this.user = user;
+        this.keyword = keyword;
+        this.category = category;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+}
@@ -0,0 +1,96 @@
+package com.suho149.liveauction.domain.search.percolator;
+
+import com.suho149.liveauction.domain.keyword.matcher.KeywordAutomaton;
+import com.suho149.liveauction.domain.product.entity.Category;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 저장 검색 퍼컬레이터 색인. (만든 뒤에는 바뀌지 않으므로 여러 스레드가 함께 사용)
+ *
+ * 저장 검색을 카테고리별 버킷(+ 카테고리 무관 버킷)으로 나누고, 버킷 안에서
+ * - 키워드가 없는 검색은 가격 구간 색인(PriceIntervalIndex)으로 상품 가격을 포함하는 것만 찾고,
+ * - 키워드가 있는 검색은 키워드별로 묶어 Aho-Corasick 오토마톤으로 상품 본문에 포함된 키워드의 검색만 찾은 뒤 가격을 확인합니다.
+ * 따라서 상품 하나를 매칭하는 비용은 등록된 검색 수가 아니라, 상품의 카테고리/가격/본문에 걸리는 검색 수에 비례합니다.
+ */
+class PercolatorIndex {
+
+    static final PercolatorIndex EMPTY = build(List.of());
+
+    private final Map<Category, Bucket> byCategory;
+    private final Bucket anyCategory;
+
+    private PercolatorIndex(Map<Category, Bucket> byCategory, Bucket anyCategory) {
+        this.byCategory = byCategory;
+        this.anyCategory = anyCategory;
+    }
+
+    static PercolatorIndex build(Collection<SavedSearchEntry> entries) {
+        Map<Category, List<SavedSearchEntry>> grouped = new EnumMap<>(Category.class);
+        List<SavedSearchEntry> any = new ArrayList<>();
+        for (SavedSearchEntry entry : entries) {
+            if (entry.getCategory() == null) {
+                any.add(entry);
+            } else {
+                grouped.computeIfAbsent(entry.getCategory(), c -> new ArrayList<>()).add(entry);
+            }
+        }
+        Map<Category, Bucket> byCategory = new EnumMap<>(Category.class);
+        grouped.forEach((category, bucketEntries) -> byCategory.put(category, new Bucket(bucketEntries)));
+        return new PercolatorIndex(byCategory, new Bucket(any));
+    }
+
+    /**
+     * 새 상품(카테고리, 가격, 본문)에 걸리는 저장 검색을 찾습니다.
+     */
+    void match(Category category, long price, String text, Consumer<SavedSearchEntry> consumer) {
+        anyCategory.match(price, text, consumer);
+        Bucket bucket = category != null ? byCategory.get(category) : null;
+        if (bucket != null) {
+            bucket.match(price, text, consumer);
+        }
+    }
+
+    private static class Bucket {
+        private final PriceIntervalIndex<SavedSearchEntry> withoutKeyword;
+        private final KeywordAutomaton automaton;
+        private final List<List<SavedSearchEntry>> byKeyword; // 오토마톤의 키워드 번호 순서
+
+        Bucket(List<SavedSearchEntry> entries) {
+            List<SavedSearchEntry> noKeyword = new ArrayList<>();
+            Map<String, List<SavedSearchEntry>> keyworded = new LinkedHashMap<>();
+            for (SavedSearchEntry entry : entries) {
+                if (entry.getKeyword() == null) {
+                    noKeyword.add(entry);
+                } else {
+                    keyworded.computeIfAbsent(entry.getKeyword(), k -> new ArrayList<>()).add(entry);
+                }
+            }
+            this.withoutKeyword = PriceIntervalIndex.build(noKeyword, SavedSearchEntry::getMinPrice, SavedSearchEntry::getMaxPrice);
+            this.automaton = KeywordAutomaton.build(new ArrayList<>(keyworded.keySet()));
+            this.byKeyword = new ArrayList<>(keyworded.values());
+        }
+
+        void match(long price, String text, Consumer<SavedSearchEntry> consumer) {
+            withoutKeyword.stab(price, consumer);
+            if (byKeyword.isEmpty()) {
+                return;
+            }
+            BitSet matched = automaton.match(text);
+            for (int id = matched.nextSetBit(0); id >= 0; id = matched.nextSetBit(id + 1)) {
+                for (SavedSearchEntry entry : byKeyword.get(id)) {
+                    if (entry.coversPrice(price)) {
+                        consumer.accept(entry);
+                    }
+                }
+            }
+        }
+    }
+}
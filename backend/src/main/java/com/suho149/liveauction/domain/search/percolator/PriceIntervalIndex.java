@@ -0,0 +1,99 @@
+package com.suho149.liveauction.domain.search.percolator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * 가격 구간 [min, max] 들 중에서 주어진 가격을 포함하는 구간을 찾는 색인. (centered interval tree, 만든 뒤에는 바뀌지 않음)
+ * 조회 비용은 O(log n + 찾은 구간 수) 입니다.
+ */
+class PriceIntervalIndex<T> {
+
+    private final Node<T> root;
+
+    private PriceIntervalIndex(Node<T> root) {
+        this.root = root;
+    }
+
+    static <T> PriceIntervalIndex<T> build(List<T> items, ToLongFunction<T> min, ToLongFunction<T> max) {
+        return new PriceIntervalIndex<>(buildNode(new ArrayList<>(items), min, max));
+    }
+
+    void stab(long price, Consumer<T> consumer) {
+        Node<T> node = root;
+        while (node != null) {
+            if (price < node.center) {
+                // 중심을 포함하는 구간 중 min 이 price 이하인 것만 price 를 포함
+                for (int i = 0; i < node.byMin.size() && node.minOf(i) <= price; i++) {
+                    consumer.accept(node.byMin.get(i));
+                }
+                node = node.left;
+            } else if (price > node.center) {
+                for (int i = 0; i < node.byMax.size() && node.maxOf(i) >= price; i++) {
+                    consumer.accept(node.byMax.get(i));
+                }
+                node = node.right;
+            } else {
+                node.byMin.forEach(consumer);
+                return; // 왼쪽은 모두 max < center, 오른쪽은 모두 min > center
+            }
+        }
+    }
+
+    private static <T> Node<T> buildNode(List<T> items, ToLongFunction<T> min, ToLongFunction<T> max) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        items.sort(Comparator.comparingLong(min));
+        // 가운데 구간의 시작점을 중심으로 잡으면 그 구간은 항상 중심을 포함하므로 매 단계 줄어듦
+        long center = min.applyAsLong(items.get(items.size() / 2));
+
+        List<T> left = new ArrayList<>();
+        List<T> right = new ArrayList<>();
+        List<T> overlapping = new ArrayList<>();
+        for (T item : items) {
+            if (max.applyAsLong(item) < center) {
+                left.add(item);
+            } else if (min.applyAsLong(item) > center) {
+                right.add(item);
+            } else {
+                overlapping.add(item);
+            }
+        }
+        List<T> byMax = new ArrayList<>(overlapping);
+        byMax.sort(Comparator.comparingLong(max).reversed());
+        return new Node<>(center, overlapping, byMax, min, max,
+                buildNode(left, min, max), buildNode(right, min, max));
+    }
+
+    private static class Node<T> {
+        private final long center;
+        private final List<T> byMin; // min 오름차순
+        private final List<T> byMax; // max 내림차순
+        private final ToLongFunction<T> min;
+        private final ToLongFunction<T> max;
+        private final Node<T> left;
+        private final Node<T> right;
+
+        Node(long center, List<T> byMin, List<T> byMax, ToLongFunction<T> min, ToLongFunction<T> max, Node<T> left, Node<T> right) {
+            this.center = center;
+            this.byMin = byMin;
+            this.byMax = byMax;
+            this.min = min;
+            this.max = max;
+            this.left = left;
+            this.right = right;
+        }
+
+        long minOf(int i) {
+            return min.applyAsLong(byMin.get(i));
+        }
+
+        long maxOf(int i) {
+            return max.applyAsLong(byMax.get(i));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.suho149.liveauction.domain.search.percolator;
+
+import com.suho149.liveauction.domain.keyword.matcher.KeywordAutomaton;
+import com.suho149.liveauction.domain.product.entity.Category;
+import lombok.Getter;
+
+/**
+ * 퍼컬레이터 색인에 올라가는 저장 검색 한 건. 비어 있는 조건은 제한 없음으로 바꿔 둡니다.
+ */
+@Getter
+class SavedSearchEntry {
+    private final Long id;
+    private final Long userId;
+    private final Category category; // null 이면 모든 카테고리
+    private final long minPrice;
+    private final long maxPrice;
+    private final String keyword; // 정규화된 키워드, null 이면 키워드 조건 없음
+
+    SavedSearchEntry(Long id, Long userId, Category category, Long minPrice, Long maxPrice, String keyword) {
+        this.id = id;
+        this.userId = userId;
+        this.category = category == Category.ALL ? null : category;
+        this.minPrice = minPrice != null ? minPrice : 0L;
+        this.maxPrice = maxPrice != null ? maxPrice : Long.MAX_VALUE;
+        this.keyword = keyword == null || keyword.isBlank() ? null : KeywordAutomaton.normalize(keyword.trim());
+    }
+
+    boolean coversPrice(long price) {
+        return minPrice <= price && price <= maxPrice;
+    }
+}
@@ -0,0 +1,86 @@
+package com.suho149.liveauction.domain.search.percolator;
+
+import com.suho149.liveauction.domain.product.entity.Category;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.search.entity.SavedSearch;
+import com.suho149.liveauction.domain.search.repository.SavedSearchRepository;
+import com.suho149.liveauction.global.cache.RedisVersionedIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 새로 등록된 상품을 저장 검색들에 거꾸로 대어 보고(percolate), 알림을 받을 사용자를 찾습니다.
+ *
+ * 저장 검색은 메모리 색인(PercolatorIndex)으로 유지합니다. 등록/삭제는 커밋된 뒤 이 노드의 색인에 바로 반영되고,
+ * Redis 의 saved-search:version 으로 다른 노드에 알립니다. (RedisVersionedIndex)
+ */
+@Slf4j
+@Component
+public class SavedSearchPercolator {
+
+    private static final String VERSION_KEY = "saved-search:version";
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final RedisVersionedIndex<SavedSearches> index;
+
+    public SavedSearchPercolator(SavedSearchRepository savedSearchRepository, StringRedisTemplate redisTemplate) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.index = new RedisVersionedIndex<>("저장 검색", VERSION_KEY, redisTemplate, this::load);
+    }
+
+    /**
+     * 상품의 카테고리, 현재가, 상품명/설명이 조건에 맞는 저장 검색의 사용자 ID 목록. (사용자별로 한 번만 포함)
+     */
+    public Set<Long> percolate(Product product) {
+        Set<Long> userIds = new HashSet<>();
+        String text = product.getName() + " " + product.getDescription();
+        index.current().percolator.match(product.getCategory(), product.getCurrentPrice(), text, entry -> userIds.add(entry.getUserId()));
+        return userIds;
+    }
+
+    // 저장 검색 등록 (트랜잭션 안에서 호출되면 커밋된 뒤 반영)
+    public void added(SavedSearch savedSearch, Long userId) {
+        SavedSearchEntry entry = new SavedSearchEntry(savedSearch.getId(), userId, savedSearch.getCategory(),
+                savedSearch.getMinPrice(), savedSearch.getMaxPrice(), savedSearch.getKeyword());
+        index.update(current -> {
+            current.entries.put(entry.getId(), entry);
+            return new SavedSearches(current.entries);
+        });
+    }
+
+    // 저장 검색 삭제 (트랜잭션 안에서 호출되면 커밋된 뒤 반영)
+    public void removed(Long savedSearchId) {
+        index.update(current -> {
+            current.entries.remove(savedSearchId);
+            return new SavedSearches(current.entries);
+        });
+    }
+
+    private SavedSearches load() {
+        Map<Long, SavedSearchEntry> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : savedSearchRepository.findAllForPercolator()) {
+            SavedSearchEntry entry = new SavedSearchEntry((Long) row[0], (Long) row[1], (Category) row[2],
+                    (Long) row[3], (Long) row[4], (String) row[5]);
+            loaded.put(entry.getId(), entry);
+        }
+        log.info("저장 검색 {}개 적재", loaded.size());
+        return new SavedSearches(loaded);
+    }
+
+    // 저장 검색 목록과 그것으로 만든 색인 (변경될 때마다 색인을 다시 만들어 함께 교체)
+    private static class SavedSearches {
+        private final Map<Long, SavedSearchEntry> entries;
+        private final PercolatorIndex percolator;
+
+        SavedSearches(Map<Long, SavedSearchEntry> entries) {
+            this.entries = entries;
+            this.percolator = PercolatorIndex.build(entries.values());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.suho149.liveauction.domain.search.repository;
+
+import com.suho149.liveauction.domain.search.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    List<SavedSearch> findByUserIdOrderByIdDesc(Long userId);
+
+    long countByUserId(Long userId);
+
+    // 퍼컬레이터 적재용. 결과 행: [저장 검색 ID, 사용자 ID, 카테고리, 최소 가격, 최대 가격, 키워드]
+    @Query("SELECT s.id, s.user.id, s.category, s.minPrice, s.maxPrice, s.keyword FROM SavedSearch s")
+    List<Object[]> findAllForPercolator();
+}
@@ -0,0 +1,79 @@
+package com.suho149.liveauction.domain.search.service;
+
+import com.suho149.liveauction.domain.product.dto.ProductSearchCondition;
+import com.suho149.liveauction.domain.product.entity.Category;
+import com.suho149.liveauction.domain.search.dto.SavedSearchResponse;
+import com.suho149.liveauction.domain.search.entity.SavedSearch;
+import com.suho149.liveauction.domain.search.percolator.SavedSearchPercolator;
+import com.suho149.liveauction.domain.search.repository.SavedSearchRepository;
+import com.suho149.liveauction.domain.user.entity.User;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import com.suho149.liveauction.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SavedSearchService {
+
+    private static final int MAX_SAVED_SEARCHES_PER_USER = 50;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final UserRepository userRepository;
+    private final SavedSearchPercolator savedSearchPercolator;
+
+    /**
+     * 검색 조건(키워드, 카테고리, 가격 범위)을 저장합니다. 이후 조건에 맞는 상품이 등록되면 알림을 받습니다.
+     * (판매자 이름, 상태 조건은 새 상품 알림에 의미가 없으므로 저장하지 않습니다.)
+     */
+    @Transactional
+    public SavedSearchResponse addSavedSearch(ProductSearchCondition condition, UserPrincipal userPrincipal) {
+        String keyword = StringUtils.hasText(condition.getKeyword()) ? condition.getKeyword().trim() : null;
+        Category category = condition.getCategory() == Category.ALL ? null : condition.getCategory();
+        if (keyword == null && category == null && condition.getMinPrice() == null && condition.getMaxPrice() == null) {
+            throw new IllegalArgumentException("검색 조건을 하나 이상 입력해야 합니다.");
+        }
+        if (condition.getMinPrice() != null && condition.getMaxPrice() != null && condition.getMinPrice() > condition.getMaxPrice()) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+        if (savedSearchRepository.countByUserId(userPrincipal.getId()) >= MAX_SAVED_SEARCHES_PER_USER) {
+            throw new IllegalStateException("저장 검색은 최대 " + MAX_SAVED_SEARCHES_PER_USER + "개까지 등록할 수 있습니다.");
+        }
+
+        User user = userRepository.getReferenceById(userPrincipal.getId());
+        SavedSearch savedSearch = savedSearchRepository.save(SavedSearch.builder()
+                .user(user)
+                .keyword(keyword)
+                .category(category)
+                .minPrice(condition.getMinPrice())
+                .maxPrice(condition.getMaxPrice())
+                .build());
+        savedSearchPercolator.added(savedSearch, userPrincipal.getId());
+        return new SavedSearchResponse(savedSearch);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getMySavedSearches(UserPrincipal userPrincipal) {
+        return savedSearchRepository.findByUserIdOrderByIdDesc(userPrincipal.getId())
+                .stream().map(SavedSearchResponse::new).collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void deleteSavedSearch(Long savedSearchId, UserPrincipal userPrincipal) {
+        SavedSearch savedSearch = savedSearchRepository.findById(savedSearchId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 저장 검색입니다."));
+
+        // 본인의 저장 검색인지 확인
+        if (!savedSearch.getUser().getId().equals(userPrincipal.getId())) {
+            throw new IllegalStateException("삭제 권한이 없는 저장 검색입니다.");
+        }
+
+        savedSearchRepository.delete(savedSearch);
+        savedSearchPercolator.removed(savedSearchId);
+    }
+}
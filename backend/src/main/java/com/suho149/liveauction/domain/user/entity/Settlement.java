@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_settlement_payment_id", columnNames = "payment_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Settlement {
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,5 +31,9 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
      * @return User 목록
      */
     List<User> findByRole(Role role);
+
+    // 주어진 ID 중 실제로 존재하는 사용자 ID
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
 
@@ -28,7 +28,8 @@ public class SettlementService {
 
     /**
      * 구매 확정 시 호출되어, '정산 가능' 상태의 Settlement를 생성합니다.
-     * DeliveryService에서 호출됩니다.
+     * DeliveryService와 DeliveryScheduler에서 배송 상태를 조건부로 CONFIRMED 로 바꾼 뒤 호출됩니다.
+     * 아래 확인은 같은 트랜잭션 안의 중복만 걸러내며, 동시에 생성되는 경우는 payment_id 유니크 제약이 막습니다.
      */
     @Transactional
     public void createSettlement(Payment payment) {
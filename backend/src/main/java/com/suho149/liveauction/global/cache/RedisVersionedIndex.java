@@ -0,0 +1,110 @@
+package com.suho149.liveauction.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * DB 를 원본으로 하는 메모리 색인을 여러 노드에서 맞춰 쓰기 위한 Redis 버전 관리. (KeywordMatcher, SavedSearchPercolator)
+ *
+ * 변경은 커밋된 뒤 이 노드의 색인에 바로 반영하고, Redis 의 버전 키를 올려 다른 노드에 알립니다.
+ * 각 노드는 읽기 전에 버전을 비교해 다른 노드에서 바뀐 것이 있으면 loader 로 DB 에서 다시 적재합니다.
+ * 버전을 먼저 읽고 적재하므로, 적재 중 바뀐 것은 다음 읽기 때 다시 적재됩니다.
+ *
+ * @param <S> 색인 상태. 변경 함수가 돌려준 상태로 교체합니다.
+ */
+@Slf4j
+public class RedisVersionedIndex<S> {
+
+    private static final long NOT_LOADED = Long.MIN_VALUE;
+
+    private final String name; // 로그에 쓰는 색인 이름
+    private final String versionKey;
+    private final StringRedisTemplate redisTemplate;
+    private final Supplier<S> loader;
+
+    private volatile S state;
+    private volatile long loadedVersion = NOT_LOADED;
+
+    public RedisVersionedIndex(String name, String versionKey, StringRedisTemplate redisTemplate, Supplier<S> loader) {
+        this.name = name;
+        this.versionKey = versionKey;
+        this.redisTemplate = redisTemplate;
+        this.loader = loader;
+    }
+
+    /**
+     * 다른 노드에서 바뀐 것이 있으면 다시 적재한 뒤 현재 색인을 돌려줍니다.
+     */
+    public S current() {
+        refreshIfStale();
+        return state;
+    }
+
+    /**
+     * 색인을 변경합니다. (트랜잭션 안에서 호출되면 커밋된 뒤 반영)
+     */
+    public void update(UnaryOperator<S> change) {
+        afterCommit(() -> apply(change));
+    }
+
+    private synchronized void apply(UnaryOperator<S> change) {
+        if (loadedVersion == NOT_LOADED) {
+            return; // 아직 적재 전이면 처음 읽을 때 DB 에서 함께 적재됨
+        }
+        state = change.apply(state);
+        try {
+            Long version = redisTemplate.opsForValue().increment(versionKey);
+            // 그 사이 다른 노드의 변경이 없었을 때만 최신으로 간주 (있었다면 다음 읽기 때 다시 적재)
+            if (version != null && version == loadedVersion + 1) {
+                loadedVersion = version;
+            }
+        } catch (RuntimeException e) {
+            log.warn("{} 버전 갱신 실패. 다른 노드에는 다음 변경 때 반영됩니다.", name, e);
+        }
+    }
+
+    private void refreshIfStale() {
+        long version;
+        try {
+            String value = redisTemplate.opsForValue().get(versionKey);
+            version = value != null ? Long.parseLong(value) : 0L;
+        } catch (RuntimeException e) {
+            if (loadedVersion != NOT_LOADED) {
+                log.warn("{} 버전 조회 실패. 메모리의 색인으로 매칭합니다.", name, e);
+                return;
+            }
+            version = NOT_LOADED + 1; // Redis 없이 처음 적재 (다음 조회 때 버전을 다시 맞춤)
+        }
+        if (version != loadedVersion) {
+            reload(version);
+        }
+    }
+
+    private synchronized void reload(long version) {
+        if (version == loadedVersion) {
+            return;
+        }
+        // 읽는 스레드가 비어 있는 상태를 보지 않도록 다 만든 뒤에 교체
+        state = loader.get();
+        loadedVersion = version;
+        log.debug("{} 적재 완료 (version={})", name, version);
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
@@ -0,0 +1,44 @@
+package com.suho149.liveauction.global.config;
+
+import com.suho149.liveauction.domain.auction.entity.Bid;
+import com.suho149.liveauction.domain.notification.entity.Notification;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * bid, notification 테이블의 ID 생성 방식을 IDENTITY 에서 시퀀스로 바꾸면서, 기존 행과 ID가 겹치지 않도록
+ * 애플리케이션 시작 시 각 시퀀스를 현재 최대 ID 이후로 맞춥니다. (MariaDB SETVAL 은 값을 뒤로 돌리지 않습니다.)
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스키마(시퀀스) 생성이 끝난 뒤에 실행되도록 EntityManagerFactory 에 의존
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void alignSequences() {
+        alignSequence("bid", "bid_seq", Bid.ID_ALLOCATION_SIZE);
+        alignSequence("notification", "notification_seq", Notification.ID_ALLOCATION_SIZE);
+    }
+
+    private void alignSequence(String table, String sequence, int allocationSize) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long next = (maxId != null ? maxId : 0) + allocationSize;
+            jdbcTemplate.queryForObject("SELECT SETVAL(" + sequence + ", " + next + ")", Long.class);
+            log.info("{} 정렬 완료. 기존 최대 ID: {}", sequence, maxId);
+        } catch (DataAccessException e) {
+            // SETVAL 을 지원하지 않는 DB(테스트용 H2 등)에서는 건너뜀
+            log.warn("{} 정렬을 건너뜁니다: {}", sequence, e.getMessage());
+        }
+    }
+}
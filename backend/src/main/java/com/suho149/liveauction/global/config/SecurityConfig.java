@@ -61,6 +61,7 @@ public class SecurityConfig {
                                 "/api/v1/products",          // 상품 목록 조회
                                 "/api/v1/products/{productId}", // 상품 상세 조회
                                 "/api/v1/products/{productId}/qna", // Q&A 목록 조회
+                                "/api/v1/products/{productId}/bids", // 입찰 기록 조회
                                 "/api/v1/users/{userId}/profile"  // 사용자 프로필 조회
                         ).permitAll()
                         .requestMatchers(
@@ -76,10 +77,14 @@ public class SecurityConfig {
 
                         // 2. 관리자(ADMIN)만 접근 가능한 경로
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // 3. 일반 사용자(USER)와 관리자(ADMIN) 모두 접근 가능한 경로
                         .requestMatchers(
                                 "/api/v1/keywords/**",
+                                "/api/v1/saved-searches/**",
+                                "/api/v1/price-alerts/**",
                                 "/api/v1/notifications/**",
                                 "/api/v1/payments/**",
                                 "/api/v1/chat/**",
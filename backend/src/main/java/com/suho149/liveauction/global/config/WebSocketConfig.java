@@ -1,7 +1,13 @@
 package com.suho149.liveauction.global.config;
 
+import com.suho149.liveauction.domain.user.repository.UserRepository;
 import com.suho149.liveauction.global.jwt.JwtTokenProvider;
+import com.suho149.liveauction.global.websocket.OutboundSessionPolicy;
+import com.suho149.liveauction.global.websocket.RedisStompFanout;
+import com.suho149.liveauction.global.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -11,11 +17,11 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
-import org.springframework.security.core.Authentication;
 import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -23,6 +29,16 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtTokenProvider jwtTokenProvider; // ★ JwtTokenProvider 주입
+    private final UserRepository userRepository;
+    private final ObjectProvider<RedisStompFanout> redisStompFanout; // auction.websocket.broker=redis 일 때만 존재
+    private final OutboundSessionPolicy outboundSessionPolicy;
+
+    // 한 프레임을 보내는 데 이 시간보다 오래 걸리거나, 밀린 프레임이 이 크기를 넘으면 세션을 끊습니다.
+    @Value("${auction.websocket.outbound.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${auction.websocket.outbound.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -34,6 +50,22 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/pub");
         registry.enableSimpleBroker("/sub", "/queue");
         registry.setUserDestinationPrefix("/user"); // 사용자 목적지 prefix 설정
+        // 여러 인스턴스로 실행할 때는 auction.websocket.broker=redis 로 설정하면,
+        // 각 노드의 simple broker 로 들어온 /sub/**, /user/** 메시지를 Redis pub/sub 으로 다른 노드에 전달합니다.
+        registry.configureBrokerChannel().interceptors(redisStompFanout.stream().toArray(ChannelInterceptor[]::new));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(outboundSessionPolicy);
+    }
+
+    // 느린 세션에는 가격 갱신을 상품별 최신 프레임으로 묶어서 보냄
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(outboundSessionPolicy);
     }
 
     // ★ 클라이언트의 요청을 가로채는 인터셉터 설정
@@ -51,9 +83,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     if (StringUtils.hasText(jwt) && jwt.startsWith("Bearer ")) {
                         jwt = jwt.substring(7);
                         if (jwtTokenProvider.validateToken(jwt)) {
-                            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
                             // SecurityContext에 저장하는 대신, STOMP 세션의 user로 설정
-                            accessor.setUser(authentication);
+                            // 사용자 정보는 연결할 때 한 번만 조회하고, 이후 메시지는 세션의 user 를 그대로 사용
+                            userRepository.findByEmail(jwtTokenProvider.getEmailFromToken(jwt))
+                                    .ifPresent(user -> accessor.setUser(StompPrincipal.from(user)));
                         }
                     }
                 }
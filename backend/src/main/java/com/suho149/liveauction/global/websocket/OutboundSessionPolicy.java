@@ -0,0 +1,195 @@
+package com.suho149.liveauction.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션별 송신(outbound) 정책. 느린 클라이언트 때문에 서버가 보낼 프레임을 끝없이 쌓아 두지 않도록 합니다.
+ *
+ * - 세션마다 아직 소켓에 쓰지 못한 바이트 수를 추적합니다.
+ *   (clientOutboundChannel 에 들어올 때 페이로드 크기를 더하고, 실제 소켓에 쓴 프레임 크기만큼 빼되 0 아래로는 내려가지 않음)
+ *   쓴 만큼 빼므로, 소켓까지 가지 못한 프레임이 있거나 세지 않은 프레임(ERROR 등)을 써도 이후 송신에서 다시 0 으로 맞춰집니다.
+ * - 소켓에 프레임을 쓰는 중이고 밀린 바이트가 conflate-threshold-bytes 이상인 세션에는 /sub/products/** 가격 갱신을
+ *   바로 보내지 않고 상품별 최신 프레임 하나만 보관합니다. 쓰기를 마치고 더 밀리지 않았으면 보관한 최신 프레임을 보냅니다.
+ *   (가격 갱신은 최신 값만 의미가 있고, 클라이언트는 순번으로 이전 프레임을 무시함)
+ *   쓰는 중인 프레임이 없으면 ConcurrentWebSocketSessionDecorator 의 버퍼도 비어 있으므로 밀린 것으로 보지 않습니다.
+ * - 송신 시간/버퍼 한도를 넘긴 세션은 Spring 의 ConcurrentWebSocketSessionDecorator 가 끊습니다. (WebSocketConfig)
+ */
+@Slf4j
+@Component
+public class OutboundSessionPolicy implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final String CONFLATED_PREFIX = "/sub/products/";
+
+    private final MessageChannel clientOutboundChannel;
+    private final Map<String, SessionOutbound> sessions = new ConcurrentHashMap<>();
+    private final Counter conflatedFrames;
+    private final Counter droppedFrames;
+    private final Counter terminatedSessions;
+
+    @Value("${auction.websocket.outbound.conflate-threshold-bytes:65536}")
+    private long conflateThresholdBytes;
+
+    public OutboundSessionPolicy(@Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                                 MeterRegistry meterRegistry) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        Gauge.builder("auction.websocket.sessions", sessions, Map::size)
+                .description("연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.websocket.outbound.buffered.bytes", this, OutboundSessionPolicy::bufferedBytes)
+                .description("모든 세션에서 아직 소켓에 쓰지 못한 프레임 바이트 수")
+                .register(meterRegistry);
+        this.conflatedFrames = Counter.builder("auction.websocket.outbound.frames")
+                .description("느린 세션에 보내지 않은 가격 갱신 프레임 수")
+                .tag("result", "conflated")
+                .register(meterRegistry);
+        this.droppedFrames = Counter.builder("auction.websocket.outbound.frames")
+                .description("느린 세션에 보내지 않은 가격 갱신 프레임 수")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.terminatedSessions = Counter.builder("auction.websocket.outbound.terminated")
+                .description("송신 시간/버퍼 한도를 넘겨 끊긴 세션 수")
+                .register(meterRegistry);
+    }
+
+    // --- clientOutboundChannel 인터셉터: 세션으로 나가는 프레임을 세고, 밀린 세션의 가격 갱신을 묶음 ---
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionOutbound outbound = sessionId != null ? sessions.get(sessionId) : null;
+        if (outbound == null) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+                && destination != null && destination.startsWith(CONFLATED_PREFIX)
+                && outbound.lagging()) {
+            if (outbound.parked.put(destination, message) != null) {
+                conflatedFrames.increment();
+            }
+            return null; // 보관한 최신 프레임은 밀린 프레임을 다 보낸 뒤 전송
+        }
+        outbound.enqueued(sizeOf(message));
+        return message;
+    }
+
+    // --- WebSocket 세션 데코레이터: 실제로 소켓에 쓴 프레임을 셈 ---
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionOutbound outbound = new SessionOutbound();
+                sessions.put(session.getId(), outbound);
+                super.afterConnectionEstablished(new TrackingSession(session, outbound));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionOutbound outbound = sessions.remove(session.getId());
+                if (outbound != null && !outbound.parked.isEmpty()) {
+                    droppedFrames.increment(outbound.parked.size());
+                }
+                if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    terminatedSessions.increment();
+                    log.info("송신 한도를 넘긴 WebSocket 세션 종료. sessionId={}", session.getId());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private double bufferedBytes() {
+        return sessions.values().stream().mapToLong(outbound -> outbound.pendingBytes.get()).sum();
+    }
+
+    private static int sizeOf(Message<?> message) {
+        return message.getPayload() instanceof byte[] payload ? payload.length : 0;
+    }
+
+    // 밀린 프레임을 다 보냈으면 보관해 둔 최신 가격 갱신을 다시 내보냄 (인터셉터를 다시 거침)
+    private void flushParked(SessionOutbound outbound) {
+        for (String destination : outbound.parked.keySet()) {
+            if (outbound.lagging()) {
+                return;
+            }
+            Message<?> latest = outbound.parked.remove(destination);
+            if (latest != null) {
+                clientOutboundChannel.send(latest);
+            }
+        }
+    }
+
+    private class SessionOutbound {
+        private final AtomicLong pendingBytes = new AtomicLong();
+        // ConcurrentWebSocketSessionDecorator 가 한 번에 한 스레드만 소켓에 쓰게 하므로 플래그 하나로 충분
+        private volatile boolean writing;
+        private final Map<String, Message<?>> parked = new ConcurrentHashMap<>();
+
+        void enqueued(int size) {
+            pendingBytes.addAndGet(size);
+        }
+
+        void writeStarted() {
+            writing = true;
+        }
+
+        void written(int frameSize) {
+            // 프레임 크기에는 STOMP 헤더가 포함되어 더한 것보다 조금 더 빠지므로, 밀린 바이트는 약간 적게 잡힘
+            pendingBytes.accumulateAndGet(frameSize, (pending, size) -> Math.max(0, pending - size));
+            writing = false;
+            if (!parked.isEmpty() && !lagging()) {
+                flushParked(this);
+            }
+        }
+
+        boolean lagging() {
+            return writing && pendingBytes.get() >= conflateThresholdBytes;
+        }
+    }
+
+    private static class TrackingSession extends WebSocketSessionDecorator {
+
+        private final SessionOutbound outbound;
+
+        TrackingSession(WebSocketSession session, SessionOutbound outbound) {
+            super(session);
+            this.outbound = outbound;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            outbound.writeStarted();
+            try {
+                super.sendMessage(message);
+            } finally {
+                outbound.written(message.getPayloadLength());
+            }
+        }
+    }
+}
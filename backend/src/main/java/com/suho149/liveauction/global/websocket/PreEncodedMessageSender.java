@@ -0,0 +1,55 @@
+package com.suho149.liveauction.global.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 구독자가 많은 토픽(/sub/products/{id}, /sub/chat/rooms/{id})으로 보내는 메시지를 JSON 바이트로 한 번만 직렬화해 전송합니다.
+ *
+ * convertAndSend 는 보낼 때마다 메시지 컨버터 목록을 거쳐 페이로드를 변환합니다. 여기서는 직렬화된 byte[] 와
+ * 변경할 수 없는(immutable) 헤더로 Message 를 미리 만들어 두고 그대로 브로커에 넘기므로,
+ * simple broker 가 구독 세션마다 만드는 메시지는 같은 바이트 배열을 공유하고 STOMP 프레임 헤더만 세션별로 붙습니다.
+ * 미리 만든 Message 는 여러 번 보내도 되므로, 같은 프레임을 다시 보내야 하는 곳에서 재사용할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PreEncodedMessageSender {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 페이로드를 JSON 으로 한 번 직렬화한 메시지를 만듭니다.
+     */
+    public Message<byte[]> encode(String destination, Object payload) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("STOMP 메시지 직렬화 실패. destination=" + destination, e);
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        // 보내는 쪽(SimpMessagingTemplate)이 헤더를 바꾸지 못하게 고정하여, 여러 번 또는 여러 스레드에서 보내도 안전하게 함
+        accessor.setImmutable();
+        return MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+    }
+
+    public void send(Message<byte[]> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        messagingTemplate.send(destination, message);
+    }
+
+    public void send(String destination, Object payload) {
+        send(encode(destination, payload));
+    }
+}
@@ -0,0 +1,164 @@
+package com.suho149.liveauction.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 여러 백엔드 인스턴스 사이에 STOMP 메시지를 Redis pub/sub 으로 전달합니다. (auction.websocket.broker=redis)
+ *
+ * 각 노드는 기존처럼 simple broker 로 자기 노드의 구독자에게 전달하고, 브로커 채널로 들어온 메시지 중
+ * /sub/** 와 /user/** 목적지만 stomp:fanout 채널로 한 번 발행합니다. 다른 노드는 받은 메시지를 자기 브로커 채널에 넣어
+ * 자기 노드의 구독자에게 전달합니다. (/user/** 는 받은 노드의 UserDestinationMessageHandler 가 그 노드의 세션으로 변환)
+ *
+ * 페이로드는 보낸 노드에서 한 번 직렬화된 바이트를 그대로 전달하므로, 받는 노드에서 다시 직렬화하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.websocket.broker", havingValue = "redis")
+public class RedisStompFanout implements ChannelInterceptor, MessageListener {
+
+    private static final String CHANNEL = "stomp:fanout";
+    private static final String RELAYED_HEADER = "relayedFrom"; // 다른 노드에서 전달받은 메시지 표시 (다시 발행하지 않음)
+    private static final byte SEPARATOR = '\n';
+
+    private final RedisConnectionFactory connectionFactory;
+    private final MessageChannel brokerChannel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter published;
+    private final Counter received;
+
+    private RedisMessageListenerContainer container;
+
+    public RedisStompFanout(RedisConnectionFactory connectionFactory,
+                            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                            MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.brokerChannel = brokerChannel;
+        this.published = Counter.builder("auction.websocket.fanout")
+                .description("다른 노드로 발행하거나 다른 노드에서 받은 STOMP 메시지 수")
+                .tag("direction", "out")
+                .register(meterRegistry);
+        this.received = Counter.builder("auction.websocket.fanout")
+                .description("다른 노드로 발행하거나 다른 노드에서 받은 STOMP 메시지 수")
+                .tag("direction", "in")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        log.info("STOMP 메시지 Redis 중계 시작. nodeId={}", nodeId);
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        container.destroy();
+    }
+
+    // --- 브로커 채널 인터셉터: 이 노드에서 발행된 메시지를 다른 노드로 전달 ---
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null || accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getHeader(RELAYED_HEADER) != null) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null || !(destination.startsWith("/sub/") || destination.startsWith("/user/"))) {
+            return message; // 세션별로 변환된 /queue/** 목적지는 이 노드에만 의미가 있음
+        }
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            log.debug("직렬화되지 않은 페이로드는 중계하지 않습니다. destination={}", destination);
+            return message;
+        }
+        MimeType contentType = accessor.getContentType();
+        publish(encode(destination, contentType != null ? contentType.toString() : "", payload));
+        return message;
+    }
+
+    private void publish(byte[] frame) {
+        // 중계에 실패해도 이 노드의 구독자 전달은 계속되어야 합니다.
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.publish(CHANNEL.getBytes(StandardCharsets.UTF_8), frame);
+            published.increment();
+        } catch (RuntimeException e) {
+            log.warn("STOMP 메시지 Redis 발행 실패", e);
+        }
+    }
+
+    // --- Redis 구독: 다른 노드의 메시지를 이 노드의 구독자에게 전달 ---
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message redisMessage, byte[] pattern) {
+        byte[] frame = redisMessage.getBody();
+        int first = indexOf(frame, 0);
+        int second = first < 0 ? -1 : indexOf(frame, first + 1);
+        int third = second < 0 ? -1 : indexOf(frame, second + 1);
+        if (third < 0) {
+            log.warn("잘못된 형식의 STOMP 중계 메시지를 무시합니다.");
+            return;
+        }
+        String origin = new String(frame, 0, first, StandardCharsets.UTF_8);
+        if (nodeId.equals(origin)) {
+            return; // 자기 노드가 발행한 메시지는 이미 전달함
+        }
+        String destination = new String(frame, first + 1, second - first - 1, StandardCharsets.UTF_8);
+        String contentType = new String(frame, second + 1, third - second - 1, StandardCharsets.UTF_8);
+        byte[] payload = new byte[frame.length - third - 1];
+        System.arraycopy(frame, third + 1, payload, 0, payload.length);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        if (!contentType.isEmpty()) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(contentType));
+        }
+        accessor.setHeader(RELAYED_HEADER, origin);
+        brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        received.increment();
+    }
+
+    // 형식: 노드ID \n 목적지 \n content-type \n 페이로드
+    private byte[] encode(String destination, String contentType, byte[] payload) {
+        byte[] header = (nodeId + "\n" + destination + "\n" + contentType + "\n").getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[header.length + payload.length];
+        System.arraycopy(header, 0, frame, 0, header.length);
+        System.arraycopy(payload, 0, frame, header.length, payload.length);
+        return frame;
+    }
+
+    private static int indexOf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
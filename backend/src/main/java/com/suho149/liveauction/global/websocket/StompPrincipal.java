@@ -0,0 +1,37 @@
+package com.suho149.liveauction.global.websocket;
+
+import com.suho149.liveauction.domain.user.entity.User;
+import lombok.Getter;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션의 사용자. CONNECT 때 JWT 를 한 번 검증하고 사용자 정보를 한 번 조회해 세션에 저장합니다.
+ * 이후 채팅/입찰 메시지 핸들러는 메시지마다 토큰을 파싱하거나 사용자를 조회하지 않고 이 값을 사용합니다.
+ * (세션 동안 이름/프로필 사진이 바뀌어도 다시 연결하기 전까지는 연결 당시 값이 사용됩니다.)
+ */
+@Getter
+public class StompPrincipal implements Principal {
+
+    private final Long id;
+    private final String email;
+    private final String userName;
+    private final String picture;
+
+    private StompPrincipal(Long id, String email, String userName, String picture) {
+        this.id = id;
+        this.email = email;
+        this.userName = userName;
+        this.picture = picture;
+    }
+
+    public static StompPrincipal from(User user) {
+        return new StompPrincipal(user.getId(), user.getEmail(), user.getName(), user.getPicture());
+    }
+
+    // 사용자 목적지(/user/queue/**)는 이메일 기준으로 전달됩니다. (convertAndSendToUser(email, ...))
+    @Override
+    public String getName() {
+        return email;
+    }
+}
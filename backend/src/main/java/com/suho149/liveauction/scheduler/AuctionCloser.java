@@ -0,0 +1,138 @@
+package com.suho149.liveauction.scheduler;
+
+import com.suho149.liveauction.domain.alert.service.PriceAlertService;
+import com.suho149.liveauction.domain.auction.broadcast.PriceTickBroadcaster;
+import com.suho149.liveauction.domain.auction.engine.AutoBidOrderBook;
+import com.suho149.liveauction.domain.auction.engine.BidPriceFloor;
+import com.suho149.liveauction.domain.auction.event.AuctionEndedEvent;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.service.NotificationService;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경매 한 건을 마감(낙찰/유찰)합니다. 마감 타이머와 마감 스케줄러가 함께 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionCloser {
+
+    private final ProductRepository productRepository;
+    private final NotificationService notificationService;
+    private final AutoBidOrderBook autoBidOrderBook;
+    private final BidPriceFloor bidPriceFloor;
+    private final PriceTickBroadcaster priceTickBroadcaster;
+    private final PriceAlertService priceAlertService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 상품 행을 잠근 뒤 마감 시간이 지났으면 마감합니다. 상품마다 짧은 트랜잭션 하나로 처리합니다.
+     * 행을 잠그므로 마감 직전에 들어온 입찰의 연장과 경합하지 않습니다. (입찰이 먼저 커밋되면 연장된 시간을 보게 됨)
+     * @return 아직 마감 시간이 되지 않았으면 (연장된) 마감 시간, 마감했거나 마감할 필요가 없으면 null
+     */
+    @Transactional
+    public LocalDateTime closeIfDue(Long productId) {
+        Product product = productRepository.findByIdWithPessimisticLock(productId).orElse(null);
+        if (product == null || product.getStatus() != ProductStatus.ON_SALE) {
+            return null;
+        }
+        if (product.getAuctionEndTime().isAfter(LocalDateTime.now())) {
+            return product.getAuctionEndTime();
+        }
+        close(product);
+        return null;
+    }
+
+    /**
+     * 마감 시간이 지난 경매를 id 순으로 최대 chunkSize 건 잠그고, 하나의 짧은 트랜잭션으로 마감합니다.
+     * 상태 변경은 낙찰/유찰별 벌크 UPDATE 두 번으로 처리하며, 알림은 커밋 이후에 발송됩니다.
+     * @param afterId 이전 묶음의 마지막 상품 id (처음이면 0)
+     * @param lease 파티션의 작업 잠금. 상태를 변경하기 직전에 펜싱 토큰을 확인합니다.
+     * @return 처리한 묶음. 더 처리할 경매가 없으면 비어 있음
+     */
+    @Transactional
+    public ClosedChunk closeDueChunk(Long afterId, LocalDateTime now, int partition, int partitions, int chunkSize, JobLease lease) {
+        List<Product> products = productRepository.findDueAuctionsAfter(
+                ProductStatus.ON_SALE, now, afterId, partition, partitions, PageRequest.of(0, chunkSize));
+        if (products.isEmpty()) {
+            return ClosedChunk.EMPTY;
+        }
+
+        List<Long> withWinner = new ArrayList<>();
+        List<Long> withoutWinner = new ArrayList<>();
+        for (Product product : products) {
+            String url = "/products/" + product.getId();
+            if (product.getHighestBidder() != null) {
+                String winnerContent = "'" + product.getName() + "' 상품에 최종 낙찰되었습니다! 24시간 내에 결제를 완료해주세요.";
+                notificationService.send(product.getHighestBidder(), NotificationType.BID, winnerContent, url);
+                withWinner.add(product.getId());
+            } else {
+                String sellerContent = "등록하신 '" + product.getName() + "' 상품이 입찰자 없이 유찰되었습니다.";
+                notificationService.send(product.getSeller(), NotificationType.BID, sellerContent, url);
+                withoutWinner.add(product.getId());
+            }
+        }
+
+        lease.checkHeld();
+        // 행을 잠근 상태이므로 상태 조건은 만일을 위한 방어 장치입니다.
+        if (!withWinner.isEmpty()) {
+            productRepository.updateStatusInBulk(withWinner, ProductStatus.ON_SALE, ProductStatus.AUCTION_ENDED,
+                    LocalDateTime.now().plusHours(24));
+        }
+        if (!withoutWinner.isEmpty()) {
+            productRepository.updateStatusInBulk(withoutWinner, ProductStatus.ON_SALE, ProductStatus.FAILED);
+        }
+
+        priceAlertService.clearForClosedAuctions(products.stream().map(Product::getId).toList());
+        withWinner.forEach(id -> eventPublisher.publishEvent(new AuctionEndedEvent(id, ProductStatus.AUCTION_ENDED)));
+        withoutWinner.forEach(id -> eventPublisher.publishEvent(new AuctionEndedEvent(id, ProductStatus.FAILED)));
+        for (Product product : products) {
+            autoBidOrderBook.evict(product.getId());
+            bidPriceFloor.evict(product.getId());
+            priceTickBroadcaster.evict(product.getId());
+        }
+        log.info("경매 {}건 일괄 마감 완료. (낙찰 {}건, 유찰 {}건, 마지막 상품 ID {})",
+                products.size(), withWinner.size(), withoutWinner.size(), products.get(products.size() - 1).getId());
+        return new ClosedChunk(products.get(products.size() - 1).getId(), withWinner.size(), withoutWinner.size());
+    }
+
+    // 호출하는 쪽의 트랜잭션 안에서 실행
+    void close(Product product) {
+        String url = "/products/" + product.getId();
+
+        if (product.getHighestBidder() != null) {
+            // --- 낙찰된 경우 ---
+            product.endAuctionWithWinner();
+
+            // 낙찰자에게 알림 발송
+            String winnerContent = "'" + product.getName() + "' 상품에 최종 낙찰되었습니다! 24시간 내에 결제를 완료해주세요.";
+            notificationService.send(product.getHighestBidder(), NotificationType.BID, winnerContent, url);
+            log.info("상품 ID {} 낙찰 처리 완료. 낙찰자: {}", product.getId(), product.getHighestBidder().getName());
+        } else {
+            // --- 유찰된 경우 ---
+            product.endAuctionWithNoBidder();
+
+            // 판매자에게 유찰 알림 발송
+            String sellerContent = "등록하신 '" + product.getName() + "' 상품이 입찰자 없이 유찰되었습니다.";
+            notificationService.send(product.getSeller(), NotificationType.BID, sellerContent, url);
+            log.info("상품 ID {} 유찰 처리 완료.", product.getId());
+        }
+        autoBidOrderBook.evict(product.getId());
+        bidPriceFloor.evict(product.getId());
+        priceTickBroadcaster.evict(product.getId());
+        priceAlertService.clearForClosedAuctions(List.of(product.getId()));
+        eventPublisher.publishEvent(new AuctionEndedEvent(product.getId(), product.getStatus()));
+    }
+}
@@ -0,0 +1,215 @@
+package com.suho149.liveauction.scheduler;
+
+import com.suho149.liveauction.domain.auction.event.PriceChangedEvent;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 마감 시각마다 마감 작업을 실행하는 해시 타이밍 휠.
+ *
+ * 100ms(wheel-tick-ms) 간격의 칸 512개로 된 바퀴를 한 스레드가 돌리며, 한 바퀴(약 51초)보다 먼 마감은 남은 바퀴 수(rounds)를 함께 저장합니다.
+ * 등록/취소는 O(1)이고, 칸이 돌아올 때 그 칸의 타이머만 확인하므로 전체 상품을 주기적으로 훑지 않습니다.
+ *
+ * - 애플리케이션 시작 시 판매 중인 상품을 DB에서 읽어 다시 등록합니다.
+ * - 입찰로 마감 시간이 연장되면(PriceChangedEvent) 새 시각으로 다시 등록합니다.
+ * - 마감은 상품마다 별도의 짧은 트랜잭션(AuctionCloser.closeIfDue)으로 처리하며, 그 사이 연장되었으면 다시 등록합니다.
+ */
+@Slf4j
+@Component
+public class AuctionClosingWheel {
+
+    private static final int WHEEL_SIZE = 512; // 2의 거듭제곱
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final ProductRepository productRepository;
+    private final AuctionCloser auctionCloser;
+    private final Timer lateness;
+
+    @Value("${auction.closing.wheel-tick-ms:100}")
+    private long tickMillis;
+
+    @SuppressWarnings("unchecked")
+    private final Queue<Timeout>[] wheel = new Queue[WHEEL_SIZE]; // 휠 스레드 전용
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Timeout> timeouts = new ConcurrentHashMap<>(); // 상품별 최신 타이머
+
+    private final long startNanos = System.nanoTime();
+    private long tick; // 휠 스레드 전용
+    private Thread worker;
+    private ExecutorService closers;
+    private volatile boolean running = true;
+
+    public AuctionClosingWheel(ProductRepository productRepository, AuctionCloser auctionCloser, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.auctionCloser = auctionCloser;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.lateness = Timer.builder("auction.closing.lateness")
+                .description("마감 시각 대비 실제 마감 작업 시작 지연")
+                .register(meterRegistry);
+        Gauge.builder("auction.closing.scheduled", timeouts, Map::size)
+                .description("마감 대기 중인 경매 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        closers = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("auction-closer-"));
+        worker = new CustomizableThreadFactory("auction-closing-wheel-").newThread(this::run);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        closers.shutdown();
+        closers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 시작 시 판매 중인 모든 경매를 다시 등록합니다. (이미 지난 마감은 바로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        int count = 0;
+        for (Object[] row : productRepository.findIdAndAuctionEndTimeByStatus(ProductStatus.ON_SALE)) {
+            schedule((Long) row[0], (LocalDateTime) row[1]);
+            count++;
+        }
+        log.info("경매 마감 타이머 {}건 등록 완료.", count);
+    }
+
+    @EventListener
+    public void onPriceChanged(PriceChangedEvent event) {
+        if (event.getAuctionEndTime() != null) {
+            schedule(event.getProductId(), event.getAuctionEndTime());
+        }
+    }
+
+    /**
+     * 상품의 마감 타이머를 등록합니다. 이미 같은 시각으로 등록되어 있으면 아무것도 하지 않고,
+     * 다른 시각이면 이전 타이머를 취소하고 새로 등록합니다.
+     */
+    public void schedule(Long productId, LocalDateTime auctionEndTime) {
+        long deadlineMillis = auctionEndTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Timeout[] created = new Timeout[1];
+        timeouts.compute(productId, (id, existing) -> {
+            if (existing != null && existing.deadlineMillis == deadlineMillis) {
+                return existing;
+            }
+            if (existing != null) {
+                existing.cancelled = true;
+            }
+            created[0] = new Timeout(id, deadlineMillis);
+            return created[0];
+        });
+        if (created[0] != null) {
+            incoming.add(created[0]);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long deadlineNanos = startNanos + (tick + 1) * TimeUnit.MILLISECONDS.toNanos(tickMillis);
+            long sleepNanos = deadlineNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+                continue;
+            }
+            try {
+                transferIncoming();
+                expire(wheel[(int) (tick & MASK)]);
+            } catch (RuntimeException e) {
+                log.error("경매 마감 타이머 처리 중 오류", e);
+            }
+            tick++;
+        }
+    }
+
+    // 새로 등록된 타이머를 휠의 칸에 배치
+    private void transferIncoming() {
+        Timeout timeout;
+        while ((timeout = incoming.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long delayMillis = Math.max(0, timeout.deadlineMillis - System.currentTimeMillis());
+            long targetTick = Math.max(tick, tick + (delayMillis + tickMillis - 1) / tickMillis);
+            timeout.remainingRounds = (targetTick - tick) / WHEEL_SIZE;
+            wheel[(int) (targetTick & MASK)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                iterator.remove();
+                timeouts.remove(timeout.productId, timeout);
+                closers.execute(() -> fire(timeout));
+            }
+        }
+    }
+
+    private void fire(Timeout timeout) {
+        lateness.record(Math.max(0, System.currentTimeMillis() - timeout.deadlineMillis), TimeUnit.MILLISECONDS);
+        try {
+            LocalDateTime extendedEndTime = auctionCloser.closeIfDue(timeout.productId);
+            if (extendedEndTime != null) {
+                schedule(timeout.productId, extendedEndTime);
+            }
+        } catch (RuntimeException e) {
+            // 마감 스케줄러가 안전망으로 다시 처리합니다.
+            log.error("상품 ID {} 경매 마감 실패", timeout.productId, e);
+        }
+    }
+
+    private static class Timeout {
+        private final Long productId;
+        private final long deadlineMillis;
+        private long remainingRounds; // 휠 스레드 전용
+        private volatile boolean cancelled;
+
+        Timeout(Long productId, long deadlineMillis) {
+            this.productId = productId;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -1,88 +1,239 @@
 package com.suho149.liveauction.scheduler;
 
-import com.suho149.liveauction.domain.notification.entity.NotificationType;
-import com.suho149.liveauction.domain.notification.service.NotificationService;
 import com.suho149.liveauction.domain.payment.entity.Payment;
 import com.suho149.liveauction.domain.payment.entity.PaymentStatus;
 import com.suho149.liveauction.domain.payment.repository.PaymentRepository;
-import com.suho149.liveauction.domain.product.entity.Product;
 import com.suho149.liveauction.domain.product.entity.ProductStatus;
 import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AuctionScheduler {
     private final ProductRepository productRepository;
-    private final NotificationService notificationService;
     private final PaymentRepository paymentRepository;
+    private final AuctionCloser auctionCloser;
+    private final OverduePaymentExpirer overduePaymentExpirer;
+    private final MeterRegistry meterRegistry;
+    private final JobLeaseLock jobLeaseLock;
+    private final PlatformTransactionManager transactionManager;
     private static final int PENDING_EXPIRATION_MINUTES = 10;
 
+    @Value("${auction.closing.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${auction.scheduler.partitions:1}")
+    private int partitions;
+
+    private final AtomicLong closingBacklog = new AtomicLong();
+    private final AtomicLong paymentBacklog = new AtomicLong();
+    private Counter closedWithWinner;
+    private Counter closedWithoutWinner;
+    private Counter paymentsExpired;
+    private Counter closingSkipped;
+    private Counter expirySkipped;
+    private Timer closingDuration;
+    private Timer expiryDuration;
+
+    @PostConstruct
+    void registerMetrics() {
+        closedWithWinner = Counter.builder("auction.batch.closed")
+                .description("마감 스케줄러가 마감한 경매 수")
+                .tag("result", "winner")
+                .register(meterRegistry);
+        closedWithoutWinner = Counter.builder("auction.batch.closed")
+                .description("마감 스케줄러가 마감한 경매 수")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        paymentsExpired = Counter.builder("auction.batch.payment.expired")
+                .description("결제 기한 만료로 취소된 거래 수")
+                .register(meterRegistry);
+        closingSkipped = Counter.builder("auction.batch.skipped")
+                .description("처리하지 못하고 건너뛴 대상 수")
+                .tag("job", "close-auctions")
+                .register(meterRegistry);
+        expirySkipped = Counter.builder("auction.batch.skipped")
+                .description("처리하지 못하고 건너뛴 대상 수")
+                .tag("job", "expire-payments")
+                .register(meterRegistry);
+        closingDuration = Timer.builder("auction.batch.duration")
+                .description("스케줄러 배치 한 번의 실행 시간")
+                .tag("job", "close-auctions")
+                .register(meterRegistry);
+        expiryDuration = Timer.builder("auction.batch.duration")
+                .description("스케줄러 배치 한 번의 실행 시간")
+                .tag("job", "expire-payments")
+                .register(meterRegistry);
+        Gauge.builder("auction.batch.backlog", closingBacklog, AtomicLong::get)
+                .description("이 노드가 처리 중인 파티션에서 아직 처리하지 못한 대상 수")
+                .tag("job", "close-auctions")
+                .register(meterRegistry);
+        Gauge.builder("auction.batch.backlog", paymentBacklog, AtomicLong::get)
+                .description("이 노드가 처리 중인 파티션에서 아직 처리하지 못한 대상 수")
+                .tag("job", "expire-payments")
+                .register(meterRegistry);
+    }
+
     /**
      * 매 분 0초에 실행되어, 마감 시간이 지난 경매를 처리합니다.
+     * 정시 마감은 AuctionClosingWheel 이 담당하며, 이 작업은 타이머가 놓친 경매를 위한 안전망입니다.
+     * 전체를 한 트랜잭션으로 묶지 않고, id 순(keyset)으로 chunkSize 건씩 잘라 묶음마다 별도 트랜잭션으로 마감합니다.
+     * 한 묶음이 실패하면 그 묶음의 상품을 한 건씩 다시 마감하고, 그래도 실패한 상품은 로그를 남기고 건너뛰어
+     * 문제가 있는 상품 하나 때문에 뒤의 상품들이 매 실행마다 막히지 않게 합니다. (건너뛴 상품은 다음 실행에서 다시 시도)
+     * 여러 인스턴스에서는 파티션(id % partitions)마다 한 노드만 실행합니다.
      */
     @Scheduled(cron = "0 * * * * *") // 매 분마다 실행
-    @Transactional
     public void closeExpiredAuctions() {
-        log.info("경매 마감 스케줄러 실행: {}", LocalDateTime.now());
+        jobLeaseLock.runPartitioned("close-auctions", partitions, this::closeExpiredAuctions);
+    }
 
-        List<Product> productsToEnd = productRepository.findByStatusAndAuctionEndTimeBefore(ProductStatus.ON_SALE, LocalDateTime.now());
+    private void closeExpiredAuctions(int partition, JobLease lease) {
+        LocalDateTime now = LocalDateTime.now();
+        log.info("경매 마감 스케줄러 실행: {} (파티션 {}/{}, 토큰 {})", now, partition, partitions, lease.getToken());
 
-        if (productsToEnd.isEmpty()) {
+        long backlog = productRepository.countDueAuctions(ProductStatus.ON_SALE, now, partition, partitions);
+        closingBacklog.set(backlog);
+        if (backlog == 0) {
             log.info("마감할 경매가 없습니다.");
             return;
         }
 
-        for (Product product : productsToEnd) {
-            String url = "/products/" + product.getId();
-
-            if (product.getHighestBidder() != null) {
-                // --- 낙찰된 경우 ---
-                product.endAuctionWithWinner();
-
-                // 낙찰자에게 알림 발송
-                String winnerContent = "'" + product.getName() + "' 상품에 최종 낙찰되었습니다! 24시간 내에 결제를 완료해주세요.";
-                notificationService.send(product.getHighestBidder(), NotificationType.BID, winnerContent, url);
-                log.info("상품 ID {} 낙찰 처리 완료. 낙찰자: {}", product.getId(), product.getHighestBidder().getName());
-            } else {
-                // --- 유찰된 경우 ---
-                product.endAuctionWithNoBidder();
-
-                // 판매자에게 유찰 알림 발송
-                String sellerContent = "등록하신 '" + product.getName() + "' 상품이 입찰자 없이 유찰되었습니다.";
-                notificationService.send(product.getSeller(), NotificationType.BID, sellerContent, url);
-                log.info("상품 ID {} 유찰 처리 완료.", product.getId());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long afterId = 0L;
+        int closed = 0;
+        try {
+            while (true) {
+                ClosedChunk chunk;
+                try {
+                    chunk = auctionCloser.closeDueChunk(afterId, now, partition, partitions, chunkSize, lease);
+                } catch (RuntimeException e) {
+                    lease.checkHeld();
+                    log.warn("경매 마감 묶음 실패 (상품 ID {} 이후). 한 건씩 다시 처리합니다.", afterId, e);
+                    chunk = closeOneByOne(afterId, now, partition, lease);
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                closedWithWinner.increment(chunk.getWithWinner());
+                closedWithoutWinner.increment(chunk.getWithoutWinner());
+                closed += chunk.size();
+                closingBacklog.set(Math.max(0, backlog - closed));
+                afterId = chunk.getLastProductId();
             }
+        } catch (RuntimeException e) {
+            log.error("경매 마감 중 오류 발생 (상품 ID {} 이후). 다음 실행에서 이어서 처리합니다.", afterId, e);
+        } finally {
+            sample.stop(closingDuration);
         }
+        log.info("경매 마감 스케줄러 종료. 대상 {}건 중 {}건 마감.", backlog, closed);
     }
 
+    /**
+     * 매 분 30초에 실행되어, 결제 기한이 지난 낙찰 건을 만료 처리합니다.
+     * 경매 마감과 같은 방식으로 파티션마다 한 노드가, 묶음마다 별도 트랜잭션으로 처리합니다. (실패한 묶음은 한 건씩 다시 처리)
+     */
     @Scheduled(cron = "30 * * * * *") // 매 분 30초에 실행
-    @Transactional
     public void expireOverduePayments() {
-        log.info("결제 기한 만료 스케줄러 실행: {}", LocalDateTime.now());
+        jobLeaseLock.runPartitioned("expire-payments", partitions, this::expireOverduePayments);
+    }
 
-        List<Product> overdueProducts = productRepository.findByStatusAndPaymentDueDateBefore(ProductStatus.AUCTION_ENDED, LocalDateTime.now());
+    private void expireOverduePayments(int partition, JobLease lease) {
+        LocalDateTime now = LocalDateTime.now();
+        log.info("결제 기한 만료 스케줄러 실행: {} (파티션 {}/{}, 토큰 {})", now, partition, partitions, lease.getToken());
 
-        for (Product product : overdueProducts) {
-            product.expirePayment();
+        long backlog = productRepository.countOverduePayments(ProductStatus.AUCTION_ENDED, now, partition, partitions);
+        paymentBacklog.set(backlog);
+        if (backlog == 0) {
+            return;
+        }
 
-            String url = "/products/" + product.getId();
-            String content = "'" + product.getName() + "' 상품의 낙찰자가 24시간 내에 결제하지 않아 거래가 취소되었습니다.";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long afterId = 0L;
+        int expired = 0;
+        try {
+            while (true) {
+                List<Long> ids;
+                int done;
+                try {
+                    ids = overduePaymentExpirer.expireChunk(afterId, now, partition, partitions, chunkSize, lease);
+                    done = ids.size();
+                } catch (RuntimeException e) {
+                    lease.checkHeld();
+                    log.warn("결제 기한 만료 묶음 실패 (상품 ID {} 이후). 한 건씩 다시 처리합니다.", afterId, e);
+                    ids = productRepository.findOverduePaymentIdsAfter(
+                            ProductStatus.AUCTION_ENDED, now, afterId, partition, partitions, PageRequest.of(0, chunkSize));
+                    done = expireOneByOne(ids, now, partition, lease);
+                }
+                if (ids.isEmpty()) {
+                    break;
+                }
+                paymentsExpired.increment(done);
+                expired += done;
+                paymentBacklog.set(Math.max(0, backlog - expired));
+                afterId = ids.get(ids.size() - 1);
+            }
+        } catch (RuntimeException e) {
+            log.error("결제 기한 만료 처리 중 오류 발생 (상품 ID {} 이후). 다음 실행에서 이어서 처리합니다.", afterId, e);
+        } finally {
+            sample.stop(expiryDuration);
+        }
+        log.info("결제 기한 만료 스케줄러 종료. 대상 {}건 중 {}건 만료.", backlog, expired);
+    }
 
-            // 판매자와 낙찰자 모두에게 알림
-            notificationService.send(product.getSeller(), NotificationType.BID, content, url);
-            notificationService.send(product.getHighestBidder(), NotificationType.BID, content, url);
+    // 실패한 묶음의 상품을 한 건씩 마감. 잠금을 잃은 경우가 아니면 실패한 상품은 건너뜀
+    private ClosedChunk closeOneByOne(long afterId, LocalDateTime now, int partition, JobLease lease) {
+        List<Long> ids = productRepository.findDueAuctionIdsAfter(
+                ProductStatus.ON_SALE, now, afterId, partition, partitions, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return ClosedChunk.EMPTY;
+        }
+        int withWinner = 0;
+        int withoutWinner = 0;
+        for (Long id : ids) {
+            try {
+                // id 바로 앞에서 시작하여 한 건만 잠그고 마감
+                ClosedChunk one = auctionCloser.closeDueChunk(id - 1, now, partition, partitions, 1, lease);
+                withWinner += one.getWithWinner();
+                withoutWinner += one.getWithoutWinner();
+            } catch (RuntimeException e) {
+                lease.checkHeld();
+                closingSkipped.increment();
+                log.error("경매 마감 실패. 상품 ID {} 를 건너뜁니다.", id, e);
+            }
+        }
+        return new ClosedChunk(ids.get(ids.size() - 1), withWinner, withoutWinner);
+    }
 
-            log.info("상품 ID {} 결제 기한 만료 처리 완료.", product.getId());
+    // 실패한 묶음의 상품을 한 건씩 만료 처리하고, 만료한 건수를 반환
+    private int expireOneByOne(List<Long> ids, LocalDateTime now, int partition, JobLease lease) {
+        int expired = 0;
+        for (Long id : ids) {
+            try {
+                expired += overduePaymentExpirer.expireChunk(id - 1, now, partition, partitions, 1, lease).size();
+            } catch (RuntimeException e) {
+                lease.checkHeld();
+                expirySkipped.increment();
+                log.error("결제 기한 만료 처리 실패. 상품 ID {} 를 건너뜁니다.", id, e);
+            }
         }
+        return expired;
     }
 
     /**
@@ -90,16 +241,20 @@ public class AuctionScheduler {
      * (사용자가 결제창을 열었다가 그냥 닫아버린 경우 등)
      */
     @Scheduled(cron = "0 */10 * * * *") // 매 10분마다 실행
-    @Transactional
     public void cleanupExpiredPendingPayments() {
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(PENDING_EXPIRATION_MINUTES);
-        log.info("만료된 PENDING 결제 정리 스케줄러 실행. 기준 시간: {}", tenMinutesAgo);
+        // 잠금은 트랜잭션 밖에서 잡고, 커밋이 끝난 뒤에 해제합니다.
+        jobLeaseLock.runExclusively("cleanup-pending-payments", lease ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(PENDING_EXPIRATION_MINUTES);
+                    log.info("만료된 PENDING 결제 정리 스케줄러 실행. 기준 시간: {}", tenMinutesAgo);
 
-        List<Payment> expiredPayments = paymentRepository.findByStatusAndCreatedAtBefore(PaymentStatus.PENDING, tenMinutesAgo);
+                    List<Payment> expiredPayments = paymentRepository.findByStatusAndCreatedAtBefore(PaymentStatus.PENDING, tenMinutesAgo);
 
-        if (!expiredPayments.isEmpty()) {
-            log.info("{}개의 만료된 PENDING 결제를 삭제합니다.", expiredPayments.size());
-            paymentRepository.deleteAll(expiredPayments);
-        }
+                    if (!expiredPayments.isEmpty()) {
+                        log.info("{}개의 만료된 PENDING 결제를 삭제합니다.", expiredPayments.size());
+                        lease.checkHeld();
+                        paymentRepository.deleteAll(expiredPayments);
+                    }
+                }));
     }
 }
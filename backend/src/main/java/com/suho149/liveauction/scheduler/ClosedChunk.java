@@ -0,0 +1,26 @@
+package com.suho149.liveauction.scheduler;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 마감 스케줄러가 한 트랜잭션으로 처리한 경매 묶음의 결과.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ClosedChunk {
+
+    static final ClosedChunk EMPTY = new ClosedChunk(null, 0, 0);
+
+    private final Long lastProductId; // 다음 묶음 조회의 기준 (keyset)
+    private final int withWinner;
+    private final int withoutWinner;
+
+    public boolean isEmpty() {
+        return lastProductId == null;
+    }
+
+    public int size() {
+        return withWinner + withoutWinner;
+    }
+}
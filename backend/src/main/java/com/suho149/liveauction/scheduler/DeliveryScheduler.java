@@ -12,7 +12,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -25,6 +26,8 @@ public class DeliveryScheduler {
     private final DeliveryRepository deliveryRepository;
     private final NotificationService notificationService;
     private final SettlementService settlementService;
+    private final JobLeaseLock jobLeaseLock;
+    private final PlatformTransactionManager transactionManager;
 
 //    /**
 //     * 매일 평일 오후 4시에 실행되어, '배송 준비 중'인 모든 주문을 일괄 '발송 처리'합니다.
@@ -66,14 +69,26 @@ public class DeliveryScheduler {
 //    }
 
     @Scheduled(cron = "0 0 1 * * *") // 매일 새벽 1시에 실행
-    @Transactional
     public void autoConfirmDeliveries() {
+        // 여러 인스턴스 중 한 노드만 실행. 잠금은 커밋이 끝난 뒤에 해제합니다.
+        // 정산 중복 생성은 잠금이 아니라 조건부 상태 변경과 settlement.payment_id 유니크 제약으로 막습니다.
+        jobLeaseLock.runExclusively("auto-confirm-deliveries", lease ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> autoConfirmDeliveries(lease)));
+    }
+
+    private void autoConfirmDeliveries(JobLease lease) {
         // 배송 완료(COMPLETED)된 지 7일이 지난 Delivery 목록 조회
         LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
         List<Delivery> deliveriesToConfirm = deliveryRepository.findByStatusAndCompletedAtBefore(DeliveryStatus.COMPLETED, sevenDaysAgo);
 
         for (Delivery delivery : deliveriesToConfirm) {
-            delivery.confirmPurchase();
+            // 잠금을 잃은 것을 알았으면 예외로 전체를 롤백 (다른 노드가 이어서 처리)
+            lease.checkHeld();
+            // 확인 이후 멈췄다가 늦게 커밋하는 경우까지 막도록, 상태 전이에 성공한 한 곳에서만 정산을 생성
+            if (deliveryRepository.updateStatusIf(delivery.getId(), DeliveryStatus.COMPLETED, DeliveryStatus.CONFIRMED) == 0) {
+                log.info("배송 ID {} 는 이미 구매 확정되었습니다. 건너뜁니다.", delivery.getId());
+                continue;
+            }
 
             Product product = delivery.getPayment().getProduct();
             User seller = product.getSeller();
@@ -99,8 +114,12 @@ public class DeliveryScheduler {
      */
     @Scheduled(fixedRate = 60000) // 테스트 용도
 //    @Scheduled(fixedRate = 3600000) // 1시간 (3,600,000 밀리초) 마다 실행
-    @Transactional
     public void updateDeliveryStatusToCompleted() { // ★ 메소드 이름 원래대로
+        jobLeaseLock.runExclusively("complete-deliveries", lease ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> updateDeliveryStatusToCompleted(lease)));
+    }
+
+    private void updateDeliveryStatusToCompleted(JobLease lease) {
         log.info("배송 완료 상태 업데이트 스케줄러 시작...");
         List<Delivery> deliveriesInTransit = deliveryRepository.findByStatus(DeliveryStatus.SHIPPING);
 
@@ -116,7 +135,10 @@ public class DeliveryScheduler {
             // [시뮬레이션 로직] 발송된 지 5분이 지났으면 '배송 완료'로 간주
             long minutesPassed = Duration.between(shippedAt, LocalDateTime.now()).toMinutes();
             if (minutesPassed >= 5) {
-                delivery.completeDelivery();
+                lease.checkHeld();
+                if (deliveryRepository.completeIfShipping(delivery.getId(), LocalDateTime.now()) == 0) {
+                    continue; // 이미 다른 곳에서 배송 완료 처리됨
+                }
                 log.info("배송 ID {} '배송 완료' 처리 (시뮬레이션).", delivery.getId());
 
                 String content = "'" + delivery.getPayment().getProduct().getName() + "' 상품의 배송이 완료되었습니다. 마이페이지에서 구매를 확정해주세요.";
@@ -0,0 +1,48 @@
+package com.suho149.liveauction.scheduler;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 한 노드가 획득한 스케줄러 작업 잠금(lease).
+ *
+ * token 은 잠금을 획득할 때마다 Redis 에서 1씩 증가하는 펜싱 토큰입니다.
+ * checkHeld() 는 Redis 의 최신 토큰과 비교하여, 잠금을 잃었거나 더 큰 토큰을 가진 노드가 생겼으면 예외를 던집니다.
+ * 작업은 묶음/건 단위로 호출해 잠금을 잃은 것을 안 시점에 트랜잭션을 롤백하고 멈춥니다.
+ *
+ * 이 확인은 클라이언트에서만 이뤄지므로 늦은 쓰기를 막지는 못합니다. 확인한 뒤 커밋하기 전에 lease 보다 오래 멈추면
+ * 두 노드가 같은 묶음을 커밋할 수 있으므로, 중복되면 안 되는 쓰기는 DB 에서 직접 막아야 합니다.
+ * (조건부 상태 변경 WHERE status = ..., 유니크 제약 등)
+ */
+@Getter
+public class JobLease {
+
+    private final String job;
+    private final long token;
+    private final String owner; // Redis 에 저장된 값 (노드 ID:토큰)
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier currentFence; // Redis 의 최신 펜싱 토큰 조회
+    private volatile boolean held = true;
+
+    JobLease(String job, long token, String owner, LongSupplier currentFence) {
+        this.job = job;
+        this.token = token;
+        this.owner = owner;
+        this.currentFence = currentFence;
+    }
+
+    void markLost() {
+        this.held = false;
+    }
+
+    public void checkHeld() {
+        if (held && currentFence.getAsLong() != token) {
+            markLost();
+        }
+        if (!held) {
+            throw new IllegalStateException("스케줄러 작업 잠금을 잃었습니다. 작업을 중단합니다. job: " + job + ", token: " + token);
+        }
+    }
+}
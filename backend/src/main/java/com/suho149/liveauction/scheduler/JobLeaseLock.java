@@ -0,0 +1,167 @@
+package com.suho149.liveauction.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 여러 백엔드 인스턴스 중 한 노드에서만 @Scheduled 작업이 실행되도록 하는 Redis 기반 작업 잠금.
+ *
+ * - scheduler:lock:{job} (string): 잠금을 가진 노드 "노드ID:토큰", 만료 시간(lease) 설정
+ * - scheduler:fence:{job} (string): 펜싱 토큰. 잠금을 획득할 때마다 1씩 증가
+ *
+ * 잠금을 가진 동안 lease 의 1/3 간격으로 만료 시간을 갱신하며, 갱신에 실패하면 JobLease 를 잃은 것으로 표시합니다.
+ * 큰 작업은 id % partitions 로 나눈 파티션마다 잠금을 따로 잡아, 여러 노드가 나눠서 처리합니다.
+ */
+@Slf4j
+@Component
+public class JobLeaseLock {
+
+    private static final String LOCK_KEY_PREFIX = "scheduler:lock:";
+    private static final String FENCE_KEY_PREFIX = "scheduler:fence:";
+
+    // 잠금이 비어 있으면 펜싱 토큰을 증가시키고 잠금을 잡은 뒤 토큰을 반환 (잡지 못하면 0)
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local token = redis.call('INCR', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token", Long.class);
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private final ScheduledExecutorService renewer =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("scheduler-lock-renewer-"));
+
+    @Value("${auction.scheduler.lock.lease-ms:30000}")
+    private long leaseMillis;
+
+    public JobLeaseLock(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 잠금을 잡은 경우에만 작업을 실행합니다. 다른 노드가 실행 중이면 건너뜁니다.
+     * @return 작업을 실행했으면 true
+     */
+    public boolean runExclusively(String job, Consumer<JobLease> task) {
+        JobLease lease = tryAcquire(job);
+        if (lease == null) {
+            return false;
+        }
+        ScheduledFuture<?> renewal = startRenewal(lease);
+        try {
+            task.accept(lease);
+        } finally {
+            renewal.cancel(false);
+            release(lease);
+        }
+        return true;
+    }
+
+    /**
+     * 작업을 partitions 개로 나누어, 잠금을 잡은 파티션만 실행합니다.
+     * 노드마다 임의의 파티션부터 시작하므로 같은 시각에 실행되어도 여러 노드가 서로 다른 파티션을 나눠 맡습니다.
+     */
+    public void runPartitioned(String job, int partitions, BiConsumer<Integer, JobLease> task) {
+        if (partitions <= 1) {
+            runExclusively(job, lease -> task.accept(0, lease));
+            return;
+        }
+        int offset = ThreadLocalRandom.current().nextInt(partitions);
+        for (int i = 0; i < partitions; i++) {
+            int partition = (offset + i) % partitions;
+            runExclusively(job + ":" + partition, lease -> task.accept(partition, lease));
+        }
+    }
+
+    private JobLease tryAcquire(String job) {
+        Long token;
+        try {
+            token = redisTemplate.execute(ACQUIRE_SCRIPT,
+                    List.of(LOCK_KEY_PREFIX + job, FENCE_KEY_PREFIX + job),
+                    nodeId,
+                    String.valueOf(leaseMillis));
+        } catch (RuntimeException e) {
+            // 잠금 상태를 알 수 없으면 중복 실행보다 건너뛰는 편이 안전합니다.
+            log.warn("스케줄러 작업 잠금 획득 실패 (Redis 오류). 이번 실행을 건너뜁니다. job: {}", job, e);
+            meterRegistry.counter("auction.scheduler.lock", "job", job, "result", "error").increment();
+            return null;
+        }
+        if (token == null || token == 0) {
+            log.debug("다른 노드가 실행 중인 작업입니다. job: {}", job);
+            meterRegistry.counter("auction.scheduler.lock", "job", job, "result", "skipped").increment();
+            return null;
+        }
+        meterRegistry.counter("auction.scheduler.lock", "job", job, "result", "acquired").increment();
+        log.debug("스케줄러 작업 잠금 획득. job: {}, token: {}", job, token);
+        return new JobLease(job, token, nodeId + ":" + token, () -> currentFence(job));
+    }
+
+    private long currentFence(String job) {
+        String fence = redisTemplate.opsForValue().get(FENCE_KEY_PREFIX + job);
+        return fence == null ? 0 : Long.parseLong(fence);
+    }
+
+    private ScheduledFuture<?> startRenewal(JobLease lease) {
+        long interval = Math.max(1, leaseMillis / 3);
+        return renewer.scheduleAtFixedRate(() -> renew(lease), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew(JobLease lease) {
+        if (!lease.isHeld()) {
+            return;
+        }
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT,
+                    List.of(LOCK_KEY_PREFIX + lease.getJob()),
+                    lease.getOwner(),
+                    String.valueOf(leaseMillis));
+            if (renewed == null || renewed == 0) {
+                lease.markLost();
+                meterRegistry.counter("auction.scheduler.lock", "job", lease.getJob(), "result", "lost").increment();
+                log.warn("스케줄러 작업 잠금이 만료되었습니다. job: {}, token: {}", lease.getJob(), lease.getToken());
+            }
+        } catch (RuntimeException e) {
+            // 갱신 여부를 확인할 수 없으면 잃은 것으로 간주하고 작업을 멈춥니다.
+            lease.markLost();
+            meterRegistry.counter("auction.scheduler.lock", "job", lease.getJob(), "result", "lost").increment();
+            log.warn("스케줄러 작업 잠금 갱신 실패. job: {}, token: {}", lease.getJob(), lease.getToken(), e);
+        }
+    }
+
+    private void release(JobLease lease) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + lease.getJob()), lease.getOwner());
+        } catch (RuntimeException e) {
+            // 해제하지 못해도 lease 가 만료되면 다른 노드가 잡을 수 있습니다.
+            log.warn("스케줄러 작업 잠금 해제 실패. job: {}", lease.getJob(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+}
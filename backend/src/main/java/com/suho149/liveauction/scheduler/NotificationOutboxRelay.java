@@ -0,0 +1,136 @@
+package com.suho149.liveauction.scheduler;
+
+import com.suho149.liveauction.domain.notification.entity.NotificationOutbox;
+import com.suho149.liveauction.domain.notification.repository.NotificationOutboxRepository;
+import com.suho149.liveauction.domain.notification.service.NotificationDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 아웃박스에서 아직 처리되지 않은 이벤트를 다시 전달합니다. (커밋 직후 바로 전달하지 못한 이벤트의 안전망)
+ *
+ * 커밋 후 바로 전달 중인 이벤트와 겹치지 않도록 발행된 지 relay-delay-ms 가 지난 이벤트만 대상으로 합니다.
+ * 여러 인스턴스에서는 파티션(id % partitions)마다 한 노드만 실행하므로 행을 건너뛰며 잠글 필요가 없고,
+ * 겹쳐서 전달되더라도 NotificationBatchWriter 가 아웃박스 행을 잠그고 확인하므로 알림은 한 번만 저장됩니다.
+ * max-attempts 번 전달에 실패한 이벤트는 더 이상 시도하지 않고, 원인을 확인할 수 있도록 dead-retention-hours 동안
+ * 아웃박스에 남겨 둔 뒤 삭제합니다. (남아 있는 행 수는 auction.notification.outbox.dead 로 확인)
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final JobLeaseLock jobLeaseLock;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayed;
+    private final AtomicLong lastRelayed = new AtomicLong();
+    private final AtomicLong deadRows = new AtomicLong();
+
+    @Value("${auction.notification.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auction.notification.outbox.relay-delay-ms:10000}")
+    private long relayDelayMs;
+
+    @Value("${auction.notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${auction.notification.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${auction.notification.outbox.dead-retention-hours:168}")
+    private long deadRetentionHours;
+
+    @Value("${auction.scheduler.partitions:1}")
+    private int partitions;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   NotificationDispatcher notificationDispatcher, JobLeaseLock jobLeaseLock,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.jobLeaseLock = jobLeaseLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayed = Counter.builder("auction.notification.outbox.relayed")
+                .description("릴레이가 아웃박스에서 다시 전달한 알림 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.notification.outbox.relay.last", lastRelayed, AtomicLong::get)
+                .description("이 노드의 마지막 릴레이 실행에서 다시 전달한 알림 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.notification.outbox.dead", deadRows, AtomicLong::get)
+                .description("max-attempts 번 전달에 실패해 더 이상 시도하지 않는 아웃박스 행 수 (정리 작업을 실행한 노드에서 갱신)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.notification.outbox.poll-interval-ms:5000}")
+    public void relay() {
+        jobLeaseLock.runPartitioned("relay-notifications", partitions, this::relay);
+    }
+
+    private void relay(int partition, JobLease lease) {
+        long occurredBefore = System.currentTimeMillis() - relayDelayMs;
+        long afterId = 0L;
+        long total = 0;
+        try {
+            while (lease.isHeld()) {
+                long from = afterId;
+                List<NotificationOutbox> chunk = transactionTemplate.execute(status -> {
+                    List<NotificationOutbox> rows = notificationOutboxRepository.findUnprocessedAfter(
+                            from, occurredBefore, maxAttempts, partition, partitions, PageRequest.of(0, batchSize));
+                    if (!rows.isEmpty()) {
+                        notificationOutboxRepository.incrementAttempts(rows.stream().map(NotificationOutbox::getId).toList());
+                    }
+                    return rows;
+                });
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                notificationDispatcher.deliverNow(chunk.stream().map(NotificationOutbox::toEvent).toList());
+                relayed.increment(chunk.size());
+                total += chunk.size();
+                afterId = chunk.get(chunk.size() - 1).getId();
+                if (chunk.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("알림 아웃박스 릴레이 중 오류 발생 (ID {} 이후). 다음 실행에서 이어서 처리합니다.", afterId, e);
+        } finally {
+            lastRelayed.set(total);
+        }
+        if (total > 0) {
+            log.info("알림 아웃박스 릴레이: {}건 다시 전달 (파티션 {}/{})", total, partition, partitions);
+        }
+    }
+
+    @Scheduled(cron = "0 15 * * * *") // 매시 15분에 실행
+    public void purgeProcessed() {
+        jobLeaseLock.runExclusively("purge-notification-outbox", lease -> {
+            int deleted = transactionTemplate.execute(status ->
+                    notificationOutboxRepository.deleteProcessedBefore(LocalDateTime.now().minusHours(retentionHours)));
+            log.info("처리된 알림 아웃박스 {}건 삭제", deleted);
+
+            long deadBefore = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(deadRetentionHours);
+            int deadDeleted = transactionTemplate.execute(status ->
+                    notificationOutboxRepository.deleteDeadBefore(maxAttempts, deadBefore));
+            if (deadDeleted > 0) {
+                log.warn("{}번 전달에 실패한 알림 아웃박스 {}건 삭제 ({}시간 보관 후)", maxAttempts, deadDeleted, deadRetentionHours);
+            }
+            deadRows.set(notificationOutboxRepository.countByProcessedAtIsNullAndAttemptsGreaterThanEqual(maxAttempts));
+        });
+    }
+}
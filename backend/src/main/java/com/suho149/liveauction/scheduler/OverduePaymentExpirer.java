@@ -0,0 +1,57 @@
+package com.suho149.liveauction.scheduler;
+
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.service.NotificationService;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 기한이 지난 낙찰 건을 묶음 단위로 만료(거래 취소) 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverduePaymentExpirer {
+
+    private final ProductRepository productRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 결제 기한이 지난 상품을 id 순으로 최대 chunkSize 건 잠그고, 하나의 짧은 트랜잭션에서 벌크 UPDATE 로 만료 처리합니다.
+     * @param afterId 이전 묶음의 마지막 상품 id (처음이면 0)
+     * @param lease 파티션의 작업 잠금. 상태를 변경하기 직전에 펜싱 토큰을 확인합니다.
+     * @return 만료 처리한 상품 id 목록 (id 오름차순). 더 처리할 상품이 없으면 빈 목록
+     */
+    @Transactional
+    public List<Long> expireChunk(Long afterId, LocalDateTime now, int partition, int partitions, int chunkSize, JobLease lease) {
+        List<Product> products = productRepository.findOverduePaymentsAfter(
+                ProductStatus.AUCTION_ENDED, now, afterId, partition, partitions, PageRequest.of(0, chunkSize));
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
+        for (Product product : products) {
+            String url = "/products/" + product.getId();
+            String content = "'" + product.getName() + "' 상품의 낙찰자가 24시간 내에 결제하지 않아 거래가 취소되었습니다.";
+
+            // 판매자와 낙찰자 모두에게 알림
+            notificationService.send(product.getSeller(), NotificationType.BID, content, url);
+            notificationService.send(product.getHighestBidder(), NotificationType.BID, content, url);
+        }
+
+        List<Long> ids = products.stream().map(Product::getId).toList();
+        lease.checkHeld();
+        productRepository.updateStatusInBulk(ids, ProductStatus.AUCTION_ENDED, ProductStatus.EXPIRED);
+        log.info("결제 기한 만료 {}건 처리 완료. (마지막 상품 ID {})", ids.size(), ids.get(ids.size() - 1));
+        return ids;
+    }
+}
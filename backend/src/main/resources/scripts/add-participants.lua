@@ -0,0 +1,35 @@
+-- 상품의 입찰 참여자를 추가합니다.
+-- 참여자가 exact-limit 명 이하이면 정확한 집합(SET)으로, 넘어서면 HyperLogLog 로 옮겨 근사치로 셉니다.
+-- DB 적재 전에 들어온 입찰도 집합에 모아 두었다가, 적재할 때 DB 값과 합칩니다.
+-- KEYS[1]: 참여자 집합, KEYS[2]: 참여자 HyperLogLog, KEYS[3]: DB 적재 완료 표시
+-- ARGV: exact-limit, 보관 시간(ms), 적재 완료 표시 여부(1/0), bidderId...
+-- 반환: 1 = 정확한 집합 사용 중, 0 = HyperLogLog 사용 중
+local setKey, hllKey, readyKey = KEYS[1], KEYS[2], KEYS[3]
+local limit, ttl = tonumber(ARGV[1]), ARGV[2]
+
+if redis.call('EXISTS', hllKey) == 1 then
+    for i = 4, #ARGV do
+        redis.call('PFADD', hllKey, ARGV[i])
+    end
+else
+    for i = 4, #ARGV do
+        redis.call('SADD', setKey, ARGV[i])
+    end
+    if redis.call('SCARD', setKey) > limit then
+        local members = redis.call('SMEMBERS', setKey)
+        for i = 1, #members, 1000 do
+            redis.call('PFADD', hllKey, unpack(members, i, math.min(i + 999, #members)))
+        end
+        redis.call('DEL', setKey)
+    end
+end
+
+if ARGV[3] == '1' then
+    redis.call('SET', readyKey, '1')
+end
+for _, key in ipairs(KEYS) do
+    if redis.call('EXISTS', key) == 1 then
+        redis.call('PEXPIRE', key, ttl)
+    end
+end
+return redis.call('EXISTS', hllKey) == 1 and 0 or 1
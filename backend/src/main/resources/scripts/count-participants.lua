@@ -0,0 +1,10 @@
+-- 상품의 입찰 참여자 수를 반환합니다.
+-- KEYS[1]: 참여자 집합, KEYS[2]: 참여자 HyperLogLog, KEYS[3]: DB 적재 완료 표시
+-- 반환: 참여자 수, 아직 DB 에서 적재하지 않았으면 -1
+if redis.call('EXISTS', KEYS[3]) == 0 then
+    return -1
+end
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return redis.call('PFCOUNT', KEYS[2])
+end
+return redis.call('SCARD', KEYS[1])
@@ -0,0 +1,10 @@
+-- 경매가 판매 중 상태를 벗어나면 (즉시 구매, 조기 종료, 마감) 경매 해시의 상태만 바꿉니다.
+-- 해시가 없으면 만들지 않습니다. (다음 입찰 때 DB 에서 종료된 상태로 적재됨)
+-- KEYS[1]: 경매 상태 해시
+-- ARGV: status
+-- 반환: 1 = 상태 변경, 0 = 해시 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'status', ARGV[1])
+return 1
@@ -0,0 +1,39 @@
+-- 입찰 한 건을 원자적으로 검증하고 수락합니다. (AuctionService.placeBid 의 비관적 락 구간과 같은 규칙)
+-- KEYS[1]: 경매 상태 해시, KEYS[2]: DB 반영 대기 목록
+-- ARGV: productId, bidderId, bidderName, amount, 연장 임계(초), 연장 시간(ms), 마감 후 보관 시간(ms)
+-- 반환: {결과, 현재가, 마감 시각(epoch ms), 이전 최고 입찰자 ID}
+local state = redis.call('HMGET', KEYS[1], 'price', 'bidderId', 'endAt', 'sellerId', 'status')
+if not state[1] then
+    return {'MISSING'}
+end
+
+local price = tonumber(state[1])
+local endAt = tonumber(state[3])
+local amount = tonumber(ARGV[4])
+
+if state[4] == ARGV[2] then
+    return {'SELLER', state[1], state[3]}
+end
+if amount <= price then
+    return {'TOO_LOW', state[1], state[3]}
+end
+
+-- 여러 인스턴스의 시계 차이를 피하기 위해 Redis 서버 시각을 기준으로 판단
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+if state[5] ~= 'ON_SALE' or now > endAt then
+    return {'ENDED', state[1], state[3]}
+end
+
+-- 마감 임박 입찰이면 현재 시각 기준으로 마감 시간 연장 (Duration.getSeconds 와 같이 초 단위 내림)
+local secondsUntilEnd = math.floor((endAt - now) / 1000)
+if secondsUntilEnd > 0 and secondsUntilEnd <= tonumber(ARGV[5]) then
+    endAt = now + tonumber(ARGV[6])
+end
+
+local previous = state[2] or ''
+local endAtText = string.format('%d', endAt)
+redis.call('HSET', KEYS[1], 'price', ARGV[4], 'bidderId', ARGV[2], 'bidderName', ARGV[3], 'endAt', endAtText)
+redis.call('PEXPIREAT', KEYS[1], endAt + tonumber(ARGV[7]))
+redis.call('RPUSH', KEYS[2], table.concat({ARGV[1], ARGV[2], previous, ARGV[4], string.format('%d', now), endAtText}, '|'))
+return {'ACCEPTED', ARGV[4], endAtText, previous}
@@ -0,0 +1,9 @@
+-- 현재가가 기준 가격에 도달한 가격 알림을 꺼내고 색인에서 지웁니다. (여러 노드가 동시에 호출해도 한 번만 꺼내짐)
+-- KEYS[1]: 상품의 가격 알림 색인 (sorted set, score = 기준 가격, member = 알림 ID)
+-- ARGV[1]: 새 현재가
+-- 반환: 기준 가격 <= 현재가 인 알림 ID 목록
+local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+if #ids > 0 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+end
+return ids
@@ -0,0 +1,26 @@
+-- 상품의 최근 가격 갱신(tick)을 순번(수락 가격) 순으로 정렬된 링에 추가하고, 링 크기를 넘는 오래된 tick 을 버립니다.
+-- 하한(floor) 키는 "이 순번보다 큰 tick 은 링에 모두 남아 있다"는 기준입니다.
+-- 링이 처음 만들어질 때는 그 이전에 빠진 tick 이 있는지 알 수 없으므로 첫 순번을 하한으로 둡니다.
+-- KEYS[1]: tick 링 (sorted set), KEYS[2]: 하한
+-- ARGV: 순번, tick, 링 크기, 보관 시간(ms)
+-- 반환: 버린 tick 수
+local ringKey, floorKey = KEYS[1], KEYS[2]
+local size, ttl = tonumber(ARGV[3]), ARGV[4]
+
+redis.call('ZADD', ringKey, ARGV[1], ARGV[2])
+if redis.call('EXISTS', floorKey) == 0 then
+    redis.call('SET', floorKey, ARGV[1])
+end
+
+local excess = redis.call('ZCARD', ringKey) - size
+if excess > 0 then
+    local evicted = redis.call('ZRANGE', ringKey, 0, excess - 1, 'WITHSCORES')
+    redis.call('SET', floorKey, evicted[#evicted])
+    redis.call('ZREMRANGEBYRANK', ringKey, 0, excess - 1)
+else
+    excess = 0
+end
+
+redis.call('PEXPIRE', ringKey, ttl)
+redis.call('PEXPIRE', floorKey, ttl)
+return excess
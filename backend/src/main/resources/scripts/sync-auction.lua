@@ -0,0 +1,21 @@
+-- DB 의 상품 상태로 경매 해시를 맞춥니다.
+-- Redis 현재가가 더 높으면 아직 DB 에 반영되지 않은 입찰이 있는 것이므로 가격/입찰자/마감 시각은 유지하고 상태만 맞춥니다.
+-- KEYS[1]: 경매 상태 해시
+-- ARGV: price, bidderId, bidderName, endAt(epoch ms), sellerId, status, startPrice, 마감 후 보관 시간(ms)
+-- 반환: 1 = DB 값으로 덮어씀, 0 = Redis 값 유지
+local current = redis.call('HGET', KEYS[1], 'price')
+if current and tonumber(current) > tonumber(ARGV[1]) then
+    redis.call('HSET', KEYS[1], 'status', ARGV[6])
+    return 0
+end
+
+redis.call('HSET', KEYS[1],
+        'price', ARGV[1],
+        'bidderId', ARGV[2],
+        'bidderName', ARGV[3],
+        'endAt', ARGV[4],
+        'sellerId', ARGV[5],
+        'status', ARGV[6],
+        'startPrice', ARGV[7])
+redis.call('PEXPIREAT', KEYS[1], tonumber(ARGV[4]) + tonumber(ARGV[8]))
+return 1
@@ -0,0 +1,100 @@
+package com.suho149.liveauction.domain.alert.index;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// pop-price-alerts.lua 를 실제 Redis 에서 실행 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class PriceAlertIndexTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private PriceAlertIndex index;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(redisTemplate.keys("auction:price-alerts:*"));
+        index = new PriceAlertIndex(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("기준 가격이 현재가 이하인 알림만 꺼내고(같은 가격 포함), 꺼낸 알림은 다시 꺼내지지 않는다.")
+    void popReached_ThresholdsAtOrBelowPrice_PoppedOnce() {
+        // given
+        index.add(1L, 10L, 5000);
+        index.add(1L, 11L, 6000);
+        index.add(1L, 12L, 6001);
+        index.add(2L, 20L, 1000); // 다른 상품
+
+        // when
+        List<Long> first = index.popReached(1L, 6000);
+        List<Long> second = index.popReached(1L, 6000);
+
+        // then
+        assertThat(first).containsExactly(10L, 11L);
+        assertThat(second).isEmpty();
+        assertThat(index.popReached(1L, 7000)).containsExactly(12L);
+        assertThat(index.popReached(2L, 1000)).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("꺼낸 알림을 다시 넣으면 다음 가격 갱신 때 다시 꺼내진다. (발송 실패 후 재시도)")
+    void add_AfterPop_PoppedAgain() {
+        // given
+        index.add(1L, 10L, 5000);
+        assertThat(index.popReached(1L, 5000)).containsExactly(10L);
+
+        // when
+        index.add(1L, 10L, 5000);
+
+        // then
+        assertThat(index.popReached(1L, 5500)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("삭제한 알림과 마감으로 지운 상품의 알림은 꺼내지지 않는다.")
+    void removeAndEvict_NotPopped() {
+        // given
+        index.add(1L, 10L, 5000);
+        index.add(1L, 11L, 5000);
+        index.add(2L, 20L, 5000);
+
+        // when
+        index.remove(1L, 10L);
+        index.evict(2L);
+
+        // then
+        assertThat(index.popReached(1L, 5000)).containsExactly(11L);
+        assertThat(index.popReached(2L, 5000)).isEmpty();
+        assertThat(redisTemplate.hasKey("auction:price-alerts:2")).isFalse();
+    }
+}
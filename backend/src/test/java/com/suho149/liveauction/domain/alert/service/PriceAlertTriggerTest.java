@@ -0,0 +1,118 @@
+package com.suho149.liveauction.domain.alert.service;
+
+import com.suho149.liveauction.domain.alert.entity.PriceAlert;
+import com.suho149.liveauction.domain.alert.index.PriceAlertIndex;
+import com.suho149.liveauction.domain.alert.repository.PriceAlertRepository;
+import com.suho149.liveauction.domain.auction.event.PriceChangedEvent;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.service.NotificationService;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAlertTriggerTest {
+
+    private static final long TIMEOUT_MS = 2000;
+
+    @Mock
+    private PriceAlertIndex priceAlertIndex;
+    @Mock
+    private PriceAlertRepository priceAlertRepository;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PriceAlertTrigger trigger;
+
+    @BeforeEach
+    void setUp() {
+        trigger = new PriceAlertTrigger(priceAlertIndex, priceAlertRepository, notificationService,
+                transactionManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        trigger.stop();
+    }
+
+    @Test
+    @DisplayName("기준 가격에 도달한 알림을 울린 것으로 표시하고 사용자에게 알림을 보낸다.")
+    void onPriceChanged_ReachedAlert_Fired() {
+        // given
+        PriceAlert alert = alert(7L, 5000L);
+        when(priceAlertIndex.popReached(1L, 5000L)).thenReturn(List.of(7L));
+        when(priceAlertRepository.findPendingWithProductByIdIn(List.of(7L))).thenReturn(List.of(alert));
+
+        // when
+        trigger.onPriceChanged(new PriceChangedEvent(1L, 5000L, LocalDateTime.now()));
+
+        // then
+        verify(notificationService, timeout(TIMEOUT_MS)).send(eq(alert.getUser()), eq(NotificationType.BID), anyString(), eq("/products/1"));
+        verify(priceAlertRepository).markTriggered(eq(List.of(7L)), any(LocalDateTime.class));
+        verify(priceAlertIndex, never()).add(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("알림 발송에 실패하면 꺼낸 알림을 색인에 다시 넣어 다음 가격 갱신 때 재시도한다.")
+    void onPriceChanged_FireFails_ReAddedToIndex() {
+        // given
+        PriceAlert alert = alert(7L, 5000L);
+        when(priceAlertIndex.popReached(1L, 5200L)).thenReturn(List.of(7L));
+        when(priceAlertRepository.findPendingWithProductByIdIn(List.of(7L))).thenReturn(List.of(alert));
+        when(priceAlertRepository.markTriggered(anyCollection(), any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        trigger.onPriceChanged(new PriceChangedEvent(1L, 5200L, LocalDateTime.now()));
+
+        // then: 원래 기준 가격으로 다시 추가
+        verify(priceAlertIndex, timeout(TIMEOUT_MS)).add(1L, 7L, 5000L);
+        verify(notificationService, never()).send(any(User.class), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("도달한 알림이 없으면 DB 를 조회하지 않는다.")
+    void onPriceChanged_NothingReached_NoDatabaseAccess() {
+        // given
+        when(priceAlertIndex.popReached(1L, 3000L)).thenReturn(List.of());
+
+        // when
+        trigger.onPriceChanged(new PriceChangedEvent(1L, 3000L, LocalDateTime.now()));
+
+        // then
+        verify(priceAlertIndex, timeout(TIMEOUT_MS)).popReached(1L, 3000L);
+        verifyNoInteractions(priceAlertRepository, notificationService);
+    }
+
+    private static PriceAlert alert(Long id, Long thresholdPrice) {
+        Product product = mock(Product.class);
+        lenient().when(product.getId()).thenReturn(1L);
+        lenient().when(product.getName()).thenReturn("테스트 상품");
+        PriceAlert alert = mock(PriceAlert.class);
+        lenient().when(alert.getId()).thenReturn(id);
+        lenient().when(alert.getThresholdPrice()).thenReturn(thresholdPrice);
+        lenient().when(alert.getProduct()).thenReturn(product);
+        lenient().when(alert.getUser()).thenReturn(mock(User.class));
+        return alert;
+    }
+}
@@ -0,0 +1,188 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.admin.dto.BidQueueStatsResponse;
+import com.suho149.liveauction.domain.auction.dto.BidRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidAdmissionQueueTest {
+
+    private static final String EMAIL = "bidder@test.com";
+
+    @Mock
+    private BidEngine bidEngine;
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch entered = new CountDownLatch(1); // 첫 입찰 처리가 시작됨
+    private final CountDownLatch release = new CountDownLatch(1); // 첫 입찰 처리를 끝내도 됨
+    private BidAdmissionQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("상품 대기열이 가득 차면 바로 거절하고, 대기 중인 입찰은 그대로 처리한다.")
+    void submit_LaneFull_Shed() throws Exception {
+        // given: 워커 1개, 대기열 2칸. 첫 입찰은 처리 중에 멈춰 있음
+        queue = start(1, 2);
+        CountDownLatch done = new CountDownLatch(3);
+        blockFirstBid(done, Collections.synchronizedList(new ArrayList<>()));
+        queue.submit(1L, bid(1000L), EMAIL);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.submit(1L, bid(2000L), EMAIL);
+        queue.submit(1L, bid(3000L), EMAIL);
+
+        // when & then
+        assertThatThrownBy(() -> queue.submit(1L, bid(4000L), EMAIL))
+                .isInstanceOf(IllegalStateException.class);
+        queue.submit(2L, bid(1000L), EMAIL); // 다른 상품의 대기열은 영향을 받지 않음 (처리는 멈춘 워커 뒤에서 대기)
+
+        BidQueueStatsResponse stats = statsOf(1L);
+        assertThat(stats.getDepth()).isEqualTo(2);
+        assertThat(stats.getShedCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("auction.bid.admission.shed").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(bidEngine, never()).placeBid(eq(1L), argThat(request -> request.getBidAmount() == 4000L), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 상품의 입찰은 여러 워커가 있어도 도착 순서대로 하나씩 처리된다.")
+    void submit_SameLane_ProcessedInArrivalOrder() throws Exception {
+        // given: 한 번에 처리하는 묶음(32건)보다 많이 쌓아, 다시 스케줄되는 경우도 확인
+        queue = start(4, 100);
+        int count = 50;
+        CountDownLatch done = new CountDownLatch(count);
+        List<Long> order = Collections.synchronizedList(new ArrayList<>());
+        blockFirstBid(done, order);
+
+        // when
+        for (long amount = 1; amount <= count; amount++) {
+            queue.submit(1L, bid(amount), EMAIL);
+            if (amount == 1) {
+                assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        release.countDown();
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Long> expected = new ArrayList<>();
+        for (long amount = 1; amount <= count; amount++) {
+            expected.add(amount);
+        }
+        assertThat(order).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("오래 쓰이지 않은 빈 대기열만 정리하고, 처리 중이거나 입찰이 남아 있는 대기열은 유지한다.")
+    void evictIdleLanes_OnlyIdleAndEmpty() throws Exception {
+        // given: 워커 1개. 상품 1은 처리 중, 상품 2는 그 뒤에서 두 건이 대기 중
+        queue = start(1, 10);
+        CountDownLatch done = new CountDownLatch(3);
+        blockFirstBid(done, Collections.synchronizedList(new ArrayList<>()));
+        queue.submit(1L, bid(1000L), EMAIL);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.submit(2L, bid(1000L), EMAIL);
+        queue.submit(2L, bid(2000L), EMAIL);
+        backdateAllLanes();
+
+        // when
+        queue.evictIdleLanes();
+
+        // then
+        assertThat(queue.stats()).extracting(BidQueueStatsResponse::getProductId).containsExactlyInAnyOrder(1L, 2L);
+
+        // 모두 처리한 뒤에는 정리됨 (워커가 예약 플래그를 내릴 때까지 반복)
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(evictUntilEmpty()).isTrue();
+    }
+
+    private BidAdmissionQueue start(int workers, int capacity) {
+        BidAdmissionQueue admissionQueue = new BidAdmissionQueue(bidEngine, messagingTemplate, meterRegistry);
+        ReflectionTestUtils.setField(admissionQueue, "workerCount", workers);
+        ReflectionTestUtils.setField(admissionQueue, "queueCapacity", capacity);
+        admissionQueue.start();
+        return admissionQueue;
+    }
+
+    // 첫 입찰은 release 될 때까지 멈추고, 처리한 입찰 금액을 순서대로 기록
+    private void blockFirstBid(CountDownLatch done, List<Long> order) {
+        doAnswer(invocation -> {
+            BidRequest request = invocation.getArgument(1);
+            if (entered.getCount() > 0) {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            order.add(request.getBidAmount());
+            done.countDown();
+            return null;
+        }).when(bidEngine).placeBid(anyLong(), any(BidRequest.class), anyString());
+    }
+
+    // 모든 대기열의 마지막 사용 시각을 정리 기준(10분)보다 전으로 돌림
+    @SuppressWarnings("unchecked")
+    private void backdateAllLanes() {
+        Map<Long, Object> lanes = (Map<Long, Object>) ReflectionTestUtils.getField(queue, "lanes");
+        for (Object lane : lanes.values()) {
+            ReflectionTestUtils.setField(lane, "lastActivity", System.nanoTime() - TimeUnit.MINUTES.toNanos(11));
+        }
+    }
+
+    private boolean evictUntilEmpty() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            backdateAllLanes();
+            queue.evictIdleLanes();
+            if (queue.stats().isEmpty()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private BidQueueStatsResponse statsOf(Long productId) {
+        return queue.stats().stream()
+                .filter(stats -> stats.getProductId().equals(productId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static BidRequest bid(Long amount) {
+        BidRequest request = new BidRequest();
+        request.setBidAmount(amount);
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.event.PriceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidPriceFloorTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    private final BidPriceFloor floor = new BidPriceFloor(new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("확정된 가격 이하의 입찰은 미리 거절하고, 마감으로 지운 상품은 걸러내지 않는다.")
+    void check_AfterEvict_NotFiltered() {
+        // given
+        floor.onPriceChanged(new PriceChangedEvent(PRODUCT_ID, 5000L, LocalDateTime.now().plusHours(1)));
+        assertThatThrownBy(() -> floor.check(PRODUCT_ID, 5000L)).isInstanceOf(IllegalArgumentException.class);
+
+        // when
+        floor.evict(PRODUCT_ID);
+
+        // then
+        assertThatCode(() -> floor.check(PRODUCT_ID, 5000L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 지우면 커밋 후에 지워, 커밋 후 발행된 마지막 가격 갱신으로 하한선이 다시 생기지 않는다.")
+    void evict_InTransaction_AfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        floor.evict(PRODUCT_ID);
+
+        // when: 커밋 후 즉시 구매가 갱신이 먼저 반영되고, 이어서 지움
+        floor.onPriceChanged(new PriceChangedEvent(PRODUCT_ID, 50000L, LocalDateTime.now()));
+        assertThatThrownBy(() -> floor.check(PRODUCT_ID, 50000L)).isInstanceOf(IllegalArgumentException.class);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThatCode(() -> floor.check(PRODUCT_ID, 50000L)).doesNotThrowAnyException();
+    }
+}
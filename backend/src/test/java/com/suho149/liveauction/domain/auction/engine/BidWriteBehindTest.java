@@ -0,0 +1,98 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.entity.Bid;
+import com.suho149.liveauction.domain.auction.journal.BidJournal;
+import com.suho149.liveauction.domain.auction.repository.BidRepository;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.service.NotificationService;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidWriteBehindTest {
+
+    private static final LocalDateTime BID_TIME = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+    @InjectMocks
+    private BidWriteBehind writeBehind;
+
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ParticipantCounter participantCounter;
+    @Mock
+    private BidJournal bidJournal;
+    @Mock
+    private BidDeadLetter bidDeadLetter;
+
+    @Test
+    @DisplayName("조건부 UPDATE 가 반영되지 않은 상품(즉시 구매 등으로 종료)의 입찰은 저장/알림 없이 dead-letter 로 옮긴다.")
+    void persist_DivergedProduct_SkipsBidsAndNotifications() {
+        // given: 상품 1은 판매 중, 상품 2는 그 사이 즉시 구매로 종료됨
+        AcceptedBid applied = accepted(1L, 20L, 2000, 1);
+        AcceptedBid stale1 = accepted(2L, 21L, 3000, 2);
+        AcceptedBid stale2 = accepted(2L, 22L, 4000, 3);
+        when(productRepository.applyAcceptedBid(eq(1L), eq(2000L), any(), any(), eq(ProductStatus.ON_SALE))).thenReturn(1);
+        when(productRepository.applyAcceptedBid(eq(2L), eq(4000L), any(), any(), eq(ProductStatus.ON_SALE))).thenReturn(0);
+
+        // when
+        Set<Long> diverged = writeBehind.persist(List.of(applied, stale1, stale2));
+
+        // then
+        assertThat(diverged).containsExactly(2L);
+        ArgumentCaptor<Bid> saved = ArgumentCaptor.forClass(Bid.class);
+        verify(bidRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().getAmount()).isEqualTo(2000L);
+
+        verify(notificationService, times(1)).send(any(), eq(NotificationType.BID), anyString(), eq("/products/1"));
+        verify(notificationService, never()).send(any(), any(), anyString(), eq("/products/2"));
+
+        verify(bidDeadLetter).record(eq("diverged"), eq(2L), eq(21L), eq(3000L), eq(BID_TIME), any());
+        verify(bidDeadLetter).record(eq("diverged"), eq(2L), eq(22L), eq(4000L), eq(BID_TIME), any());
+        verify(participantCounter).recordAll(Map.of(1L, Set.of(20L)));
+        verify(bidJournal).markPersisted(1);
+        verify(bidJournal).markPersisted(2);
+        verify(bidJournal).markPersisted(3);
+    }
+
+    private static AcceptedBid accepted(Long productId, Long bidderId, long amount, long journalSequence) {
+        return AcceptedBid.builder()
+                .productId(productId)
+                .productName("상품" + productId)
+                .sellerId(10L)
+                .bidderId(bidderId)
+                .amount(amount)
+                .bidTime(BID_TIME)
+                .auctionEndTime(BID_TIME.plusHours(1))
+                .journalSequence(journalSequence)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProxyBidRuleTest {
+
+    private final AutoBidProxy alice = new AutoBidProxy(1L, "alice", 50000);
+    private final AutoBidProxy bob = new AutoBidProxy(2L, "bob", 30000);
+
+    @Test
+    @DisplayName("두 자동 입찰자가 경쟁하면 1순위가 2순위 한도 + 최소 증가액으로 한 번에 낙찰 후보가 된다.")
+    void resolve_TwoProxies_WinnerPaysSecondMaxPlusIncrement() {
+        // given: 일반 입찰자(3L)가 10,000원으로 선두
+        ProxyBidRule.Resolution resolution = ProxyBidRule.resolve(List.of(alice, bob), 10000, 3L, 1000);
+
+        // then
+        assertThat(resolution.getWinner().getUserId()).isEqualTo(1L);
+        assertThat(resolution.getAmount()).isEqualTo(31000);
+        assertThat(resolution.getImpliedAmounts()).containsExactly(11000L);
+    }
+
+    @Test
+    @DisplayName("최고 입찰자가 없으면 시작가 + 최소 증가액에서 출발한다.")
+    void resolve_NoBidder_StartsFromStartPrice() {
+        ProxyBidRule.Resolution resolution = ProxyBidRule.resolve(List.of(alice), 5000, null, 5000);
+
+        assertThat(resolution.getWinner().getUserId()).isEqualTo(1L);
+        assertThat(resolution.getAmount()).isEqualTo(6000);
+        assertThat(resolution.getImpliedAmounts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("1순위 한도가 2순위 한도 + 증가액보다 작으면 1순위 한도까지만 오른다.")
+    void resolve_CloseMaxAmounts_CappedAtTopMax() {
+        AutoBidProxy carol = new AutoBidProxy(4L, "carol", 49500);
+
+        ProxyBidRule.Resolution resolution = ProxyBidRule.resolve(List.of(alice, carol), 10000, 1L, 1000);
+
+        assertThat(resolution.getAmount()).isEqualTo(50000);
+    }
+
+    @Test
+    @DisplayName("1순위가 이미 선두이고 경쟁할 자동 입찰자가 없으면 결과가 없다.")
+    void resolve_TopAlreadyLeading_ReturnsNull() {
+        assertThat(ProxyBidRule.resolve(List.of(alice), 10000, 1L, 1000)).isNull();
+        assertThat(ProxyBidRule.resolve(List.of(alice, bob), 30000, 1L, 1000)).isNull();
+    }
+
+    @Test
+    @DisplayName("현재가가 1순위 한도 이상이면 자동 입찰하지 않는다.")
+    void resolve_PriceAboveTopMax_ReturnsNull() {
+        assertThat(ProxyBidRule.resolve(List.of(alice, bob), 50000, 3L, 1000)).isNull();
+    }
+}
@@ -0,0 +1,167 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.product.entity.Category;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.user.entity.User;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// place-bid.lua, sync-auction.lua, end-auction.lua 를 실제 Redis 에서 실행 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class RedisAuctionStoreTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final Long SELLER_ID = 10L;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisAuctionStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(redisTemplate.keys("auction:*"));
+        store = new RedisAuctionStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("현재가보다 높은 입찰은 수락되어 해시와 대기 목록에 반영되고, 같거나 낮은 입찰은 거절된다.")
+    void tryBid_CompareAndSet_AcceptsOnlyHigherAmount() {
+        // given
+        store.sync(product(1000, LocalDateTime.now().plusHours(1)));
+
+        // when
+        RedisBidOutcome accepted = store.tryBid(PRODUCT_ID, 20L, "입찰자A", 2000);
+        RedisBidOutcome same = store.tryBid(PRODUCT_ID, 21L, "입찰자B", 2000);
+        RedisBidOutcome seller = store.tryBid(PRODUCT_ID, SELLER_ID, "판매자", 3000);
+
+        // then
+        assertThat(accepted.getResult()).isEqualTo(RedisBidOutcome.Result.ACCEPTED);
+        assertThat(accepted.getPreviousBidderId()).isNull();
+        assertThat(same.getResult()).isEqualTo(RedisBidOutcome.Result.TOO_LOW);
+        assertThat(same.getCurrentPrice()).isEqualTo(2000);
+        assertThat(seller.getResult()).isEqualTo(RedisBidOutcome.Result.SELLER);
+
+        RedisAuctionStore.Snapshot snapshot = store.read(PRODUCT_ID);
+        assertThat(snapshot.getCurrentPrice()).isEqualTo(2000);
+        assertThat(snapshot.getHighestBidderId()).isEqualTo(20L);
+        List<String> records = store.peekAccepted(10);
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0)).startsWith("1|20||2000|");
+    }
+
+    @Test
+    @DisplayName("해시가 없으면 MISSING 을 반환하고 대기 목록에 쌓지 않는다.")
+    void tryBid_NoHash_Missing() {
+        assertThat(store.tryBid(PRODUCT_ID, 20L, "입찰자A", 2000).getResult()).isEqualTo(RedisBidOutcome.Result.MISSING);
+        assertThat(store.acceptedBacklog()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감 60초 이내의 입찰은 마감 시간을 현재 시각 + 60초로 연장하고, 그보다 이른 입찰은 연장하지 않는다.")
+    void tryBid_NearEnd_ExtendsAuction() {
+        // given
+        LocalDateTime farEnd = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MILLIS);
+        store.sync(product(1000, farEnd));
+        assertThat(store.tryBid(PRODUCT_ID, 20L, "입찰자A", 2000).getAuctionEndTime()).isEqualTo(farEnd);
+
+        store.sync(product(2000, LocalDateTime.now().plusSeconds(30)));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        RedisBidOutcome outcome = store.tryBid(PRODUCT_ID, 21L, "입찰자B", 3000);
+
+        // then
+        assertThat(outcome.getResult()).isEqualTo(RedisBidOutcome.Result.ACCEPTED);
+        assertThat(outcome.getAuctionEndTime()).isBetween(before.plusSeconds(55), LocalDateTime.now().plusSeconds(65));
+    }
+
+    @Test
+    @DisplayName("마감 시간이 지났으면 입찰을 거절한다.")
+    void tryBid_AfterEnd_Ended() {
+        store.sync(product(1000, LocalDateTime.now().minusSeconds(1)));
+
+        assertThat(store.tryBid(PRODUCT_ID, 20L, "입찰자A", 2000).getResult()).isEqualTo(RedisBidOutcome.Result.ENDED);
+        assertThat(store.acceptedBacklog()).isZero();
+    }
+
+    @Test
+    @DisplayName("경매가 종료되면 해시의 상태를 바꿔 이후 입찰을 거절하고, 해시가 없으면 만들지 않는다.")
+    void end_ChangesStatus_AndRejectsLaterBids() {
+        // given
+        store.sync(product(1000, LocalDateTime.now().plusHours(1)));
+
+        // when
+        store.end(PRODUCT_ID, ProductStatus.AUCTION_ENDED);
+        store.end(2L, ProductStatus.FAILED);
+
+        // then
+        assertThat(store.tryBid(PRODUCT_ID, 20L, "입찰자A", 2000).getResult()).isEqualTo(RedisBidOutcome.Result.ENDED);
+        assertThat(store.read(PRODUCT_ID).getCurrentPrice()).isEqualTo(1000);
+        assertThat(redisTemplate.hasKey("auction:live:2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 현재가가 DB 보다 높으면 가격은 유지하고 상태만 DB 에 맞춘다.")
+    void sync_HigherRedisPrice_KeepsPriceAndUpdatesStatus() {
+        // given
+        store.sync(product(1000, LocalDateTime.now().plusHours(1)));
+        store.tryBid(PRODUCT_ID, 20L, "입찰자A", 2000);
+        Product ended = product(1000, LocalDateTime.now().plusHours(1));
+        ended.endAuctionWithNoBidder();
+
+        // when
+        store.sync(ended);
+
+        // then
+        assertThat(store.read(PRODUCT_ID).getCurrentPrice()).isEqualTo(2000);
+        assertThat(store.tryBid(PRODUCT_ID, 21L, "입찰자B", 3000).getResult()).isEqualTo(RedisBidOutcome.Result.ENDED);
+    }
+
+    private static Product product(long currentPrice, LocalDateTime auctionEndTime) {
+        User seller = User.builder().name("판매자").email("seller@test.com").build();
+        ReflectionTestUtils.setField(seller, "id", SELLER_ID);
+        Product product = Product.builder()
+                .name("테스트 상품")
+                .description("설명")
+                .startPrice(currentPrice)
+                .category(Category.ETC)
+                .auctionEndTime(auctionEndTime)
+                .seller(seller)
+                .build();
+        ReflectionTestUtils.setField(product, "id", PRODUCT_ID);
+        return product;
+    }
+}
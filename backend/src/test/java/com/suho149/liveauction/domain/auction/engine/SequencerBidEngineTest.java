@@ -0,0 +1,174 @@
+package com.suho149.liveauction.domain.auction.engine;
+
+import com.suho149.liveauction.domain.auction.broadcast.PriceTickBroadcaster;
+import com.suho149.liveauction.domain.auction.dto.BidRequest;
+import com.suho149.liveauction.domain.auction.dto.BidResponse;
+import com.suho149.liveauction.domain.auction.event.AuctionEndedEvent;
+import com.suho149.liveauction.domain.auction.journal.BidJournal;
+import com.suho149.liveauction.domain.product.entity.Category;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.entity.ProductStatus;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SequencerBidEngineTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private AutoBidOrderBook autoBidOrderBook;
+    @Mock
+    private BidderDirectory bidderDirectory;
+    @Mock
+    private PriceTickBroadcaster priceTickBroadcaster;
+    @Mock
+    private BidWriteBehind writeBehind;
+    @Mock
+    private BidJournal bidJournal;
+
+    private SequencerBidEngine engine;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("처리 중인 입찰 뒤에 들어온 경매 종료는 그 입찰을 수락한 다음에 반영되고, 이후 입찰은 거절된다.")
+    void onAuctionEnded_QueuedBehindInFlightBid_AppliedInMailboxOrder() throws Exception {
+        // given: 첫 입찰이 메일박스 스레드에서 저널에 기록하는 중에 멈춰 있음
+        start(60_000);
+        when(productRepository.findByIdWithBidders(PRODUCT_ID)).thenReturn(Optional.of(product(1000)));
+        when(bidderDirectory.resolve("a@test.com")).thenReturn(new BidderDirectory.BidderRef(20L, "입찰자A"));
+        when(bidderDirectory.resolve("b@test.com")).thenReturn(new BidderDirectory.BidderRef(21L, "입찰자B"));
+        CountDownLatch appending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bidJournal.append(anyLong(), anyLong(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            appending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1L;
+        });
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> engine.placeBid(PRODUCT_ID, bid(2000), "a@test.com"));
+        assertThat(appending.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // when: 즉시 구매가 커밋됨
+        engine.onAuctionEnded(new AuctionEndedEvent(PRODUCT_ID, ProductStatus.AUCTION_ENDED));
+        release.countDown();
+
+        // then: 먼저 들어온 입찰은 수락되고, 종료 이후 입찰은 거절됨
+        first.get(2, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> engine.placeBid(PRODUCT_ID, bid(3000), "b@test.com"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("경매가 종료된 상품입니다.");
+        verify(writeBehind, times(1)).enqueue(any(AcceptedBid.class));
+        verify(priceTickBroadcaster, times(1)).publish(any(BidResponse.class));
+        verify(productRepository, times(1)).findByIdWithBidders(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("메일박스가 없는 상품의 경매 종료는 상태를 적재하지 않는다.")
+    void onAuctionEnded_NoMailbox_Ignored() {
+        // given
+        start(60_000);
+
+        // when
+        engine.onAuctionEnded(new AuctionEndedEvent(PRODUCT_ID, ProductStatus.FAILED));
+
+        // then
+        assertThat(engine.activeAuctionCount()).isZero();
+        verify(productRepository, never()).findByIdWithBidders(any());
+    }
+
+    @Test
+    @DisplayName("write-behind 반영에서 불일치가 감지되면 메모리 상태를 버리고 DB 에서 다시 적재한다.")
+    void flush_DivergedProduct_ReloadsStateFromDb() throws Exception {
+        // given: 첫 적재는 판매 중, 다시 적재하면 DB 에서 종료된 상태 (즉시 구매)
+        Product ended = product(5000);
+        ended.endAuctionWithWinner();
+        when(productRepository.findByIdWithBidders(PRODUCT_ID))
+                .thenReturn(Optional.of(product(1000)))
+                .thenReturn(Optional.of(ended));
+        when(bidderDirectory.resolve("a@test.com")).thenReturn(new BidderDirectory.BidderRef(20L, "입찰자A"));
+
+        // 0: 정상, 1: 불일치를 반환할 차례, 2: 불일치를 반환함 (다음 flush 는 재적재 명령을 넣은 뒤에 호출됨)
+        AtomicInteger phase = new AtomicInteger();
+        CountDownLatch resetSubmitted = new CountDownLatch(1);
+        when(writeBehind.flush()).thenAnswer(invocation -> {
+            if (phase.compareAndSet(1, 2)) {
+                return Set.of(PRODUCT_ID);
+            }
+            if (phase.get() == 2) {
+                resetSubmitted.countDown();
+            }
+            return Set.of();
+        });
+        start(20);
+        engine.placeBid(PRODUCT_ID, bid(2000), "a@test.com");
+
+        // when
+        phase.set(1);
+        assertThat(resetSubmitted.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // then: 메모리의 판매 중 상태(현재가 2000)가 아니라 DB 상태로 검증함
+        assertThatThrownBy(() -> engine.placeBid(PRODUCT_ID, bid(6000), "a@test.com"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("경매가 종료된 상품입니다.");
+        verify(productRepository, times(2)).findByIdWithBidders(PRODUCT_ID);
+    }
+
+    private void start(long flushIntervalMs) {
+        engine = new SequencerBidEngine(productRepository, autoBidOrderBook, bidderDirectory, priceTickBroadcaster,
+                writeBehind, bidJournal);
+        ReflectionTestUtils.setField(engine, "threads", 2);
+        ReflectionTestUtils.setField(engine, "acceptTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(engine, "flushIntervalMs", flushIntervalMs);
+        engine.start();
+    }
+
+    private static Product product(long currentPrice) {
+        User seller = User.builder().name("판매자").email("seller@test.com").build();
+        ReflectionTestUtils.setField(seller, "id", 10L);
+        Product product = Product.builder()
+                .name("테스트 상품")
+                .description("설명")
+                .startPrice(currentPrice)
+                .category(Category.ETC)
+                .auctionEndTime(LocalDateTime.now().plusHours(1))
+                .seller(seller)
+                .build();
+        ReflectionTestUtils.setField(product, "id", PRODUCT_ID);
+        return product;
+    }
+
+    private static BidRequest bid(long amount) {
+        BidRequest request = new BidRequest();
+        request.setBidAmount(amount);
+        return request;
+    }
+}
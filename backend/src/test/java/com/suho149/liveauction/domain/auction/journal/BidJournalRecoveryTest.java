@@ -0,0 +1,138 @@
+package com.suho149.liveauction.domain.auction.journal;
+
+import com.suho149.liveauction.domain.auction.engine.ParticipantCounter;
+import com.suho149.liveauction.domain.auction.entity.Bid;
+import com.suho149.liveauction.domain.auction.repository.BidRepository;
+import com.suho149.liveauction.domain.product.entity.Product;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.domain.user.entity.User;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidJournalRecoveryTest {
+
+    private static final LocalDateTime BID_TIME = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+    @InjectMocks
+    private BidJournalRecovery recovery;
+
+    @Mock
+    private BidJournal bidJournal;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ParticipantCounter participantCounter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("DB 에 없는 입찰만 저장하고, 복구한 시퀀스를 저장 완료로 표시한다.")
+    void recover_InsertsMissingBids_AndMarksPersisted() {
+        // given
+        Product product = mock(Product.class);
+        User highestBidder = mock(User.class);
+        when(highestBidder.getId()).thenReturn(11L);
+        when(product.getCurrentPrice()).thenReturn(2000L);
+        when(product.getHighestBidder()).thenReturn(highestBidder);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(bidJournal.recoveredRecords()).thenReturn(List.of(
+                new JournalRecord(1, 1L, 10L, 1000, BID_TIME, null), // 같은 상품의 다음 기록이 있으므로 커밋된 입찰
+                new JournalRecord(2, 1L, 11L, 2000, BID_TIME, null)));
+        when(bidRepository.existsByProductIdAndAmount(1L, 1000L)).thenReturn(true);
+        when(bidRepository.existsByProductIdAndAmount(1L, 2000L)).thenReturn(false);
+
+        // when
+        recovery.recover();
+
+        // then
+        verify(bidRepository, times(1)).save(any(Bid.class));
+        verify(bidJournal).markPersisted(1);
+        verify(bidJournal).markPersisted(2);
+        verify(bidJournal).clearRecovered();
+    }
+
+    @Test
+    @DisplayName("락 기반 입찰의 금액이 상품 현재가보다 크면 커밋되지 않은 입찰이므로 저장하지 않는다.")
+    void recover_UncommittedLockBid_Skipped() {
+        // given
+        Product product = mock(Product.class);
+        when(product.getCurrentPrice()).thenReturn(1000L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(bidJournal.recoveredRecords()).thenReturn(List.of(new JournalRecord(1, 1L, 10L, 2000, BID_TIME, null)));
+
+        // when
+        recovery.recover();
+
+        // then
+        verify(bidRepository, never()).save(any(Bid.class));
+        verify(bidJournal).markPersisted(1);
+    }
+
+    @Test
+    @DisplayName("락 기반 입찰의 금액이 이후 다른 입찰로 오른 현재가보다 낮아도, 상품의 최고 입찰과 다르면 저장하지 않는다.")
+    void recover_LockBidBelowCurrentPrice_Skipped() {
+        // given
+        Product product = mock(Product.class);
+        when(product.getCurrentPrice()).thenReturn(3000L); // 종료 후 다른 노드에서 반영된 입찰
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(bidJournal.recoveredRecords()).thenReturn(List.of(new JournalRecord(1, 1L, 10L, 2000, BID_TIME, null)));
+
+        // when
+        recovery.recover();
+
+        // then
+        verify(bidRepository, never()).save(any(Bid.class));
+        verify(bidJournal).markPersisted(1);
+    }
+
+    @Test
+    @DisplayName("복구가 일시적으로 실패하면 다시 시도한다.")
+    void recover_TransientFailure_Retries() {
+        // given
+        when(bidJournal.recoveredRecords()).thenReturn(List.of(new JournalRecord(1, 1L, 10L, 1000, BID_TIME, LocalDateTime.now())));
+        when(bidRepository.existsByProductIdAndAmount(1L, 1000L))
+                .thenThrow(new DataAccessResourceFailureException("연결 실패"))
+                .thenReturn(true);
+
+        // when
+        recovery.recover();
+
+        // then
+        verify(bidRepository, times(2)).existsByProductIdAndAmount(1L, 1000L);
+        verify(bidJournal).markPersisted(1);
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 복구에 실패하면 시작을 중단하고, 레코드는 저장 완료로 표시하지 않는다.")
+    void recover_RepeatedFailure_FailsStartup() {
+        // given
+        when(bidJournal.recoveredRecords()).thenReturn(List.of(new JournalRecord(1, 1L, 10L, 1000, BID_TIME, LocalDateTime.now())));
+        when(bidRepository.existsByProductIdAndAmount(1L, 1000L)).thenThrow(new DataAccessResourceFailureException("연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> recovery.recover()).isInstanceOf(IllegalStateException.class);
+        verify(bidRepository, times(3)).existsByProductIdAndAmount(1L, 1000L);
+        verify(bidJournal, never()).markPersisted(anyLong());
+    }
+}
@@ -0,0 +1,219 @@
+package com.suho149.liveauction.domain.auction.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BidJournalTest {
+
+    private static final LocalDateTime BID_TIME = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+    private static final LocalDateTime END_TIME = LocalDateTime.of(2025, 1, 2, 12, 0, 0);
+
+    @TempDir
+    Path dir;
+
+    private BidJournal journal;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("DB 저장이 확인되지 않은 입찰은 다시 열 때 그대로 복구 대상이 된다.")
+    void reopen_UnpersistedRecords_AreRecovered() throws Exception {
+        // given
+        journal = open(8);
+        journal.append(1L, 10L, 1000, BID_TIME, END_TIME);
+        journal.append(1L, 11L, 2000, BID_TIME, null);
+
+        // when
+        journal = reopen(8);
+
+        // then
+        List<JournalRecord> records = journal.recoveredRecords();
+        assertThat(records).extracting(JournalRecord::getSequence).containsExactly(1L, 2L);
+        assertThat(records.get(0).getBidderId()).isEqualTo(10L);
+        assertThat(records.get(0).getAmount()).isEqualTo(1000);
+        assertThat(records.get(0).getBidTime()).isEqualTo(BID_TIME);
+        assertThat(records.get(0).getAuctionEndTime()).isEqualTo(END_TIME);
+        assertThat(records.get(1).getAuctionEndTime()).isNull();
+        // 시퀀스는 이어서 발급
+        assertThat(journal.append(1L, 12L, 3000, BID_TIME, null)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 시퀀스로 새 세그먼트를 만들고, 다시 열면 모든 세그먼트를 이어 읽는다.")
+    void append_FullSegment_RollsToNextSegment() throws Exception {
+        // given
+        journal = open(4);
+        for (int i = 1; i <= 10; i++) {
+            journal.append(1L, 10L, i * 1000L, BID_TIME, null);
+        }
+
+        // then
+        assertThat(segmentFiles()).containsExactly(
+                "bids-00000000000000000001.journal",
+                "bids-00000000000000000005.journal",
+                "bids-00000000000000000009.journal");
+
+        journal = reopen(4);
+        assertThat(journal.recoveredRecords()).extracting(JournalRecord::getSequence)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(journal.append(1L, 10L, 11000, BID_TIME, null)).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("저장이 확인된 구간까지 checkpoint 를 남기고, 그 이전만 담은 세그먼트는 삭제한다.")
+    void markPersisted_AdvancesCheckpoint_AndDeletesRetiredSegments() throws Exception {
+        // given
+        journal = open(4);
+        for (int i = 1; i <= 10; i++) {
+            journal.append(1L, 10L, i * 1000L, BID_TIME, null);
+        }
+
+        // when: 1~8 저장 확인, 9~10 미확인
+        for (long sequence = 1; sequence <= 8; sequence++) {
+            journal.markPersisted(sequence);
+        }
+        journal.close();
+
+        // then
+        assertThat(segmentFiles()).containsExactly("bids-00000000000000000009.journal");
+        journal = reopen(4);
+        assertThat(journal.recoveredRecords()).extracting(JournalRecord::getSequence).containsExactly(9L, 10L);
+    }
+
+    @Test
+    @DisplayName("가운데 시퀀스가 저장되지 않았으면 checkpoint 는 그 앞에서 멈춘다.")
+    void markPersisted_GapInPersisted_CheckpointStopsBeforeGap() throws Exception {
+        // given
+        journal = open(8);
+        for (int i = 1; i <= 5; i++) {
+            journal.append(1L, 10L, i * 1000L, BID_TIME, null);
+        }
+
+        // when: 3번만 저장되지 않음
+        journal.markPersisted(1);
+        journal.markPersisted(2);
+        journal.markPersisted(4);
+        journal.markPersisted(5);
+
+        // then
+        journal = reopen(8);
+        assertThat(journal.recoveredRecords()).extracting(JournalRecord::getSequence).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("CRC 가 맞지 않는 레코드(기록 도중 종료)부터는 버리고, 그 자리부터 이어 쓴다.")
+    void reopen_TornTail_TruncatedAtCorruptRecord() throws Exception {
+        // given
+        journal = open(8);
+        journal.append(1L, 10L, 1000, BID_TIME, null);
+        journal.append(1L, 10L, 2000, BID_TIME, null);
+        journal.append(1L, 10L, 3000, BID_TIME, null);
+        journal.close();
+        journal = null;
+
+        // when: 세 번째 레코드의 금액을 CRC 갱신 없이 변경
+        corruptLong(dir.resolve("bids-00000000000000000001.journal"), 2 * BidJournal.RECORD_SIZE + 32);
+        journal = reopen(8);
+
+        // then
+        assertThat(journal.recoveredRecords()).extracting(JournalRecord::getAmount).containsExactly(1000L, 2000L);
+        assertThat(journal.append(1L, 10L, 4000, BID_TIME, null)).isEqualTo(3L);
+
+        journal = reopen(8);
+        assertThat(journal.recoveredRecords()).extracting(JournalRecord::getAmount).containsExactly(1000L, 2000L, 4000L);
+    }
+
+    @Test
+    @DisplayName("magic 이 기록되지 않은 레코드(본문만 기록된 채 종료)는 읽지 않는다.")
+    void reopen_MissingMagic_TruncatedAtRecord() throws Exception {
+        // given
+        journal = open(8);
+        journal.append(1L, 10L, 1000, BID_TIME, null);
+        journal.append(1L, 10L, 2000, BID_TIME, null);
+        journal.close();
+        journal = null;
+
+        // when
+        writeInt(dir.resolve("bids-00000000000000000001.journal"), BidJournal.RECORD_SIZE, 0);
+        journal = reopen(8);
+
+        // then
+        assertThat(journal.recoveredRecords()).extracting(JournalRecord::getSequence).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 기록하지 않고 0을 반환한다.")
+    void append_Disabled_ReturnsZero() throws Exception {
+        // given
+        journal = new BidJournal(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(journal, "enabled", false);
+        journal.open();
+
+        // when & then
+        assertThat(journal.append(1L, 10L, 1000, BID_TIME, null)).isZero();
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    private BidJournal open(int segmentRecords) throws IOException {
+        BidJournal opened = new BidJournal(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(opened, "enabled", true);
+        ReflectionTestUtils.setField(opened, "dir", dir.toString());
+        ReflectionTestUtils.setField(opened, "segmentRecords", segmentRecords);
+        // 관리 스레드가 테스트 도중 checkpoint 를 옮기지 않도록 주기를 길게 둠 (close 시 한 번 실행)
+        ReflectionTestUtils.setField(opened, "forceIntervalMs", 60_000L);
+        opened.open();
+        return opened;
+    }
+
+    private BidJournal reopen(int segmentRecords) throws Exception {
+        if (journal != null) {
+            journal.close();
+        }
+        return open(segmentRecords);
+    }
+
+    private List<String> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".journal"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void corruptLong(Path file, int offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+            channel.read(buffer, offset);
+            long value = buffer.getLong(0);
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, value + 1), offset);
+        }
+    }
+
+    private static void writeInt(Path file, int offset, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, value), offset);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.suho149.liveauction.domain.keyword.matcher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordAutomatonTest {
+
+    @Test
+    @DisplayName("본문에 포함된 모든 키워드를 한 번에 찾는다. (겹치거나 다른 키워드 안에 포함된 키워드 포함)")
+    void match_OverlappingKeywords_FindsAll() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("아이폰", "아이폰15", "폰", "맥북", "he", "she", "hers"));
+
+        BitSet matched = automaton.match("미개봉 아이폰15 프로 팝니다. ushers");
+
+        assertThat(matched.stream().boxed().toList()).containsExactly(0, 1, 2, 4, 5, 6);
+    }
+
+    @Test
+    @DisplayName("영문 키워드는 대소문자를 구분하지 않는다.")
+    void match_LatinKeyword_IgnoresCase() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of(KeywordAutomaton.normalize("iPhone"), "galaxy"));
+
+        BitSet matched = automaton.match("IPHONE 15 / Galaxy S24");
+
+        assertThat(matched.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패 링크를 따라가야 찾을 수 있는 키워드도 찾는다.")
+    void match_KeywordReachedThroughFailureLink_Found() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("삼성전자", "전자레인지"));
+
+        BitSet matched = automaton.match("삼성전자레인지");
+
+        assertThat(matched.stream().boxed().toList()).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("빈 키워드와 포함되지 않은 키워드는 찾지 않는다.")
+    void match_EmptyOrAbsentKeyword_NotFound() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("", "노트북"));
+
+        assertThat(automaton.match("태블릿 팝니다").isEmpty()).isTrue();
+        assertThat(automaton.patternCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,195 @@
+package com.suho149.liveauction.domain.notification.service;
+
+import com.suho149.liveauction.domain.notification.entity.Notification;
+import com.suho149.liveauction.domain.notification.entity.NotificationOutbox;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.event.NotificationEvent;
+import com.suho149.liveauction.domain.notification.repository.NotificationOutboxRepository;
+import com.suho149.liveauction.domain.notification.repository.NotificationRepository;
+import com.suho149.liveauction.domain.user.entity.User;
+import com.suho149.liveauction.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBatchWriterTest {
+
+    private static final String ROOM_1 = "/chat/rooms/1";
+    private static final String ROOM_2 = "/chat/rooms/2";
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new NotificationBatchWriter(notificationRepository, notificationOutboxRepository, userRepository,
+                transactionManager, new SimpleMeterRegistry());
+        for (long id = 1; id <= 2; id++) {
+            User user = user(id);
+            lenient().when(userRepository.getReferenceById(id)).thenReturn(user);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자, 같은 채팅방의 채팅 알림은 묶음 안에서 하나로 합쳐지고, 이미 읽지 않은 알림이 있으면 그 알림을 갱신한다.")
+    void write_ChatEvents_GroupedAcrossBatch() {
+        // given: 사용자 1은 채팅방 1에 읽지 않은 알림이 이미 있음
+        Notification unread = Notification.builder().user(user(1L)).type(NotificationType.CHAT).content("새로운 메시지").url(ROOM_1).build();
+        NotificationEvent toExisting1 = chat(1L, ROOM_1);
+        NotificationEvent toExisting2 = chat(1L, ROOM_1);
+        NotificationEvent toNew1 = chat(1L, ROOM_2);
+        NotificationEvent toNew2 = chat(1L, ROOM_2);
+        pending(toExisting1, toExisting2, toNew1, toNew2);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(notificationRepository.findUnreadByUserIdInAndUrlIn(anyCollection(), anyCollection())).thenReturn(List.of(unread));
+
+        // when
+        List<NotificationBatchWriter.Delivery> deliveries = writer.write(List.of(toExisting1, toExisting2, toNew1, toNew2));
+
+        // then: 기존 알림은 갱신(+2), 채팅방 2는 새 알림 하나(+1)
+        assertThat(unread.getUnreadCount()).isEqualTo(3);
+        List<Notification> created = savedNotifications();
+        assertThat(created).hasSize(1);
+        assertThat(created.get(0).getUrl()).isEqualTo(ROOM_2);
+        assertThat(created.get(0).getUnreadCount()).isEqualTo(2);
+
+        assertThat(deliveries).extracting(NotificationBatchWriter.Delivery::getEventName)
+                .containsExactly("notificationUpdate", "notification");
+        assertThat(deliveries.get(0).getResponse().getUnreadCount()).isEqualTo(3);
+        assertThat(deliveries.get(1).getResponse().getUnreadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자에게 보내는 알림은 건너뛰고, 나머지는 저장한다.")
+    void write_UnknownUser_Skipped() {
+        // given
+        NotificationEvent known = bid(1L);
+        NotificationEvent unknown = bid(2L);
+        pending(known, unknown);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        List<NotificationBatchWriter.Delivery> deliveries = writer.write(List.of(known, unknown));
+
+        // then
+        assertThat(savedNotifications()).extracting(notification -> notification.getUser().getId()).containsExactly(1L);
+        assertThat(deliveries).extracting(NotificationBatchWriter.Delivery::getUserId).containsExactly(1L);
+        verify(notificationRepository, never()).findUnreadByUserIdInAndUrlIn(anyCollection(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("바로 전달로 이미 저장된 이벤트를 릴레이가 다시 전달하면 건너뛴다.")
+    void write_AlreadyProcessedEvent_SkippedOnRelay() {
+        // given
+        NotificationEvent event = bid(1L);
+        NotificationOutbox outbox = new NotificationOutbox(event);
+        when(notificationOutboxRepository.findUnprocessedForUpdate(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.contains(outbox.getEventKey()) && outbox.getProcessedAt() == null ? List.of(outbox) : List.of();
+        });
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+
+        // when: 커밋 직후 바로 전달한 뒤, 릴레이가 아웃박스 행에서 같은 이벤트를 다시 전달
+        List<NotificationBatchWriter.Delivery> direct = writer.write(List.of(event));
+        List<NotificationBatchWriter.Delivery> relayed = writer.write(List.of(outbox.toEvent()));
+
+        // then
+        assertThat(direct).hasSize(1);
+        assertThat(relayed).isEmpty();
+        assertThat(outbox.getProcessedAt()).isNotNull();
+        verify(notificationRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("한 묶음 안에 같은 이벤트 키가 여러 번 있으면 한 번만 저장한다.")
+    void write_DuplicateKeysInBatch_SavedOnce() {
+        // given
+        NotificationEvent event = bid(1L);
+        NotificationEvent duplicate = new NotificationOutbox(event).toEvent();
+        pending(event);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        List<NotificationBatchWriter.Delivery> deliveries = writer.write(List.of(event, duplicate));
+
+        // then
+        assertThat(savedNotifications()).hasSize(1);
+        assertThat(deliveries).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("커밋 이후 호출되어도 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션으로 저장한다.")
+    void write_AlwaysRequiresNewTransaction() {
+        // given
+        NotificationEvent event = bid(1L);
+        pending(event);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        writer.write(List.of(event));
+
+        // then
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    // 주어진 이벤트들의 아웃박스 행이 아직 처리되지 않은 상태로 있음
+    private void pending(NotificationEvent... events) {
+        Map<String, NotificationEvent> byKey = Arrays.stream(events)
+                .collect(Collectors.toMap(NotificationEvent::getEventKey, Function.identity()));
+        when(notificationOutboxRepository.findUnprocessedForUpdate(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(byKey::containsKey).map(key -> new NotificationOutbox(byKey.get(key))).toList();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Notification> savedNotifications() {
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static NotificationEvent chat(Long userId, String url) {
+        return new NotificationEvent(userId, NotificationType.CHAT, "새로운 메시지", url);
+    }
+
+    private static NotificationEvent bid(Long userId) {
+        return new NotificationEvent(userId, NotificationType.BID, "상위 입찰자가 나타났습니다.", "/products/1");
+    }
+
+    private static User user(Long id) {
+        User user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(id);
+        return user;
+    }
+}
@@ -0,0 +1,131 @@
+package com.suho149.liveauction.domain.notification.service;
+
+import com.suho149.liveauction.domain.notification.dto.NotificationResponse;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.event.NotificationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationBatchWriter batchWriter;
+    @Mock
+    private SseEmitterRegistry sseEmitterRegistry;
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new NotificationDispatcher(batchWriter, sseEmitterRegistry, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "workers", 1);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 1);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 건별로 다시 저장하여, 실패한 이벤트만 빠지고 나머지는 전송된다.")
+    void deliverNow_BatchFails_FallsBackPerEvent() {
+        // given
+        NotificationEvent ok = event(1L);
+        NotificationEvent poison = event(2L);
+        NotificationBatchWriter.Delivery delivery = delivery(1L);
+        when(batchWriter.write(List.of(ok, poison))).thenThrow(new IllegalStateException("저장 실패"));
+        when(batchWriter.write(List.of(ok))).thenReturn(List.of(delivery));
+        when(batchWriter.write(List.of(poison))).thenThrow(new IllegalStateException("저장 실패"));
+
+        // when
+        dispatcher.deliverNow(List.of(ok, poison));
+
+        // then
+        verify(sseEmitterRegistry).send(1L, "notification", delivery.getResponse());
+        verify(sseEmitterRegistry, never()).send(eq(2L), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 이벤트는 작업 스레드가 저장한 뒤 SSE 로 전송한다.")
+    void dispatch_QueuedEvent_DeliveredByWorker() {
+        // given
+        NotificationEvent event = event(1L);
+        NotificationBatchWriter.Delivery delivery = delivery(1L);
+        when(batchWriter.write(List.of(event))).thenReturn(List.of(delivery));
+
+        // when
+        dispatcher.dispatch(event);
+
+        // then
+        verify(sseEmitterRegistry, timeout(2000)).send(1L, "notification", delivery.getResponse());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 이벤트를 버리지 않고 호출한 스레드에서 바로 저장하고 전송한다.")
+    void dispatch_QueueFull_DeliveredOnCallerThread() throws InterruptedException {
+        // given: 작업 스레드는 첫 이벤트를 저장하는 중에 멈춰 있고, 대기열(크기 1)에는 두 번째 이벤트가 들어 있음
+        NotificationEvent blocking = event(1L);
+        NotificationEvent queued = event(1L);
+        NotificationEvent overflow = event(1L);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(batchWriter.write(List.of(blocking))).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        CountDownLatch queuedWritten = new CountDownLatch(1);
+        when(batchWriter.write(List.of(queued))).thenAnswer(invocation -> {
+            queuedWritten.countDown();
+            return List.of();
+        });
+        NotificationBatchWriter.Delivery delivery = delivery(1L);
+        Thread caller = Thread.currentThread();
+        when(batchWriter.write(List.of(overflow))).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            return List.of(delivery);
+        });
+
+        dispatcher.dispatch(blocking);
+        assertThat(writing.await(2, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch(queued);
+
+        // when
+        dispatcher.dispatch(overflow);
+
+        // then: dispatch 가 돌아오기 전에 이미 전송됨
+        verify(sseEmitterRegistry).send(1L, "notification", delivery.getResponse());
+        // 작업 스레드가 풀려나면 대기열의 이벤트도 저장됨
+        release.countDown();
+        assertThat(queuedWritten.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static NotificationEvent event(Long userId) {
+        return new NotificationEvent(userId, NotificationType.BID, "상위 입찰자가 나타났습니다.", "/products/1");
+    }
+
+    private static NotificationBatchWriter.Delivery delivery(Long userId) {
+        return new NotificationBatchWriter.Delivery(userId, "notification", mock(NotificationResponse.class));
+    }
+}
@@ -0,0 +1,120 @@
+package com.suho149.liveauction.domain.notification.service;
+
+import com.suho149.liveauction.domain.keyword.repository.KeywordRepository;
+import com.suho149.liveauction.domain.notification.entity.NotificationOutbox;
+import com.suho149.liveauction.domain.notification.entity.NotificationType;
+import com.suho149.liveauction.domain.notification.event.NotificationEvent;
+import com.suho149.liveauction.domain.notification.repository.NotificationOutboxRepository;
+import com.suho149.liveauction.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private KeywordRepository keywordRepository;
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+    @Mock
+    private SseEmitterRegistry sseEmitterRegistry;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(keywordRepository, notificationRepository, notificationOutboxRepository,
+                eventPublisher, notificationDispatcher, sseEmitterRegistry, transactionManager, new SimpleMeterRegistry());
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션에서는 커밋 전에 같은 트랜잭션으로 아웃박스에 저장하고, 커밋된 뒤에 전달한다.")
+    void handle_ReadWriteTransaction_SavesBeforeCommit() {
+        // given
+        NotificationEvent event = event();
+
+        // when
+        notificationService.handleNotificationEvent(event);
+
+        // then
+        verify(notificationOutboxRepository).save(any(NotificationOutbox.class));
+        verify(notificationDispatcher, never()).dispatch(event);
+
+        commit();
+        verify(notificationDispatcher).dispatch(event);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션에서는 커밋 후 새 트랜잭션으로 아웃박스에 저장한 뒤 전달한다.")
+    void handle_ReadOnlyTransaction_SavesInNewTransactionAfterCommit() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        NotificationEvent event = event();
+
+        // when
+        notificationService.handleNotificationEvent(event);
+
+        // then: 커밋 전에는 INSERT 하지 않음
+        verify(notificationOutboxRepository, never()).save(any(NotificationOutbox.class));
+
+        commit();
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(notificationOutboxRepository).save(argThat(outbox -> outbox.getEventKey().equals(event.getEventKey())));
+        verify(notificationDispatcher).dispatch(event);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 전달하지 않는다.")
+    void handle_RolledBack_NotDispatched() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        notificationService.handleNotificationEvent(event());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verifyNoInteractions(notificationOutboxRepository, notificationDispatcher, transactionManager);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static NotificationEvent event() {
+        return new NotificationEvent(1L, NotificationType.BID, "상위 입찰자가 나타났습니다.", "/products/1");
+    }
+}
@@ -1,12 +1,16 @@
 package com.suho149.liveauction.domain.product.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.suho149.liveauction.domain.keyword.repository.KeywordRepository;
+import com.suho149.liveauction.domain.auction.entity.Bid;
+import com.suho149.liveauction.domain.auction.repository.BidRepository;
+import com.suho149.liveauction.domain.keyword.matcher.KeywordMatcher;
 import com.suho149.liveauction.domain.payment.service.PaymentService;
 import com.suho149.liveauction.domain.product.dto.ProductCreateRequest;
 import com.suho149.liveauction.domain.product.entity.Category;
 import com.suho149.liveauction.domain.product.entity.Product;
 import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import com.suho149.liveauction.domain.search.percolator.SavedSearchPercolator;
 import com.suho149.liveauction.domain.user.entity.Role;
 import com.suho149.liveauction.domain.user.entity.User;
 import com.suho149.liveauction.domain.user.repository.UserRepository;
@@ -26,15 +30,21 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -67,11 +77,17 @@ class ProductControllerTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private BidRepository bidRepository;
+
     @MockitoBean
     private PaymentService paymentService;
 
     @MockitoBean
-    private KeywordRepository keywordRepository;
+    private KeywordMatcher keywordMatcher;
+
+    @MockitoBean
+    private SavedSearchPercolator savedSearchPercolator;
 
     private User testUser;
 
@@ -107,7 +123,8 @@ class ProductControllerTest {
         // given
         ProductCreateRequest request = createProductCreateRequest();
 
-        when(keywordRepository.findUsersByKeywordIn(anyString())).thenReturn(List.of());
+        when(keywordMatcher.findUserIds(anyString())).thenReturn(Set.of());
+        when(savedSearchPercolator.percolate(any())).thenReturn(new HashSet<>());
 
         // UserPrincipal.create()를 사용하여 올바른 Authentication 객체 생성
         UserPrincipal userPrincipal = UserPrincipal.create(testUser);
@@ -136,6 +153,104 @@ class ProductControllerTest {
         assertThat(savedProduct.getSeller().getName()).isEqualTo(testUser.getName());
     }
 
+    @Test
+    @DisplayName("입찰 기록은 최신순으로 size 건씩 조회되고, nextCursor 로 다음 페이지를 이어서 조회한다.")
+    void getBidHistory_withCursor_shouldPageNewestFirst() throws Exception {
+        // given: 10,000 / 11,000 / 12,000 원 순서로 입찰
+        Product product = saveProductWithBids(3);
+
+        // when: 첫 페이지
+        JsonNode first = getBidHistory(product.getId(), null, 2);
+
+        // then
+        assertThat(first.get("bids")).hasSize(2);
+        assertThat(first.get("bids").get(0).get("amount").asLong()).isEqualTo(12000L);
+        assertThat(first.get("bids").get(1).get("amount").asLong()).isEqualTo(11000L);
+        assertThat(first.get("nextCursor").asLong()).isEqualTo(11000L); // 마지막 입찰의 금액
+
+        // when: 다음 페이지
+        JsonNode second = getBidHistory(product.getId(), first.get("nextCursor").asLong(), 2);
+
+        // then: 남은 한 건만 조회되고 마지막 페이지이므로 nextCursor 가 없음
+        assertThat(second.get("bids")).hasSize(1);
+        assertThat(second.get("bids").get(0).get("amount").asLong()).isEqualTo(10000L);
+        assertThat(second.path("nextCursor").isNumber()).isFalse();
+    }
+
+    @Test
+    @DisplayName("입찰 ID 순서가 수락 순서와 달라도 (여러 노드의 묶음 ID 할당) 입찰 기록은 금액 순으로 빠짐없이 조회된다.")
+    void getBidHistory_withIdsOutOfAcceptanceOrder_shouldPageByAmount() throws Exception {
+        // given: 뒤에 수락된 12,000 원 입찰이 더 작은 ID 를 받은 상황
+        Product product = saveProductWithBids(0);
+        for (long amount : new long[]{12000L, 10000L, 11000L}) {
+            bidRepository.save(Bid.builder()
+                    .product(product)
+                    .bidder(testUser)
+                    .amount(amount)
+                    .bidTime(LocalDateTime.now())
+                    .build());
+        }
+
+        // when
+        JsonNode first = getBidHistory(product.getId(), null, 2);
+        JsonNode second = getBidHistory(product.getId(), first.get("nextCursor").asLong(), 2);
+
+        // then
+        assertThat(first.get("bids").get(0).get("amount").asLong()).isEqualTo(12000L);
+        assertThat(first.get("bids").get(1).get("amount").asLong()).isEqualTo(11000L);
+        assertThat(second.get("bids")).hasSize(1);
+        assertThat(second.get("bids").get(0).get("amount").asLong()).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("입찰 기록 조회의 size 는 1 이상 200 이하로 제한된다.")
+    void getBidHistory_withOutOfRangeSize_shouldBeBounded() throws Exception {
+        // given
+        Product product = saveProductWithBids(201);
+
+        // when & then: 최대 200건
+        JsonNode tooLarge = getBidHistory(product.getId(), null, 1000);
+        assertThat(tooLarge.get("bids")).hasSize(200);
+        assertThat(tooLarge.path("nextCursor").isNumber()).isTrue();
+
+        // when & then: 최소 1건
+        JsonNode tooSmall = getBidHistory(product.getId(), null, 0);
+        assertThat(tooSmall.get("bids")).hasSize(1);
+    }
+
+    private Product saveProductWithBids(int count) {
+        Product product = productRepository.save(Product.builder()
+                .name("입찰 기록 테스트 상품")
+                .description("입찰 기록 조회용 상품입니다.")
+                .startPrice(10000L)
+                .category(Category.ETC)
+                .auctionEndTime(LocalDateTime.now().plusDays(3))
+                .seller(testUser)
+                .build());
+        List<Bid> bids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bids.add(Bid.builder()
+                    .product(product)
+                    .bidder(testUser)
+                    .amount(10000L + i * 1000L)
+                    .bidTime(LocalDateTime.now())
+                    .build());
+        }
+        bidRepository.saveAll(bids);
+        return product;
+    }
+
+    private JsonNode getBidHistory(Long productId, Long after, int size) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/v1/products/{productId}/bids", productId).param("size", String.valueOf(size));
+        if (after != null) {
+            request.param("after", String.valueOf(after));
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
     private ProductCreateRequest createProductCreateRequest() {
         ProductCreateRequest request = new ProductCreateRequest();
         request.setName("테스트 경매 상품");
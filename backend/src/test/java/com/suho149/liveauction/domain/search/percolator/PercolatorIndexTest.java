@@ -0,0 +1,66 @@
+package com.suho149.liveauction.domain.search.percolator;
+
+import com.suho149.liveauction.domain.product.entity.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PercolatorIndexTest {
+
+    private final SavedSearchEntry anyCategory = new SavedSearchEntry(1L, 10L, null, 1000L, 5000L, null);
+    private final SavedSearchEntry allCategory = new SavedSearchEntry(2L, 11L, Category.ALL, null, null, null);
+    private final SavedSearchEntry digital = new SavedSearchEntry(3L, 12L, Category.DIGITAL_DEVICE, null, 3000L, null);
+    private final SavedSearchEntry iphone = new SavedSearchEntry(4L, 13L, Category.DIGITAL_DEVICE, 2000L, null, "아이폰");
+    private final SavedSearchEntry cheapIphone = new SavedSearchEntry(5L, 14L, null, null, 1000L, "  아이폰 ");
+
+    @Test
+    @DisplayName("카테고리 조건이 없거나 ALL 인 검색은 모든 카테고리의 상품에 걸리고, 카테고리 검색은 같은 카테고리에만 걸린다.")
+    void match_CategoryBuckets() {
+        PercolatorIndex index = PercolatorIndex.build(List.of(anyCategory, allCategory, digital));
+
+        assertThat(match(index, Category.DIGITAL_DEVICE, 2000, "노트북")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(match(index, Category.ETC, 2000, "노트북")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(match(index, null, 2000, "노트북")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 본문에 키워드가 있고 가격 구간(양 끝 포함)에 들어올 때만 걸린다.")
+    void match_KeywordAndPriceBoundaries() {
+        PercolatorIndex index = PercolatorIndex.build(List.of(iphone, cheapIphone));
+
+        assertThat(match(index, Category.DIGITAL_DEVICE, 2000, "미개봉 아이폰 15")).containsExactly(4L);
+        assertThat(match(index, Category.DIGITAL_DEVICE, 1999, "미개봉 아이폰 15")).isEmpty();
+        assertThat(match(index, Category.DIGITAL_DEVICE, 1000, "미개봉 아이폰 15")).containsExactly(5L);
+        assertThat(match(index, Category.DIGITAL_DEVICE, Long.MAX_VALUE, "아이폰")).containsExactly(4L);
+        assertThat(match(index, Category.DIGITAL_DEVICE, 2000, "갤럭시 S24")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색을 뺀 목록으로 다시 만든 색인에서는 그 검색이 더 이상 걸리지 않는다.")
+    void build_WithoutRemovedEntry_NoLongerMatches() {
+        List<SavedSearchEntry> entries = new ArrayList<>(List.of(anyCategory, digital, iphone));
+        PercolatorIndex before = PercolatorIndex.build(entries);
+
+        entries.remove(iphone);
+        PercolatorIndex after = PercolatorIndex.build(entries);
+
+        assertThat(match(before, Category.DIGITAL_DEVICE, 2500, "아이폰")).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(match(after, Category.DIGITAL_DEVICE, 2500, "아이폰")).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("빈 색인은 아무것도 찾지 않는다.")
+    void match_EmptyIndex_FindsNothing() {
+        assertThat(match(PercolatorIndex.EMPTY, Category.DIGITAL_DEVICE, 1000, "아이폰")).isEmpty();
+    }
+
+    private static List<Long> match(PercolatorIndex index, Category category, long price, String text) {
+        List<Long> found = new ArrayList<>();
+        index.match(category, price, text, entry -> found.add(entry.getId()));
+        return found;
+    }
+}
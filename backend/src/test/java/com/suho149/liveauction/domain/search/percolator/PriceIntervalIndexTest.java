@@ -0,0 +1,91 @@
+package com.suho149.liveauction.domain.search.percolator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceIntervalIndexTest {
+
+    @Test
+    @DisplayName("구간의 양 끝 가격은 구간에 포함되고, 바로 바깥 가격은 포함되지 않는다.")
+    void stab_BoundaryPrices_Inclusive() {
+        PriceIntervalIndex<long[]> index = build(List.of(range(1000, 2000)));
+
+        assertThat(stab(index, 999)).isEmpty();
+        assertThat(stab(index, 1000)).hasSize(1);
+        assertThat(stab(index, 2000)).hasSize(1);
+        assertThat(stab(index, 2001)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중심 가격과 같은 가격이면 중심에 걸친 구간을 모두 찾는다.")
+    void stab_PriceEqualsCenter_FindsOverlapping() {
+        // 가운데 구간의 시작점(2000)이 중심
+        PriceIntervalIndex<long[]> index = build(List.of(range(0, 1999), range(1500, 2000), range(2000, 3000), range(2001, 4000)));
+
+        assertThat(stab(index, 2000)).containsExactlyInAnyOrder(range(1500, 2000), range(2000, 3000));
+    }
+
+    @Test
+    @DisplayName("하한이나 상한이 없는 구간(0 ~ Long.MAX_VALUE)도 찾는다.")
+    void stab_OpenEndedRanges_Found() {
+        SavedSearchEntry noMin = new SavedSearchEntry(1L, 1L, null, null, 5000L, null);
+        SavedSearchEntry noMax = new SavedSearchEntry(2L, 1L, null, 3000L, null, null);
+        SavedSearchEntry unbounded = new SavedSearchEntry(3L, 1L, null, null, null, null);
+        PriceIntervalIndex<SavedSearchEntry> index = PriceIntervalIndex.build(List.of(noMin, noMax, unbounded),
+                SavedSearchEntry::getMinPrice, SavedSearchEntry::getMaxPrice);
+
+        assertThat(ids(index, 0)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(index, 4000)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids(index, Long.MAX_VALUE)).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("빈 색인은 아무것도 찾지 않는다.")
+    void stab_EmptyIndex_FindsNothing() {
+        assertThat(stab(build(List.of()), 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임의의 구간들에 대해 모든 구간을 하나씩 확인한 결과와 같다.")
+    void stab_RandomRanges_MatchesBruteForce() {
+        Random random = new Random(42);
+        List<long[]> ranges = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long min = random.nextInt(10_000);
+            ranges.add(range(min, min + random.nextInt(3_000)));
+        }
+        PriceIntervalIndex<long[]> index = build(ranges);
+
+        for (long price = -1; price <= 13_001; price += 7) {
+            long target = price;
+            List<long[]> expected = ranges.stream().filter(r -> r[0] <= target && target <= r[1]).toList();
+            assertThat(stab(index, price)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static long[] range(long min, long max) {
+        return new long[]{min, max};
+    }
+
+    private static PriceIntervalIndex<long[]> build(List<long[]> ranges) {
+        return PriceIntervalIndex.build(ranges, r -> r[0], r -> r[1]);
+    }
+
+    private static List<long[]> stab(PriceIntervalIndex<long[]> index, long price) {
+        List<long[]> found = new ArrayList<>();
+        index.stab(price, found::add);
+        return found;
+    }
+
+    private static List<Long> ids(PriceIntervalIndex<SavedSearchEntry> index, long price) {
+        List<Long> found = new ArrayList<>();
+        index.stab(price, entry -> found.add(entry.getId()));
+        return found;
+    }
+}
@@ -0,0 +1,115 @@
+package com.suho149.liveauction.global.cache;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 두 노드가 같은 버전 키를 공유하는 상황을 실제 Redis 로 확인 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class RedisVersionedIndexTest {
+
+    private static final String VERSION_KEY = "test-index:version";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    // DB 역할을 하는 원본 목록과 노드별 적재 횟수
+    private final List<String> source = new ArrayList<>();
+    private final AtomicInteger loadsA = new AtomicInteger();
+    private final AtomicInteger loadsB = new AtomicInteger();
+
+    private RedisVersionedIndex<List<String>> nodeA;
+    private RedisVersionedIndex<List<String>> nodeB;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(VERSION_KEY);
+        source.add("아이폰");
+        nodeA = new RedisVersionedIndex<>("테스트 색인", VERSION_KEY, redisTemplate, () -> load(loadsA));
+        nodeB = new RedisVersionedIndex<>("테스트 색인", VERSION_KEY, redisTemplate, () -> load(loadsB));
+    }
+
+    @Test
+    @DisplayName("처음 읽을 때 한 번만 적재하고, 버전이 그대로면 다시 적재하지 않는다.")
+    void current_FirstRead_LoadedOnce() {
+        // when
+        List<String> first = nodeA.current();
+        List<String> second = nodeA.current();
+
+        // then
+        assertThat(first).containsExactly("아이폰");
+        assertThat(second).isSameAs(first);
+        assertThat(loadsA).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("한 노드의 변경은 그 노드에 바로 반영되고, 다른 노드는 버전이 바뀐 것을 보고 다시 적재한다.")
+    void update_OtherNodeReloads() {
+        // given
+        nodeA.current();
+        nodeB.current();
+
+        // when
+        source.add("맥북");
+        nodeA.update(current -> {
+            List<String> next = new ArrayList<>(current);
+            next.add("맥북");
+            return next;
+        });
+
+        // then
+        assertThat(nodeA.current()).containsExactly("아이폰", "맥북");
+        assertThat(loadsA).hasValue(1); // 자기 변경으로는 다시 적재하지 않음
+        assertThat(nodeB.current()).containsExactly("아이폰", "맥북");
+        assertThat(loadsB).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("적재 전의 변경은 건너뛰고, 처음 읽을 때 원본에서 함께 적재한다.")
+    void update_BeforeLoad_Skipped() {
+        // given
+        source.add("맥북");
+
+        // when
+        nodeA.update(current -> {
+            throw new IllegalStateException("적재 전에는 호출되지 않아야 합니다.");
+        });
+
+        // then
+        assertThat(nodeA.current()).containsExactly("아이폰", "맥북");
+    }
+
+    private List<String> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.copyOf(source);
+    }
+}
@@ -0,0 +1,151 @@
+package com.suho149.liveauction.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboundSessionPolicyTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final int THRESHOLD = 1000;
+
+    @Mock
+    private MessageChannel clientOutboundChannel;
+    @Mock
+    private WebSocketHandler delegate;
+    @Mock
+    private WebSocketSession rawSession;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboundSessionPolicy policy;
+    private WebSocketSession trackingSession;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        policy = new OutboundSessionPolicy(clientOutboundChannel, meterRegistry);
+        ReflectionTestUtils.setField(policy, "conflateThresholdBytes", (long) THRESHOLD);
+
+        when(rawSession.getId()).thenReturn(SESSION_ID);
+        policy.decorate(delegate).afterConnectionEstablished(rawSession);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(captor.capture());
+        trackingSession = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("소켓에 쓰는 중이고 밀린 바이트가 기준 이상이면 가격 갱신을 상품별 최신 프레임으로 묶고, 쓰기를 마치면 최신 프레임만 보낸다.")
+    void preSend_LaggingWhileWriting_ConflatedAndFlushedAfterWrite() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> write = startBlockedWrite(release);
+        Message<byte[]> notification = message("/user/queue/notifications", THRESHOLD * 2);
+        assertThat(policy.preSend(notification, clientOutboundChannel)).isSameAs(notification); // 가격 갱신이 아니면 그대로 전송
+
+        Message<byte[]> first = message("/sub/products/1", 10);
+        Message<byte[]> latest = message("/sub/products/1", 10);
+        Message<byte[]> other = message("/sub/products/2", 10);
+
+        // when
+        assertThat(policy.preSend(first, clientOutboundChannel)).isNull();
+        assertThat(policy.preSend(latest, clientOutboundChannel)).isNull();
+        assertThat(policy.preSend(other, clientOutboundChannel)).isNull();
+        verify(clientOutboundChannel, never()).send(any());
+
+        release.countDown();
+        write.get(5, TimeUnit.SECONDS);
+
+        // then
+        verify(clientOutboundChannel).send(latest);
+        verify(clientOutboundChannel).send(other);
+        verify(clientOutboundChannel, never()).send(first);
+        assertThat(meterRegistry.get("auction.websocket.outbound.frames").tag("result", "conflated").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰는 중인 프레임이 없으면 밀린 바이트가 기준 이상이어도 가격 갱신을 바로 보낸다.")
+    void preSend_NotWriting_PassedThrough() {
+        // given
+        policy.preSend(message("/user/queue/notifications", THRESHOLD * 2), clientOutboundChannel);
+        Message<byte[]> tick = message("/sub/products/1", 10);
+
+        // when
+        Message<?> result = policy.preSend(tick, clientOutboundChannel);
+
+        // then
+        assertThat(result).isSameAs(tick);
+    }
+
+    @Test
+    @DisplayName("소켓에 쓴 프레임 크기만큼 밀린 바이트가 줄어, 다 보낸 뒤에는 다시 밀린 것으로 보지 않는다.")
+    void sendMessage_WrittenBytesDrainPending() throws Exception {
+        // given
+        policy.preSend(message("/user/queue/notifications", THRESHOLD * 2), clientOutboundChannel);
+        trackingSession.sendMessage(new TextMessage("x".repeat(THRESHOLD * 2)));
+
+        // when
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> write = startBlockedWrite(release);
+        Message<byte[]> tick = message("/sub/products/1", 10);
+        Message<?> result = policy.preSend(tick, clientOutboundChannel);
+        release.countDown();
+        write.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isSameAs(tick);
+        assertThat(meterRegistry.get("auction.websocket.outbound.buffered.bytes").gauge().value()).isZero();
+    }
+
+    // 소켓 쓰기가 release 될 때까지 멈춰 있도록 하고, 쓰기가 시작된 뒤 반환
+    private CompletableFuture<Void> startBlockedWrite(CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        TextMessage blocking = new TextMessage("block");
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) == blocking) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(rawSession).sendMessage(any());
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() -> {
+            try {
+                trackingSession.sendMessage(blocking);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return write;
+    }
+
+    private static Message<byte[]> message(String destination, int size) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[size], accessor.getMessageHeaders());
+    }
+}
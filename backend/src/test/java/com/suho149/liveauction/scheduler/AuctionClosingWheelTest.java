@@ -0,0 +1,137 @@
+package com.suho149.liveauction.scheduler;
+
+import com.suho149.liveauction.domain.auction.event.PriceChangedEvent;
+import com.suho149.liveauction.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionClosingWheelTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    // System.nanoTime 기준으로 도는 휠과 System.currentTimeMillis 사이의 오차 허용
+    private static final long CLOCK_SKEW_MILLIS = 10;
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private AuctionCloser auctionCloser;
+
+    private AuctionClosingWheel wheel;
+    private final List<Long> firedAt = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("마감 시각이 속한 칸에서 마감 작업을 한 번 실행한다. (마감 전에는 실행하지 않고, 한 칸 간격 안에 실행)")
+    void schedule_FiresInDeadlineTick() throws Exception {
+        // given
+        long tickMillis = 50;
+        wheel = start(tickMillis);
+        CountDownLatch fired = recordFires(1, null);
+        LocalDateTime endTime = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(300));
+
+        // when
+        wheel.schedule(PRODUCT_ID, endTime);
+
+        // then
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = toMillis(endTime);
+        assertThat(firedAt.get(0)).isBetween(deadline - CLOCK_SKEW_MILLIS, deadline + tickMillis * 2 + 100);
+        verify(auctionCloser, times(1)).closeIfDue(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("입찰로 마감 시간이 연장되면 이전 타이머를 취소하고 새 마감 시각에 한 번만 실행한다.")
+    void onPriceChanged_Extended_Rescheduled() throws Exception {
+        // given
+        wheel = start(20);
+        CountDownLatch fired = recordFires(1, null);
+        wheel.schedule(PRODUCT_ID, LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(200)));
+
+        // when
+        LocalDateTime extended = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(600));
+        wheel.onPriceChanged(new PriceChangedEvent(PRODUCT_ID, 5000L, extended));
+
+        // then
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get(0)).isGreaterThanOrEqualTo(toMillis(extended) - CLOCK_SKEW_MILLIS);
+        Thread.sleep(200); // 취소된 이전 타이머가 뒤늦게 실행되지 않는지 확인
+        verify(auctionCloser, times(1)).closeIfDue(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("한 바퀴(512칸)보다 먼 마감은 남은 바퀴를 다 돈 뒤에 실행한다.")
+    void schedule_BeyondOneRevolution_FiresAfterRemainingRounds() throws Exception {
+        // given: 칸 간격 2ms 이면 한 바퀴가 1,024ms. 1,500ms 뒤 마감은 한 바퀴를 더 돌아야 함
+        wheel = start(2);
+        CountDownLatch fired = recordFires(1, null);
+        LocalDateTime endTime = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(1500));
+
+        // when
+        wheel.schedule(PRODUCT_ID, endTime);
+
+        // then: 남은 바퀴 수를 무시했다면 첫 바퀴(약 476ms 뒤)에 실행됨
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get(0)).isGreaterThanOrEqualTo(toMillis(endTime) - CLOCK_SKEW_MILLIS);
+    }
+
+    @Test
+    @DisplayName("마감 처리 직전에 연장된 것이 확인되면 연장된 시각으로 다시 등록한다.")
+    void fire_ExtendedWhileClosing_Rescheduled() throws Exception {
+        // given
+        wheel = start(20);
+        LocalDateTime extended = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(300));
+        CountDownLatch fired = recordFires(2, extended);
+
+        // when
+        wheel.schedule(PRODUCT_ID, LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(100)));
+
+        // then
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get(1)).isGreaterThanOrEqualTo(toMillis(extended) - CLOCK_SKEW_MILLIS);
+    }
+
+    private AuctionClosingWheel start(long tickMillis) {
+        AuctionClosingWheel closingWheel = new AuctionClosingWheel(productRepository, auctionCloser, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(closingWheel, "tickMillis", tickMillis);
+        closingWheel.start();
+        return closingWheel;
+    }
+
+    // 마감 작업이 실행된 시각을 기록. 첫 실행에서 extendedEndTime 을 돌려주면 (연장) 그 뒤로는 마감 처리(null)
+    private CountDownLatch recordFires(int expected, LocalDateTime extendedEndTime) {
+        CountDownLatch fired = new CountDownLatch(expected);
+        when(auctionCloser.closeIfDue(PRODUCT_ID)).thenAnswer(invocation -> {
+            firedAt.add(System.currentTimeMillis());
+            fired.countDown();
+            return firedAt.size() == 1 ? extendedEndTime : null;
+        });
+        return fired;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,167 @@
+package com.suho149.liveauction.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 작업 잠금의 Lua 스크립트를 실제 Redis 에서 실행 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class JobLeaseLockTest {
+
+    private static final String JOB = "test-job";
+    private static final String LOCK_KEY = "scheduler:lock:" + JOB;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private JobLeaseLock nodeA;
+    private JobLeaseLock nodeB;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(redisTemplate.keys("scheduler:*"));
+        nodeA = newLock(300);
+        nodeB = newLock(300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @Test
+    @DisplayName("잠금을 잡은 노드만 작업을 실행하고, 다른 노드는 건너뛴다.")
+    void runExclusively_WhileHeld_OtherNodeSkipped() {
+        // given
+        AtomicBoolean otherRan = new AtomicBoolean(false);
+        AtomicReference<Boolean> otherResult = new AtomicReference<>();
+
+        // when
+        boolean ran = nodeA.runExclusively(JOB, lease ->
+                otherResult.set(nodeB.runExclusively(JOB, other -> otherRan.set(true))));
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(otherResult.get()).isFalse();
+        assertThat(otherRan).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업이 lease 보다 오래 걸려도 갱신되어 잠금을 유지한다.")
+    void runExclusively_LongTask_LeaseRenewed() {
+        // given
+        AtomicReference<JobLease> held = new AtomicReference<>();
+
+        // when
+        nodeA.runExclusively(JOB, lease -> {
+            sleep(900); // lease(300ms) 의 세 배
+            held.set(lease);
+            lease.checkHeld();
+        });
+
+        // then
+        assertThat(held.get().isHeld()).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 잠금을 해제하여 다른 노드가 바로 잡을 수 있다.")
+    void runExclusively_AfterTask_Released() {
+        // given
+        nodeA.runExclusively(JOB, lease -> assertThat(redisTemplate.hasKey(LOCK_KEY)).isTrue());
+
+        // when
+        AtomicReference<Long> token = new AtomicReference<>();
+        boolean ran = nodeB.runExclusively(JOB, lease -> token.set(lease.getToken()));
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(token.get()).isEqualTo(2L); // 획득할 때마다 펜싱 토큰 증가
+        assertThat(redisTemplate.hasKey(LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("잠금이 만료되어 다른 노드가 더 큰 토큰으로 잡으면, 이전 lease 의 checkHeld 는 예외를 던진다.")
+    void checkHeld_StaleToken_Throws() {
+        // given
+        AtomicReference<JobLease> stale = new AtomicReference<>();
+        AtomicReference<JobLease> fresh = new AtomicReference<>();
+
+        // when
+        nodeA.runExclusively(JOB, lease -> {
+            stale.set(lease);
+            redisTemplate.delete(LOCK_KEY); // GC 멈춤 등으로 lease 가 만료된 상황
+            nodeB.runExclusively(JOB, fresh::set);
+        });
+
+        // then
+        assertThat(fresh.get().getToken()).isGreaterThan(stale.get().getToken());
+        assertThatThrownBy(() -> stale.get().checkHeld())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(stale.get().isHeld()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잠금이 사라지면 갱신에 실패하여 lease 를 잃은 것으로 표시한다.")
+    void renew_LockGone_MarkedLost() {
+        // given
+        AtomicBoolean heldAfterRenew = new AtomicBoolean(true);
+
+        // when
+        nodeA.runExclusively(JOB, lease -> {
+            redisTemplate.delete(LOCK_KEY);
+            sleep(400); // 갱신 주기(100ms)가 여러 번 지나도록
+            heldAfterRenew.set(lease.isHeld());
+        });
+
+        // then
+        assertThat(heldAfterRenew).isFalse();
+    }
+
+    private JobLeaseLock newLock(long leaseMillis) {
+        JobLeaseLock lock = new JobLeaseLock(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(lock, "leaseMillis", leaseMillis);
+        return lock;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -7,7 +7,7 @@ export interface Notification {
     url: string;
     isRead: boolean;
     createdAt: string;
-    type: 'BID' | 'CHAT' | 'KEYWORD';
+    type: 'BID' | 'CHAT' | 'KEYWORD' | 'SAVED_SEARCH';
     unreadCount: number;
 }
 
@@ -108,7 +108,6 @@ const ChatRoomPage = () => {
         if (newMessage.trim() && stompClient.current?.active) {
             stompClient.current.publish({
                 destination: `/pub/rooms/${roomId}/message`,
-                headers: { 'Authorization': `Bearer ${accessToken}` },
                 body: JSON.stringify({ message: newMessage }),
             });
             setNewMessage('');
@@ -46,6 +46,18 @@ interface BidResponse {
     newPrice: number;
     bidderName: string;
     auctionEndTime: string;
+    sequence?: number; // 상품별 가격 갱신 순번 (늦게 도착한 이전 상태를 무시하는 데 사용)
+}
+
+// 구독 직후 받는 경매 현재 상태 (/pub/products/{productId})
+interface AuctionSnapshot {
+    productId: number;
+    currentPrice: number;
+    highestBidderName: string;
+    auctionEndTime: string;
+    sequence: number;
+    ticks: BidResponse[]; // 마지막으로 받은 순번 이후 놓친 갱신
+    complete: boolean;
 }
 
 declare global {
@@ -252,6 +264,7 @@ const ProductDetailPage = () => {
     const [product, setProduct] = useState<ProductDetail | null>(null);
     const [bidAmount, setBidAmount] = useState<number>(0);
     const stompClient = useRef<Client | null>(null);
+    const lastBidSequence = useRef<number>(0);
     const [isConnected, setIsConnected] = useState(false);
     const { isLoggedIn, userInfo } = useAuthStore();
 
@@ -373,8 +386,11 @@ const ProductDetailPage = () => {
             connectHeaders: { Authorization: `Bearer ${token}` },
             onConnect: () => {
                 setIsConnected(true);
-                client.subscribe(`/sub/products/${productId}`, (message) => {
-                    const bidResponse: BidResponse = JSON.parse(message.body);
+                const applyTick = (bidResponse: BidResponse) => {
+                    if (bidResponse.sequence !== undefined) {
+                        if (bidResponse.sequence <= lastBidSequence.current) return;
+                        lastBidSequence.current = bidResponse.sequence;
+                    }
                     setProduct(prev => prev ? {
                         ...prev,
                         currentPrice: bidResponse.newPrice,
@@ -384,6 +400,24 @@ const ProductDetailPage = () => {
 
                     // 가격 업데이트 시, 효과 상태를 true로 변경
                     setIsPriceUpdated(true);
+                };
+                client.subscribe(`/sub/products/${productId}`, (message) => applyTick(JSON.parse(message.body)));
+
+                // 구독 직후 현재 상태를 한 번 받음. 재연결이면 마지막으로 받은 순번 이후의 갱신만 요청
+                const snapshotDestination = lastBidSequence.current > 0
+                    ? `/pub/products/${productId}/since/${lastBidSequence.current}`
+                    : `/pub/products/${productId}`;
+                const snapshotSubscription = client.subscribe(snapshotDestination, (message) => {
+                    snapshotSubscription.unsubscribe();
+                    const snapshot: AuctionSnapshot = JSON.parse(message.body);
+                    snapshot.ticks.forEach(applyTick);
+                    applyTick({
+                        productId: snapshot.productId,
+                        newPrice: snapshot.currentPrice,
+                        bidderName: snapshot.highestBidderName,
+                        auctionEndTime: snapshot.auctionEndTime,
+                        sequence: snapshot.sequence,
+                    });
                 });
                 client.subscribe('/user/queue/errors', (message) => showAlert('입찰 실패', message.body));
             },